@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.spi;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Job runner that reports when a job run finishes. The returned stage lets the scheduler track in-flight runs, measure
+ * their duration and enforce {@link ScheduledJobParameter#getExecutionTimeoutSeconds()}.
+ * <p>
+ * Plain {@link ScheduledJobRunner}s keep working, they are adapted with {@link #adapt(ScheduledJobRunner)} and a run is
+ * considered finished when {@link ScheduledJobRunner#runJob} returns.
+ */
+public interface AsyncScheduledJobRunner extends ScheduledJobRunner {
+
+    /**
+     * Starts a job run.
+     *
+     * @param job     job parameter
+     * @param context execution context of this run
+     * @return stage that completes when the run finishes, exceptionally if it fails.
+     */
+    CompletionStage<Void> runJobAsync(ScheduledJobParameter job, JobExecutionContext context);
+
+    @Override
+    default void runJob(ScheduledJobParameter job, JobExecutionContext context) {
+        runJobAsync(job, context);
+    }
+
+    /**
+     * @param runner job runner
+     * @return {@code runner} if it is already asynchronous, otherwise an adapter that runs it synchronously.
+     */
+    static AsyncScheduledJobRunner adapt(ScheduledJobRunner runner) {
+        if (runner instanceof AsyncScheduledJobRunner) {
+            return (AsyncScheduledJobRunner) runner;
+        }
+        return (job, context) -> {
+            try {
+                runner.runJob(job, context);
+                return CompletableFuture.completedFuture(null);
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        };
+    }
+}
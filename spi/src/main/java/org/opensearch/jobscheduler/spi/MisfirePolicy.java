@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.spi;
+
+/**
+ * What the scheduler does when a job's next execution time has already passed when it is rescheduled, e.g. after a long
+ * GC pause or when the node was overloaded.
+ */
+public enum MisfirePolicy {
+    /**
+     * Run the job once as soon as possible for all missed executions and continue with the schedule from then on.
+     */
+    FIRE_ONCE_NOW,
+    /**
+     * Drop all missed executions and wait for the next execution time in the future.
+     */
+    SKIP_TO_NEXT,
+    /**
+     * Run every missed execution, each with its own expected execution time, up to
+     * {@link ScheduledJobParameter#getMaxCatchUpRuns()} in a row. Executions missed beyond that are dropped.
+     */
+    CATCH_UP
+}
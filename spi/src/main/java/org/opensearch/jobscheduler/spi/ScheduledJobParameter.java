@@ -49,6 +49,42 @@ public interface ScheduledJobParameter extends ToXContentObject {
         return null;
     }
 
+    /**
+     * @return Null if job runs are not bounded in time. Otherwise seconds after which the scheduler stops waiting for a
+     * run that has not finished, counts it as timed out and cancels it if the runner returned a cancellable stage from
+     * {@link AsyncScheduledJobRunner#runJobAsync}.
+     */
+    default Long getExecutionTimeoutSeconds() {
+        return null;
+    }
+
+    /**
+     * Jobs that return false are never started while a previous run of the same job is still in flight. The node owning
+     * the job enforces this in memory, so runners do not need to take a lock through
+     * {@link org.opensearch.jobscheduler.spi.utils.LockService} on every run. The lock index is only used when ownership of
+     * the job moves to another node, with a lock of {@link #getLockDurationSeconds()}, or of
+     * {@link #getExecutionTimeoutSeconds()} if no lock duration is set, until the run of the previous owner finished.
+     *
+     * @return true if runs of the job may overlap, which is the default.
+     */
+    default boolean isConcurrentExecutionAllowed() {
+        return true;
+    }
+
+    /**
+     * @return how missed executions of the job are handled, see {@link MisfirePolicy}.
+     */
+    default MisfirePolicy getMisfirePolicy() {
+        return MisfirePolicy.FIRE_ONCE_NOW;
+    }
+
+    /**
+     * @return maximum number of missed executions run back to back with {@link MisfirePolicy#CATCH_UP}.
+     */
+    default int getMaxCatchUpRuns() {
+        return 1;
+    }
+
     /**
      * Job will be delayed randomly with range of (0, jitter)*interval for the
      * next execution time. For example, if next run is 10 minutes later, jitter
@@ -0,0 +1,357 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.spi.schedule;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Locale;
+
+/**
+ * UNIX cron expression compiled to bitsets of its minute, hour, day of month, month and day of week fields. Next and
+ * previous execution times are computed on epoch millis without allocating date objects, the zone offset in effect is
+ * cached until the next zone transition.
+ * <p>
+ * Only the plain subset of the syntax is compiled: numbers, names, lists, ranges and steps, with at least one of day of
+ * month and day of week being {@code *}. Cron flavours disagree on whether a restricted day of month and day of week
+ * are combined with AND or OR, so such expressions are left to cron-utils. Neither are executions at local times that
+ * fall into the gap or overlap of a zone transition, {@link #NO_MATCH} tells the caller to fall back to cron-utils in
+ * these cases.
+ */
+final class CompiledCron {
+    static final long NO_MATCH = Long.MIN_VALUE;
+
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final int MINUTES_PER_DAY = 1440;
+    // Feb 29 may be more than four years away across a non-leap century year
+    private static final int MAX_SEARCH_DAYS = 366 * 9;
+    private static final int MAX_TRANSITIONS = 32;
+    // zone transitions shift the offset by at most a day, local times further away from one are never in its gap or overlap
+    private static final long TRANSITION_MARGIN_MILLIS = 2 * MINUTES_PER_DAY * MINUTE_MILLIS;
+
+    private static final String[] MONTH_NAMES = { "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC" };
+    private static final String[] DAY_NAMES = { "SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT" };
+
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    private final ZoneRules rules;
+    private volatile OffsetWindow offsetWindow;
+
+    private CompiledCron(long minutes, long hours, long daysOfMonth, long months, long daysOfWeek, ZoneRules rules) {
+        this.minutes = minutes;
+        this.hours = hours;
+        this.daysOfMonth = daysOfMonth;
+        this.months = months;
+        this.daysOfWeek = daysOfWeek;
+        this.rules = rules;
+        if (rules.isFixedOffset()) {
+            this.offsetWindow = new OffsetWindow(Long.MIN_VALUE, Long.MAX_VALUE, rules.getOffset(Instant.EPOCH));
+        }
+    }
+
+    /**
+     * @param expression cron expression that was already validated by cron-utils
+     * @param timezone   time zone of the schedule
+     * @return the compiled expression, or null if it uses syntax that is not compiled
+     */
+    static CompiledCron compile(String expression, ZoneId timezone) {
+        String[] fields = expression.trim().split("\\s+");
+        if (fields.length != 5 || (!"*".equals(fields[2]) && !"*".equals(fields[4]))) {
+            return null;
+        }
+        try {
+            long daysOfWeek = parseField(fields[4], 0, 7, DAY_NAMES, 0, false);
+            if ((daysOfWeek & (1L << 7)) != 0) {
+                // 7 is Sunday as well as 0
+                daysOfWeek = (daysOfWeek & ~(1L << 7)) | 1L;
+            }
+            return new CompiledCron(
+                parseField(fields[0], 0, 59, null, 0, true),
+                parseField(fields[1], 0, 23, null, 0, true),
+                parseField(fields[2], 1, 31, null, 0, true),
+                parseField(fields[3], 1, 12, MONTH_NAMES, 1, true),
+                daysOfWeek,
+                timezone.getRules()
+            );
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long parseField(String field, int min, int max, String[] names, int firstName, boolean openEndedSteps) {
+        long bits = 0L;
+        for (String part : field.split(",", -1)) {
+            String range = part;
+            int step = 1;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = Integer.parseInt(part.substring(slash + 1));
+                range = part.substring(0, slash);
+                if (step <= 0) {
+                    throw new IllegalArgumentException("Invalid step in " + field);
+                }
+            }
+            int from;
+            int to;
+            int dash = range.indexOf('-');
+            if ("*".equals(range)) {
+                from = min;
+                to = max;
+            } else if (dash >= 0) {
+                from = value(range.substring(0, dash), names, firstName);
+                to = value(range.substring(dash + 1), names, firstName);
+            } else {
+                from = value(range, names, firstName);
+                to = slash >= 0 ? max : from;
+            }
+            if (slash >= 0 && dash < 0 && !openEndedSteps) {
+                // where the open end of a stepped day of week lies differs between cron flavours
+                throw new IllegalArgumentException("Open ended step in " + field);
+            }
+            if (from < min || to > max || from > to) {
+                throw new IllegalArgumentException("Invalid range in " + field);
+            }
+            for (int value = from; value <= to; value += step) {
+                bits |= 1L << value;
+            }
+        }
+        return bits;
+    }
+
+    private static int value(String token, String[] names, int firstName) {
+        if (names != null) {
+            String name = token.toUpperCase(Locale.ROOT);
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return i + firstName;
+                }
+            }
+        }
+        return Integer.parseInt(token);
+    }
+
+    /**
+     * @param epochMillis base time
+     * @return first execution time strictly after {@code epochMillis}, or {@link #NO_MATCH}
+     */
+    long nextExecution(long epochMillis) {
+        OffsetWindow window = this.offsetWindow(epochMillis);
+        long local = this.nextLocal(epochMillis + window.offsetMillis);
+        for (int transitions = 0; local != NO_MATCH && transitions <= MAX_TRANSITIONS; transitions++) {
+            long next = local - window.offsetMillis;
+            if (next < window.end) {
+                return this.isAmbiguous(window, local, next) ? NO_MATCH : next;
+            }
+            // The execution lies behind a zone transition. Its local time is kept in the following window unless a local
+            // time inside the gap or overlap of the transition matches, that is where cron implementations differ.
+            window = this.windowAt(window.end);
+            if (this.nextLocal(window.start - 1 + window.offsetMillis) != local) {
+                return NO_MATCH;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * @param epochMillis base time
+     * @return last execution time strictly before {@code epochMillis}, or {@link #NO_MATCH}
+     */
+    long lastExecution(long epochMillis) {
+        OffsetWindow window = this.offsetWindow(epochMillis);
+        long local = this.previousLocal(epochMillis + window.offsetMillis);
+        for (int transitions = 0; local != NO_MATCH && transitions <= MAX_TRANSITIONS; transitions++) {
+            long last = local - window.offsetMillis;
+            if (last >= window.start) {
+                return this.isAmbiguous(window, local, last) ? NO_MATCH : last;
+            }
+            if (window.start == Long.MIN_VALUE) {
+                return NO_MATCH;
+            }
+            window = this.windowAt(window.start - 1);
+            if (this.previousLocal(window.end + window.offsetMillis) != local) {
+                return NO_MATCH;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * @return true if the local time of an execution in the window is in the overlap or gap of a nearby zone transition
+     */
+    private boolean isAmbiguous(OffsetWindow window, long localMillis, long epochMillis) {
+        boolean nearTransition = (window.start != Long.MIN_VALUE && epochMillis - window.start < TRANSITION_MARGIN_MILLIS)
+            || (window.end != Long.MAX_VALUE && window.end - epochMillis <= TRANSITION_MARGIN_MILLIS);
+        if (!nearTransition) {
+            return false;
+        }
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L), 0, ZoneOffset.UTC);
+        return this.rules.getValidOffsets(dateTime).size() != 1;
+    }
+
+    private long nextLocal(long localMillis) {
+        long minute = Math.floorDiv(localMillis, MINUTE_MILLIS) + 1;
+        long day = Math.floorDiv(minute, MINUTES_PER_DAY);
+        int minuteOfDay = (int) (minute - day * MINUTES_PER_DAY);
+        long lastDay = day + MAX_SEARCH_DAYS;
+        while (day <= lastDay) {
+            long date = civilFromDays(day);
+            int month = month(date);
+            if (!isSet(this.months, month)) {
+                day = month == 12 ? daysFromCivil(year(date) + 1, 1, 1) : daysFromCivil(year(date), month + 1, 1);
+                minuteOfDay = 0;
+                continue;
+            }
+            if (isSet(this.daysOfMonth, dayOfMonth(date)) && isSet(this.daysOfWeek, dayOfWeek(day))) {
+                int hour = nextBit(this.hours, minuteOfDay / 60);
+                int fromMinute = hour == minuteOfDay / 60 ? minuteOfDay % 60 : 0;
+                while (hour >= 0) {
+                    int minuteOfHour = nextBit(this.minutes, fromMinute);
+                    if (minuteOfHour >= 0) {
+                        return ((day * MINUTES_PER_DAY) + hour * 60L + minuteOfHour) * MINUTE_MILLIS;
+                    }
+                    hour = nextBit(this.hours, hour + 1);
+                    fromMinute = 0;
+                }
+            }
+            day++;
+            minuteOfDay = 0;
+        }
+        return NO_MATCH;
+    }
+
+    private long previousLocal(long localMillis) {
+        long minute = -Math.floorDiv(-localMillis, MINUTE_MILLIS) - 1;
+        long day = Math.floorDiv(minute, MINUTES_PER_DAY);
+        int minuteOfDay = (int) (minute - day * MINUTES_PER_DAY);
+        long firstDay = day - MAX_SEARCH_DAYS;
+        while (day >= firstDay) {
+            long date = civilFromDays(day);
+            int month = month(date);
+            if (!isSet(this.months, month)) {
+                day = daysFromCivil(year(date), month, 1) - 1;
+                minuteOfDay = MINUTES_PER_DAY - 1;
+                continue;
+            }
+            if (isSet(this.daysOfMonth, dayOfMonth(date)) && isSet(this.daysOfWeek, dayOfWeek(day))) {
+                int hour = previousBit(this.hours, minuteOfDay / 60);
+                int fromMinute = hour == minuteOfDay / 60 ? minuteOfDay % 60 : 59;
+                while (hour >= 0) {
+                    int minuteOfHour = previousBit(this.minutes, fromMinute);
+                    if (minuteOfHour >= 0) {
+                        return ((day * MINUTES_PER_DAY) + hour * 60L + minuteOfHour) * MINUTE_MILLIS;
+                    }
+                    hour = previousBit(this.hours, hour - 1);
+                    fromMinute = 59;
+                }
+            }
+            day--;
+            minuteOfDay = MINUTES_PER_DAY - 1;
+        }
+        return NO_MATCH;
+    }
+
+    private OffsetWindow offsetWindow(long epochMillis) {
+        OffsetWindow window = this.offsetWindow;
+        if (window == null || epochMillis < window.start || epochMillis >= window.end) {
+            window = this.windowAt(epochMillis);
+            this.offsetWindow = window;
+        }
+        return window;
+    }
+
+    private OffsetWindow windowAt(long epochMillis) {
+        Instant instant = Instant.ofEpochMilli(epochMillis);
+        ZoneOffset offset = this.rules.getOffset(instant);
+        ZoneOffsetTransition previous = this.rules.previousTransition(instant);
+        ZoneOffsetTransition next = this.rules.nextTransition(instant);
+        long start = previous != null && previous.getOffsetAfter().equals(offset) ? previous.toEpochSecond() * 1000L : epochMillis;
+        long end = next == null ? Long.MAX_VALUE : next.toEpochSecond() * 1000L;
+        return new OffsetWindow(start, end, offset);
+    }
+
+    private static boolean isSet(long bits, int value) {
+        return (bits & (1L << value)) != 0;
+    }
+
+    private static int nextBit(long bits, int from) {
+        if (from >= Long.SIZE) {
+            return -1;
+        }
+        long candidates = bits & (-1L << from);
+        return candidates == 0 ? -1 : Long.numberOfTrailingZeros(candidates);
+    }
+
+    private static int previousBit(long bits, int from) {
+        if (from < 0) {
+            return -1;
+        }
+        long candidates = from >= Long.SIZE - 1 ? bits : bits & ((1L << (from + 1)) - 1);
+        return candidates == 0 ? -1 : Long.SIZE - 1 - Long.numberOfLeadingZeros(candidates);
+    }
+
+    private static int dayOfWeek(long epochDay) {
+        // 1970-01-01 was a Thursday
+        return (int) Math.floorMod(epochDay + 4, 7L);
+    }
+
+    // Proleptic Gregorian calendar conversions after Howard Hinnant's days_from_civil and civil_from_days. The civil date
+    // is packed into a long as year << 9 | month << 5 | day so no object is allocated.
+
+    static long daysFromCivil(long year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400L);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    static long civilFromDays(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097L);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (year << 9) | (month << 5) | day;
+    }
+
+    static long year(long date) {
+        return date >> 9;
+    }
+
+    static int month(long date) {
+        return (int) ((date >> 5) & 0xF);
+    }
+
+    static int dayOfMonth(long date) {
+        return (int) (date & 0x1F);
+    }
+
+    private static final class OffsetWindow {
+        private final long start;
+        private final long end;
+        private final long offsetMillis;
+
+        private OffsetWindow(long start, long end, ZoneOffset offset) {
+            this.start = start;
+            this.end = end;
+            this.offsetMillis = offset.getTotalSeconds() * 1000L;
+        }
+    }
+}
@@ -27,6 +27,8 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -43,6 +45,7 @@ public class CronSchedule implements Schedule {
     private ZoneId timezone;
     private String expression;
     private ExecutionTime executionTime;
+    private CompiledCron compiledCron;
     private Clock clock;
     private Long scheduleDelay;
 
@@ -50,6 +53,7 @@ public class CronSchedule implements Schedule {
         this.expression = expression;
         this.timezone = timezone;
         this.executionTime = ExecutionTime.forCron(cronParser.parse(this.expression));
+        this.compiledCron = CompiledCron.compile(this.expression, this.timezone);
         clock = Clock.system(timezone);
     }
 
@@ -63,6 +67,7 @@ public class CronSchedule implements Schedule {
         expression = input.readString();
         scheduleDelay = input.readOptionalLong();
         executionTime = ExecutionTime.forCron(cronParser.parse(expression));
+        compiledCron = CompiledCron.compile(expression, timezone);
         clock = Clock.system(timezone);
     }
 
@@ -74,6 +79,7 @@ public class CronSchedule implements Schedule {
     @VisibleForTesting
     void setExecutionTime(ExecutionTime executionTime) {
         this.executionTime = executionTime;
+        this.compiledCron = null;
     }
 
     public ZoneId getTimeZone() {
@@ -98,16 +104,46 @@ public class CronSchedule implements Schedule {
         // should be 10:15 AM, but executionTime.nextExecution( 10:07 AM ) would return the next execution as 11 AM.
         // By subtracting the delay first, the ExecutionTime object is given the input time as 9:52 AM, it returns
         // 10:00 AM, and after adding the delay, we get the correct next execution time of 10:15 AM.
-        ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(baseTime.minusMillis(delay), this.timezone);
-        ZonedDateTime nextExecutionTime = this.executionTime.nextExecution(zonedDateTime).orElse(null);
+        Instant nextExecutionTime = this.nextExecution(baseTime.minusMillis(delay));
+        return nextExecutionTime == null ? null : nextExecutionTime.plusMillis(delay);
+    }
 
-        return nextExecutionTime == null ? null : nextExecutionTime.toInstant().plusMillis(delay);
+    @Override
+    public List<Instant> getNextExecutionTimes(Instant time, int count) {
+        if (this.compiledCron == null) {
+            return Schedule.super.getNextExecutionTimes(time, count);
+        }
+        Instant baseTime = time == null ? this.clock.instant() : time;
+        long delay = scheduleDelay == null ? 0 : scheduleDelay;
+        List<Instant> executionTimes = new ArrayList<>(count);
+        // stay on epoch millis between execution times and only go through cron-utils when the compiled cron can't answer
+        long next = baseTime.minusMillis(delay).toEpochMilli();
+        while (executionTimes.size() < count) {
+            long compiledNext = this.compiledCron.nextExecution(next);
+            if (compiledNext != CompiledCron.NO_MATCH) {
+                next = compiledNext;
+            } else {
+                Instant nextExecutionTime = this.nextExecution(Instant.ofEpochMilli(next));
+                if (nextExecutionTime == null) {
+                    break;
+                }
+                next = nextExecutionTime.toEpochMilli();
+            }
+            executionTimes.add(Instant.ofEpochMilli(next + delay));
+        }
+        return executionTimes;
     }
 
     @Override
     public Duration nextTimeToExecute() {
         long delay = scheduleDelay == null ? 0 : scheduleDelay;
         Instant now = this.clock.instant().minusMillis(delay);
+        if (this.compiledCron != null) {
+            long next = this.compiledCron.nextExecution(now.toEpochMilli());
+            if (next != CompiledCron.NO_MATCH) {
+                return Duration.between(now, Instant.ofEpochMilli(next));
+            }
+        }
         ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(now, this.timezone);
         Optional<Duration> timeToNextExecution = this.executionTime.timeToNextExecution(zonedDateTime);
         return timeToNextExecution.orElse(null);
@@ -121,17 +157,14 @@ public class CronSchedule implements Schedule {
             realStartTime = startTime;
         } else {
             Instant now = this.clock.instant();
-            Optional<ZonedDateTime> lastExecutionTime = this.executionTime.lastExecution(
-                ZonedDateTime.ofInstant(now.minusMillis(delay), this.timezone)
-            );
-            if (!lastExecutionTime.isPresent()) {
+            Instant lastExecutionTime = this.lastExecution(now.minusMillis(delay));
+            if (lastExecutionTime == null) {
                 return new Tuple<>(now, now);
             }
-            realStartTime = lastExecutionTime.get().toInstant().plusMillis(delay);
+            realStartTime = lastExecutionTime.plusMillis(delay);
         }
-        ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(realStartTime.minusMillis(delay), this.timezone);
-        ZonedDateTime newEndTime = executionTime.nextExecution(zonedDateTime).orElse(null);
-        return new Tuple<>(realStartTime, newEndTime == null ? null : newEndTime.toInstant().plusMillis(delay));
+        Instant newEndTime = this.nextExecution(realStartTime.minusMillis(delay));
+        return new Tuple<>(realStartTime, newEndTime == null ? null : newEndTime.plusMillis(delay));
     }
 
     @Override
@@ -142,15 +175,42 @@ public class CronSchedule implements Schedule {
         }
 
         Instant now = this.clock.instant().minusMillis(delay);
-        ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(now, timezone);
-        Optional<ZonedDateTime> expectedExecutionTime = this.executionTime.lastExecution(zonedDateTime);
+        Instant expectedExecutionTime = this.lastExecution(now);
 
-        if (!expectedExecutionTime.isPresent()) {
+        if (expectedExecutionTime == null) {
             return false;
         }
-        ZonedDateTime actualExecutionTime = ZonedDateTime.ofInstant(lastExecutionTime, timezone);
 
-        return ChronoUnit.SECONDS.between(expectedExecutionTime.get().plus(delay, ChronoUnit.MILLIS), actualExecutionTime) == 0L;
+        return ChronoUnit.SECONDS.between(expectedExecutionTime.plusMillis(delay), lastExecutionTime) == 0L;
+    }
+
+    /**
+     * @return first execution time strictly after {@code time} without schedule delay, null if there is none.
+     */
+    private Instant nextExecution(Instant time) {
+        if (this.compiledCron != null) {
+            // execution times are whole minutes, so dropping sub-millisecond precision does not change the result
+            long next = this.compiledCron.nextExecution(time.toEpochMilli());
+            if (next != CompiledCron.NO_MATCH) {
+                return Instant.ofEpochMilli(next);
+            }
+        }
+        return this.executionTime.nextExecution(ZonedDateTime.ofInstant(time, this.timezone)).map(ZonedDateTime::toInstant).orElse(null);
+    }
+
+    /**
+     * @return last execution time strictly before {@code time} without schedule delay, null if there is none.
+     */
+    private Instant lastExecution(Instant time) {
+        if (this.compiledCron != null) {
+            long millis = time.toEpochMilli();
+            // an execution at the truncated millisecond still lies before a time with sub-millisecond precision
+            long last = this.compiledCron.lastExecution(time.getNano() % 1_000_000 == 0 ? millis : millis + 1);
+            if (last != CompiledCron.NO_MATCH) {
+                return Instant.ofEpochMilli(last);
+            }
+        }
+        return this.executionTime.lastExecution(ZonedDateTime.ofInstant(time, this.timezone)).map(ZonedDateTime::toInstant).orElse(null);
     }
 
     @Override
@@ -23,8 +23,10 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
@@ -116,6 +118,18 @@ public class IntervalSchedule implements Schedule {
         }
     }
 
+    @Override
+    public List<Instant> getNextExecutionTimes(Instant time, int count) {
+        List<Instant> executionTimes = new ArrayList<>(count);
+        if (count > 0) {
+            Instant nextExecutionTime = getNextExecutionTime(time);
+            for (int i = 0; i < count; i++) {
+                executionTimes.add(nextExecutionTime.plusMillis(i * this.intervalInMillis));
+            }
+        }
+        return executionTimes;
+    }
+
     @Override
     public Duration nextTimeToExecute() {
         long enabledTimeEpochMillis = this.startTimeWithDelay.toEpochMilli();
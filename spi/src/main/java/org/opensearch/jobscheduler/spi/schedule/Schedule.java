@@ -14,6 +14,8 @@ import org.opensearch.core.xcontent.ToXContentObject;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 public interface Schedule extends Writeable, ToXContentObject {
     static final String DELAY_FIELD = "schedule_delay";
@@ -26,6 +28,26 @@ public interface Schedule extends Writeable, ToXContentObject {
      */
     Instant getNextExecutionTime(Instant time);
 
+    /**
+     * Gets the next {@code count} job execution times of given time parameter.
+     *
+     * @param time  base time point
+     * @param count number of execution times to return
+     * @return execution times since time parameter in ascending order, fewer than {@code count} if the schedule ends.
+     */
+    default List<Instant> getNextExecutionTimes(Instant time, int count) {
+        List<Instant> executionTimes = new ArrayList<>(count);
+        Instant nextExecutionTime = time;
+        for (int i = 0; i < count; i++) {
+            nextExecutionTime = getNextExecutionTime(nextExecutionTime);
+            if (nextExecutionTime == null) {
+                break;
+            }
+            executionTimes.add(nextExecutionTime);
+        }
+        return executionTimes;
+    }
+
     /**
      * Calculates the time duration between next execution time and now.
      *
@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.spi.schedule;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.parser.CronParser;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.Assert;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+public class CompiledCronTests extends OpenSearchTestCase {
+    private static final CronParser PARSER = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+
+    private static final String[] EXPRESSIONS = {
+        "* * * * *",
+        "*/5 * * * *",
+        "0 * * * *",
+        "30 2 * * *",
+        "0 0 1 * *",
+        "0 0 29 2 *",
+        "15,45 9-17 * * 1-5",
+        "0 12 * 6-8 0",
+        "0 0 31 * *",
+        "5 4 * * 7",
+        "0 */6 * * *",
+        "10-20/3 1 * * *",
+        "0 9 * JAN-MAR MON-FRI",
+        "59 23 31 12 *" };
+
+    private static final String[] ZONES = { "UTC", "America/Los_Angeles", "Europe/Berlin", "Asia/Kolkata", "Australia/Lord_Howe" };
+
+    public void testMatchesCronUtils() {
+        for (String expression : EXPRESSIONS) {
+            ExecutionTime executionTime = ExecutionTime.forCron(PARSER.parse(expression));
+            for (String zoneId : ZONES) {
+                ZoneId zone = ZoneId.of(zoneId);
+                CompiledCron compiledCron = CompiledCron.compile(expression, zone);
+                Assert.assertNotNull(expression, compiledCron);
+                for (int i = 0; i < 50; i++) {
+                    long base = randomLongBetween(1_500_000_000_000L, 2_500_000_000_000L);
+                    if (randomBoolean()) {
+                        base = base / 60_000L * 60_000L;
+                    }
+                    ZonedDateTime baseTime = ZonedDateTime.ofInstant(Instant.ofEpochMilli(base), zone);
+
+                    long next = compiledCron.nextExecution(base);
+                    if (next != CompiledCron.NO_MATCH) {
+                        Assert.assertEquals(
+                            expression + " in " + zoneId + " after " + baseTime,
+                            executionTime.nextExecution(baseTime).map(ZonedDateTime::toInstant).orElse(null),
+                            Instant.ofEpochMilli(next)
+                        );
+                    }
+                    long last = compiledCron.lastExecution(base);
+                    if (last != CompiledCron.NO_MATCH) {
+                        Assert.assertEquals(
+                            expression + " in " + zoneId + " before " + baseTime,
+                            executionTime.lastExecution(baseTime).map(ZonedDateTime::toInstant).orElse(null),
+                            Instant.ofEpochMilli(last)
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    public void testUnsupportedSyntaxNotCompiled() {
+        ZoneId utc = ZoneId.of("UTC");
+        // restricted day of month and day of week
+        Assert.assertNull(CompiledCron.compile("0 0 1 * 1", utc));
+        // open ended day of week step
+        Assert.assertNull(CompiledCron.compile("0 0 * * */2", utc));
+        Assert.assertNull(CompiledCron.compile("@daily", utc));
+        Assert.assertNull(CompiledCron.compile("0 0 L * *", utc));
+    }
+
+    public void testCivilConversion() {
+        for (long day = -800_000L; day < 800_000L; day += 997) {
+            long date = CompiledCron.civilFromDays(day);
+            long roundTrip = CompiledCron.daysFromCivil(CompiledCron.year(date), CompiledCron.month(date), CompiledCron.dayOfMonth(date));
+            Assert.assertEquals(day, roundTrip);
+            LocalDate expected = LocalDate.ofEpochDay(day);
+            Assert.assertEquals(expected.getYear(), CompiledCron.year(date));
+            Assert.assertEquals(expected.getMonthValue(), CompiledCron.month(date));
+            Assert.assertEquals(expected.getDayOfMonth(), CompiledCron.dayOfMonth(date));
+        }
+    }
+
+    public void testCronScheduleUsesCompiledCron() {
+        CronSchedule schedule = new CronSchedule("*/5 * * * *", ZoneId.of("Europe/Berlin"), 30_000L);
+        Instant base = Instant.parse("2024-03-30T10:57:12.345678Z");
+        Assert.assertEquals(Instant.parse("2024-03-30T11:00:30Z"), schedule.getNextExecutionTime(base));
+    }
+
+    public void testSpringForwardGap() {
+        ZoneId zone = ZoneId.of("America/Los_Angeles");
+        // 2024-03-10 02:00 local does not exist, clocks move from 01:59:59 PST to 03:00 PDT
+        Instant base = Instant.parse("2024-03-10T09:00:00Z");
+        CompiledCron inGap = CompiledCron.compile("30 2 * * *", zone);
+        Assert.assertEquals(CompiledCron.NO_MATCH, inGap.nextExecution(base.toEpochMilli()));
+        assertFallsBackToCronUtils("30 2 * * *", zone, base);
+
+        // a local time right after the gap is unambiguous and stays compiled
+        CompiledCron afterGap = CompiledCron.compile("0 3 * * *", zone);
+        Assert.assertEquals(Instant.parse("2024-03-10T10:00:00Z").toEpochMilli(), afterGap.nextExecution(base.toEpochMilli()));
+        assertFallsBackToCronUtils("0 3 * * *", zone, base);
+    }
+
+    public void testFallBackOverlap() {
+        ZoneId zone = ZoneId.of("America/Los_Angeles");
+        // 2024-11-03 01:00 to 02:00 local happens twice, first in PDT then in PST
+        CompiledCron compiledCron = CompiledCron.compile("30 1 * * *", zone);
+        Instant beforeOverlap = Instant.parse("2024-11-03T07:00:00Z");
+        Instant betweenOccurrences = Instant.parse("2024-11-03T08:45:00Z");
+        Instant afterOverlap = Instant.parse("2024-11-03T12:00:00Z");
+        Assert.assertEquals(CompiledCron.NO_MATCH, compiledCron.nextExecution(beforeOverlap.toEpochMilli()));
+        Assert.assertEquals(CompiledCron.NO_MATCH, compiledCron.nextExecution(betweenOccurrences.toEpochMilli()));
+        Assert.assertEquals(CompiledCron.NO_MATCH, compiledCron.lastExecution(afterOverlap.toEpochMilli()));
+        assertFallsBackToCronUtils("30 1 * * *", zone, beforeOverlap);
+        assertFallsBackToCronUtils("30 1 * * *", zone, betweenOccurrences);
+
+        CompiledCron everyQuarter = CompiledCron.compile("*/15 * * * *", zone);
+        Assert.assertEquals(CompiledCron.NO_MATCH, everyQuarter.nextExecution(Instant.parse("2024-11-03T08:10:00Z").toEpochMilli()));
+        // local times outside the overlap are compiled
+        Assert.assertEquals(
+            Instant.parse("2024-11-03T10:15:00Z").toEpochMilli(),
+            everyQuarter.nextExecution(Instant.parse("2024-11-03T10:10:00Z").toEpochMilli())
+        );
+    }
+
+    private static void assertFallsBackToCronUtils(String expression, ZoneId zone, Instant base) {
+        ExecutionTime executionTime = ExecutionTime.forCron(PARSER.parse(expression));
+        Assert.assertEquals(
+            executionTime.nextExecution(ZonedDateTime.ofInstant(base, zone)).map(ZonedDateTime::toInstant).orElse(null),
+            new CronSchedule(expression, zone).getNextExecutionTime(base)
+        );
+    }
+}
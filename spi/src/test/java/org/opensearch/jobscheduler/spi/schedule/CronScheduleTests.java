@@ -8,7 +8,10 @@
  */
 package org.opensearch.jobscheduler.spi.schedule;
 
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.parser.CronParser;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -26,6 +29,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
 
 public class CronScheduleTests extends OpenSearchTestCase {
@@ -55,6 +59,28 @@ public class CronScheduleTests extends OpenSearchTestCase {
         );
     }
 
+    public void testGetNextExecutionTimes() {
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        Instant base = Instant.parse("2024-03-28T12:00:00Z");
+        for (String expression : new String[] { "30 2 * * *", "*/20 * * * *", "0 0 29 2 *" }) {
+            CronSchedule schedule = new CronSchedule(expression, berlin, DELAY);
+            // cron-utils only, so the default implementation of the interface is exercised as well
+            CronSchedule reference = new CronSchedule(expression, berlin, DELAY);
+            reference.setExecutionTime(
+                ExecutionTime.forCron(new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX)).parse(expression))
+            );
+
+            List<Instant> executionTimes = schedule.getNextExecutionTimes(base, 6);
+            Assert.assertEquals(6, executionTimes.size());
+            Assert.assertEquals(reference.getNextExecutionTimes(base, 6), executionTimes);
+            Instant expected = base;
+            for (Instant executionTime : executionTimes) {
+                expected = schedule.getNextExecutionTime(expected);
+                Assert.assertEquals(expected, executionTime);
+            }
+        }
+    }
+
     public void testNextTimeToExecute() {
         Instant now = Instant.now();
         Clock testClock = Clock.fixed(now, ZoneId.systemDefault());
@@ -26,6 +26,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Locale;
 
 public class IntervalScheduleTests extends OpenSearchTestCase {
@@ -74,6 +75,21 @@ public class IntervalScheduleTests extends OpenSearchTestCase {
         );
     }
 
+    public void testGetNextExecutionTimes() {
+        for (Instant base : new Instant[] { Instant.now(), this.startTime.minus(1, ChronoUnit.HOURS) }) {
+            for (IntervalSchedule schedule : new IntervalSchedule[] { this.intervalSchedule, this.intervalScheduleDelay }) {
+                List<Instant> executionTimes = schedule.getNextExecutionTimes(base, 5);
+                Assert.assertEquals(5, executionTimes.size());
+                Instant expected = base;
+                for (Instant executionTime : executionTimes) {
+                    expected = schedule.getNextExecutionTime(expected);
+                    Assert.assertEquals(expected, executionTime);
+                }
+            }
+        }
+        Assert.assertTrue(this.intervalSchedule.getNextExecutionTimes(Instant.now(), 0).isEmpty());
+    }
+
     public void testGetPeriodStartingAt() {
         Instant now = Instant.now();
         Instant oneMinLater = now.plus(1L, ChronoUnit.MINUTES);
@@ -27,8 +27,10 @@ import org.opensearch.jobscheduler.spi.utils.LockService;
 import org.opensearch.jobscheduler.transport.PluginClient;
 import org.opensearch.jobscheduler.transport.action.GetAllLocksAction;
 import org.opensearch.jobscheduler.transport.action.GetScheduledInfoAction;
+import org.opensearch.jobscheduler.transport.action.HandoffJobsAction;
 import org.opensearch.jobscheduler.transport.action.TransportGetAllLocksAction;
 import org.opensearch.jobscheduler.transport.action.TransportGetScheduledInfoAction;
+import org.opensearch.jobscheduler.transport.action.TransportHandoffJobsAction;
 import org.opensearch.jobscheduler.scheduler.JobScheduler;
 import org.opensearch.jobscheduler.spi.JobSchedulerExtension;
 import org.opensearch.jobscheduler.spi.ScheduledJobParser;
@@ -135,7 +137,7 @@ public class JobSchedulerPlugin extends Plugin implements ActionPlugin, Extensib
         this.historyService = new JobHistoryService(pluginClient, clusterService);
         this.lockService = new LockServiceImpl(pluginClient, clusterService, historyService, statusHistoryEnabled);
         this.jobDetailsService = new JobDetailsService(client, clusterService, this.indicesToListen, this.indexToJobProviders);
-        this.scheduler = new JobScheduler(threadPool, this.lockService);
+        this.scheduler = new JobScheduler(environment.settings(), threadPool, this.lockService);
         this.sweeper = initSweeper(
             environment.settings(),
             client,
@@ -149,7 +151,7 @@ public class JobSchedulerPlugin extends Plugin implements ActionPlugin, Extensib
         clusterService.addListener(this.sweeper);
         clusterService.addLifecycleListener(this.sweeper);
 
-        return List.of(this.lockService, this.scheduler, this.jobDetailsService, this.pluginClient);
+        return List.of(this.lockService, this.scheduler, this.sweeper, this.jobDetailsService, this.pluginClient);
     }
 
     @Override
@@ -168,6 +170,20 @@ public class JobSchedulerPlugin extends Plugin implements ActionPlugin, Extensib
         settingList.add(JobSchedulerSettings.SWEEP_PERIOD);
         settingList.add(JobSchedulerSettings.JITTER_LIMIT);
         settingList.add(JobSchedulerSettings.STATUS_HISTORY);
+        settingList.add(JobSchedulerSettings.TIMER_TICK);
+        settingList.add(JobSchedulerSettings.DISPATCH_BATCH_SIZE);
+        settingList.add(JobSchedulerSettings.VIRTUAL_THREAD_JOB_TYPES);
+        settingList.add(JobSchedulerSettings.VIRTUAL_THREAD_MAX_CONCURRENCY);
+        settingList.add(JobSchedulerSettings.MISFIRE_MAX_RELEASES_PER_SECOND);
+        settingList.add(JobSchedulerSettings.JITTER_BALANCED_PLACEMENT);
+        settingList.add(JobSchedulerSettings.SWEEP_FULL_RECONCILE_PERIOD);
+        settingList.add(JobSchedulerSettings.SWEEP_WORKERS);
+        settingList.add(JobSchedulerSettings.SWEEP_TWO_PHASE);
+        settingList.add(JobSchedulerSettings.SWEEP_LOCAL_READER);
+        settingList.add(JobSchedulerSettings.SWEEP_WARM_STANDBY);
+        settingList.add(JobSchedulerSettings.SWEEP_STARTUP_PRIORITIZATION);
+        settingList.add(JobSchedulerSettings.OWNERSHIP_WEIGHT_ATTRIBUTE);
+        settingList.add(JobSchedulerSettings.DRAIN_TIMEOUT);
         return settingList;
     }
 
@@ -197,6 +213,7 @@ public class JobSchedulerPlugin extends Plugin implements ActionPlugin, Extensib
         }
         if (this.indicesToListen.contains(indexModule.getIndex().getName())) {
             indexModule.addIndexOperationListener(this.sweeper);
+            indexModule.addIndexEventListener(this.sweeper.getLocalShardReader());
             log.info("JobSweeper started listening to operations on index {}", indexModule.getIndex().getName());
         }
     }
@@ -283,12 +300,20 @@ public class JobSchedulerPlugin extends Plugin implements ActionPlugin, Extensib
 
     @Override
     public List<ActionHandler<? extends ActionRequest, ? extends ActionResponse>> getActions() {
-        List<ActionHandler<? extends ActionRequest, ? extends ActionResponse>> actions = new ArrayList<>(2);
+        List<ActionHandler<? extends ActionRequest, ? extends ActionResponse>> actions = new ArrayList<>(3);
         actions.add(new ActionHandler<>(GetScheduledInfoAction.INSTANCE, TransportGetScheduledInfoAction.class));
         actions.add(new ActionHandler<>(GetAllLocksAction.INSTANCE, TransportGetAllLocksAction.class));
+        actions.add(new ActionHandler<>(HandoffJobsAction.INSTANCE, TransportHandoffJobsAction.class));
         return actions;
     }
 
+    @Override
+    public void close() {
+        if (this.scheduler != null) {
+            this.scheduler.close();
+        }
+    }
+
     @Override
     public void assignSubject(PluginSubject pluginSubject) {
         // When security is not installed, the pluginSubject will still be assigned.
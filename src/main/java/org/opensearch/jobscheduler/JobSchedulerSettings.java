@@ -11,6 +11,10 @@ package org.opensearch.jobscheduler;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
 public class JobSchedulerSettings {
     public static final Setting<TimeValue> REQUEST_TIMEOUT = Setting.positiveTimeSetting(
         "plugins.jobscheduler.request_timeout",
@@ -40,6 +44,62 @@ public class JobSchedulerSettings {
         Setting.Property.Dynamic
     );
 
+    public static final Setting<TimeValue> SWEEP_FULL_RECONCILE_PERIOD = Setting.positiveTimeSetting(
+        "plugins.jobscheduler.sweeper.full_reconcile_period",
+        TimeValue.timeValueHours(1),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    public static final Setting<Integer> SWEEP_WORKERS = Setting.intSetting(
+        "plugins.jobscheduler.sweeper.workers",
+        4,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<Boolean> SWEEP_TWO_PHASE = Setting.boolSetting(
+        "plugins.jobscheduler.sweeper.two_phase",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    public static final Setting<Boolean> SWEEP_LOCAL_READER = Setting.boolSetting(
+        "plugins.jobscheduler.sweeper.local_reader",
+        true,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    public static final Setting<Boolean> SWEEP_WARM_STANDBY = Setting.boolSetting(
+        "plugins.jobscheduler.sweeper.warm_standby",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    public static final Setting<Boolean> SWEEP_STARTUP_PRIORITIZATION = Setting.boolSetting(
+        "plugins.jobscheduler.sweeper.startup_prioritization",
+        true,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    public static final Setting<String> OWNERSHIP_WEIGHT_ATTRIBUTE = Setting.simpleString(
+        "plugins.jobscheduler.sweeper.ownership_weight_attribute",
+        "",
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    public static final Setting<TimeValue> DRAIN_TIMEOUT = Setting.positiveTimeSetting(
+        "plugins.jobscheduler.drain_timeout",
+        TimeValue.timeValueSeconds(10),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
     public static final Setting<Integer> SWEEP_PAGE_SIZE = Setting.intSetting(
         "plugins.jobscheduler.sweeper.page_size",
         LegacyOpenDistroJobSchedulerSettings.SWEEP_PAGE_SIZE,
@@ -60,4 +120,45 @@ public class JobSchedulerSettings {
         Setting.Property.NodeScope,
         Setting.Property.Dynamic
     );
+
+    public static final Setting<TimeValue> TIMER_TICK = Setting.timeSetting(
+        "plugins.jobscheduler.timer.tick",
+        TimeValue.timeValueMillis(100),
+        TimeValue.timeValueMillis(10),
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<Integer> DISPATCH_BATCH_SIZE = Setting.intSetting(
+        "plugins.jobscheduler.dispatch.batch_size",
+        50,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<List<String>> VIRTUAL_THREAD_JOB_TYPES = Setting.listSetting(
+        "plugins.jobscheduler.virtual_threads.job_types",
+        Collections.emptyList(),
+        Function.identity(),
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<Integer> VIRTUAL_THREAD_MAX_CONCURRENCY = Setting.intSetting(
+        "plugins.jobscheduler.virtual_threads.max_concurrency",
+        1000,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<Integer> MISFIRE_MAX_RELEASES_PER_SECOND = Setting.intSetting(
+        "plugins.jobscheduler.misfire.max_releases_per_second",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<Boolean> JITTER_BALANCED_PLACEMENT = Setting.boolSetting(
+        "plugins.jobscheduler.jitter.balanced_placement",
+        false,
+        Setting.Property.NodeScope
+    );
 }
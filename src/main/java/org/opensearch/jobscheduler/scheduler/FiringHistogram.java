@@ -0,0 +1,184 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.scheduler;
+
+import org.opensearch.cluster.routing.Murmur3HashFunction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-second occupancy of the armed job timers of this node within the next {@link #HORIZON_SECONDS}, kept in a ring of
+ * counters indexed by epoch second. Timers are only counted with balanced placement, with random placement nothing reads
+ * the counters, so arming a timer does not take the histogram lock.
+ * <p>
+ * With balanced placement the jitter of a job is not random. A base offset is derived from a hash of the job id, and the
+ * seconds around it are probed in a fixed order, base first, then one second later, one earlier, two later and so on. The
+ * least occupied probe wins, ties go to the probe closest to the base. The chosen offset is kept as a fraction of the
+ * jitter window on the job, so it stays the same across reschedules.
+ * <p>
+ * The offset is only fully determined by the job id when the probed seconds are equally occupied. Once the job is placed
+ * again, on another node or after its scheduling info was recreated, it may land on a different probe, but never more
+ * than {@link #PROBES} / 2 seconds away from its base.
+ */
+public class FiringHistogram {
+    static final int HORIZON_SECONDS = 3600;
+    static final int PROBES = 8;
+
+    private final LongSupplier clockMillis;
+    private final boolean balanced;
+    private final int[] counts = new int[HORIZON_SECONDS];
+    private final long[] seconds = new long[HORIZON_SECONDS];
+    private long tracked;
+
+    public FiringHistogram(LongSupplier clockMillis, boolean balanced) {
+        this.clockMillis = clockMillis;
+        this.balanced = balanced;
+        Arrays.fill(this.seconds, JobSchedulingInfo.NO_TIME);
+    }
+
+    public boolean isBalanced() {
+        return this.balanced;
+    }
+
+    /**
+     * Picks the jitter of a job firing at {@code fireTimeMillis} within {@code [0, maxJitterMillis]}.
+     *
+     * @return jitter in millis
+     */
+    long place(JobSchedulingInfo jobInfo, long fireTimeMillis, long maxJitterMillis) {
+        if (maxJitterMillis <= 0) {
+            return 0L;
+        }
+        float fraction = jobInfo.getJitterFraction();
+        if (Float.isNaN(fraction)) {
+            fraction = this.leastOccupiedFraction(jobInfo.getJobId(), fireTimeMillis, maxJitterMillis);
+            jobInfo.setJitterFraction(fraction);
+        }
+        return (long) (fraction * maxJitterMillis);
+    }
+
+    private synchronized float leastOccupiedFraction(String jobId, long fireTimeMillis, long maxJitterMillis) {
+        long base = (long) (baseFraction(jobId) * maxJitterMillis);
+        long best = base;
+        int bestCount = Integer.MAX_VALUE;
+        for (int i = 0; i < PROBES; i++) {
+            long offset = Math.floorMod(base + probeDistance(i) * 1000L, maxJitterMillis);
+            int count = this.count(Math.floorDiv(fireTimeMillis + offset, 1000L));
+            if (count < bestCount) {
+                best = offset;
+                bestCount = count;
+            }
+        }
+        return best / (float) maxJitterMillis;
+    }
+
+    /**
+     * @return distance in seconds of probe {@code i} from the base offset, 0, 1, -1, 2, -2 and so on
+     */
+    static int probeDistance(int i) {
+        int distance = (i + 1) / 2;
+        return i % 2 == 1 ? distance : -distance;
+    }
+
+    static float baseFraction(String jobId) {
+        // splitmix64 finalizer, spreads the murmur3 hashes of job ids uniformly over [0, 1)
+        long z = Murmur3HashFunction.hash(jobId) + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z >>> 40) / (float) (1L << 24);
+    }
+
+    /**
+     * Records a timer firing at {@code fireTimeMillis}.
+     *
+     * @return the epoch second the timer was counted in, or {@link JobSchedulingInfo#NO_TIME} if it is beyond the horizon
+     *         or placement is not balanced
+     */
+    long add(long fireTimeMillis) {
+        if (!this.balanced) {
+            return JobSchedulingInfo.NO_TIME;
+        }
+        return this.track(fireTimeMillis);
+    }
+
+    private synchronized long track(long fireTimeMillis) {
+        long second = Math.floorDiv(fireTimeMillis, 1000L);
+        long nowSecond = Math.floorDiv(this.clockMillis.getAsLong(), 1000L);
+        if (second < nowSecond || second >= nowSecond + HORIZON_SECONDS) {
+            return JobSchedulingInfo.NO_TIME;
+        }
+        int slot = (int) Math.floorMod(second, (long) HORIZON_SECONDS);
+        if (this.seconds[slot] != second) {
+            this.tracked -= this.counts[slot];
+            this.seconds[slot] = second;
+            this.counts[slot] = 0;
+        }
+        this.counts[slot]++;
+        this.tracked++;
+        return second;
+    }
+
+    /**
+     * Removes a timer counted by {@link #add(long)} once it fired or was cancelled.
+     */
+    void remove(long second) {
+        if (second == JobSchedulingInfo.NO_TIME) {
+            return;
+        }
+        int slot = (int) Math.floorMod(second, (long) HORIZON_SECONDS);
+        synchronized (this) {
+            if (this.seconds[slot] == second && this.counts[slot] > 0) {
+                this.counts[slot]--;
+                this.tracked--;
+            }
+        }
+    }
+
+    synchronized int count(long second) {
+        int slot = (int) Math.floorMod(second, (long) HORIZON_SECONDS);
+        return this.seconds[slot] == second ? this.counts[slot] : 0;
+    }
+
+    /**
+     * @return firings per second over the next minute and per minute over the horizon.
+     */
+    public synchronized Map<String, Object> getStats() {
+        long nowSecond = Math.floorDiv(this.clockMillis.getAsLong(), 1000L);
+        List<Integer> nextMinute = new ArrayList<>(60);
+        List<Integer> perMinute = new ArrayList<>(HORIZON_SECONDS / 60);
+        int maxPerSecond = 0;
+        int minute = 0;
+        for (int i = 0; i < HORIZON_SECONDS; i++) {
+            int count = this.count(nowSecond + i);
+            maxPerSecond = Math.max(maxPerSecond, count);
+            if (i < 60) {
+                nextMinute.add(count);
+            }
+            minute += count;
+            if (i % 60 == 59) {
+                perMinute.add(minute);
+                minute = 0;
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("placement", this.balanced ? "balanced" : "random");
+        stats.put("horizon_seconds", HORIZON_SECONDS);
+        stats.put("tracked_firings", this.tracked);
+        stats.put("max_per_second", maxPerSecond);
+        stats.put("next_minute_per_second", nextMinute);
+        stats.put("per_minute", perMinute);
+        return stats;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.scheduler;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Hands job firings that became due together to the job scheduler thread pool in bounded batches. The timer thread
+ * submits one executor task per batch, and that task submits every firing of the batch as its own executor task. A
+ * burst of co-due jobs costs the timer thread one submission per batch, and a runner that blocks only holds its own
+ * pool thread, not the rest of its batch.
+ * <p>
+ * A {@link Firing} the executor rejects is not run, it re-arms its job for the next execution instead, so a full pool
+ * queue skips an execution but never loses the job. Other tasks of the timing wheel, such as run timeouts, are run on
+ * the submitting thread when rejected.
+ */
+public class JobDispatcher {
+    private static final Logger log = LogManager.getLogger(JobDispatcher.class);
+
+    private final int batchSize;
+    private final Supplier<Executor> executor;
+
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong jobCount = new AtomicLong();
+    private final AtomicLong rejectedJobCount = new AtomicLong();
+    private final AtomicLong totalQueueNanos = new AtomicLong();
+    private final AtomicLong totalRunNanos = new AtomicLong();
+    private final AtomicLong maxRunNanos = new AtomicLong();
+
+    /**
+     * Firing of a scheduled job.
+     */
+    public interface Firing extends Runnable {
+        /**
+         * Called instead of {@link #run()} when the executor rejected the firing. Arms the job for its next execution.
+         */
+        void rejected();
+    }
+
+    public JobDispatcher(int batchSize, Supplier<Executor> executor) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Dispatch batch size must be at least 1, got " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.executor = executor;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Splits {@code firings} into batches of at most the configured batch size and submits one executor task per batch.
+     *
+     * @param firings job firings that are due
+     */
+    public void dispatch(List<Runnable> firings) {
+        for (int from = 0; from < firings.size(); from += this.batchSize) {
+            List<Runnable> batch = firings.subList(from, Math.min(from + this.batchSize, firings.size()));
+            long submitNanos = System.nanoTime();
+            try {
+                this.executor.get().execute(() -> this.runBatch(batch, submitNanos));
+            } catch (Exception e) {
+                log.warn("Job scheduler executor rejected a batch of {} job firings", batch.size(), e);
+                batch.forEach(this::rejected);
+            }
+        }
+    }
+
+    private void runBatch(List<Runnable> batch, long submitNanos) {
+        this.batchCount.incrementAndGet();
+        this.totalQueueNanos.addAndGet(System.nanoTime() - submitNanos);
+        Executor executor = this.executor.get();
+        for (Runnable firing : batch) {
+            try {
+                executor.execute(() -> this.runFiring(firing));
+            } catch (Exception e) {
+                // one rejected firing must not prevent the rest of the batch from being submitted
+                log.warn("Job scheduler executor rejected a job firing", e);
+                this.rejected(firing);
+            }
+        }
+    }
+
+    private void rejected(Runnable task) {
+        try {
+            if (task instanceof Firing) {
+                this.rejectedJobCount.incrementAndGet();
+                ((Firing) task).rejected();
+            } else {
+                task.run();
+            }
+        } catch (Exception e) {
+            log.warn("Handling rejected job firing failed", e);
+        }
+    }
+
+    private void runFiring(Runnable firing) {
+        long startNanos = System.nanoTime();
+        try {
+            firing.run();
+        } catch (Exception e) {
+            log.warn("Job firing failed", e);
+        }
+        long runNanos = System.nanoTime() - startNanos;
+
+        this.jobCount.incrementAndGet();
+        this.totalRunNanos.addAndGet(runNanos);
+        this.maxRunNanos.accumulateAndGet(runNanos, Math::max);
+    }
+
+    /**
+     * @return dispatch counters, batch queue time and job firing timings of this node.
+     */
+    public Map<String, Object> getStats() {
+        long batches = this.batchCount.get();
+        long jobs = this.jobCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("batch_size", this.batchSize);
+        stats.put("batches", batches);
+        stats.put("jobs", jobs);
+        stats.put("rejected_jobs", this.rejectedJobCount.get());
+        stats.put("avg_batch_queue_millis", batches == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(this.totalQueueNanos.get() / batches));
+        stats.put("avg_job_run_millis", jobs == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(this.totalRunNanos.get() / jobs));
+        stats.put("max_job_run_millis", TimeUnit.NANOSECONDS.toMillis(this.maxRunNanos.get()));
+        return stats;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.scheduler;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.jobscheduler.spi.AsyncScheduledJobRunner;
+import org.opensearch.jobscheduler.spi.JobExecutionContext;
+import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
+import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
+import org.opensearch.jobscheduler.spi.utils.LockService;
+import org.opensearch.threadpool.Scheduler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Starts job runs through {@link AsyncScheduledJobRunner} and follows them until they finish. The scheduler thereby knows
+ * which jobs are still running, how long runs take, which runs overlap a previous run of the same job and which exceed
+ * {@link ScheduledJobParameter#getExecutionTimeoutSeconds()}. Timeouts are armed on the scheduler timing wheel.
+ * <p>
+ * For jobs that disallow concurrent execution the tracker also skips firings while the previous run is in flight. This
+ * only needs local state because a single node owns each job, the lock index is used only to bridge ownership moves: the
+ * previous owner holds the job lock until its in-flight run finished, and the new owner checks the lock once before its
+ * first run.
+ */
+public class JobExecutionTracker {
+    private static final Logger log = LogManager.getLogger(JobExecutionTracker.class);
+
+    private final TimingWheel timingWheel;
+    private final LockService lockService;
+    private final Supplier<Executor> executor;
+    private final LongSupplier nanoTime;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong overlapping = new AtomicLong();
+    private final AtomicLong skippedOverlapping = new AtomicLong();
+    private final AtomicLong handoffLocks = new AtomicLong();
+    private final AtomicLong handoffDeferred = new AtomicLong();
+
+    public JobExecutionTracker(TimingWheel timingWheel, LockService lockService, Supplier<Executor> executor, LongSupplier nanoTime) {
+        this.timingWheel = timingWheel;
+        this.lockService = lockService;
+        this.executor = executor;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Starts a run of the job and records it as the running execution of {@code jobInfo} until it finishes. Jobs that
+     * disallow concurrent execution are not started while their previous run is in flight.
+     *
+     * @return stage that completes when the run finishes, fails, times out or was skipped
+     */
+    public CompletionStage<Void> run(
+        JobSchedulingInfo jobInfo,
+        ScheduledJobParameter jobParameter,
+        ScheduledJobRunner jobRunner,
+        JobExecutionContext context
+    ) {
+        if (jobParameter.isConcurrentExecutionAllowed()) {
+            return this.start(jobInfo, jobParameter, jobRunner, context);
+        }
+        if (jobInfo.isRunning()) {
+            this.skippedOverlapping.incrementAndGet();
+            log.debug("Job {} is still running, skipping this run", jobInfo.getJobId());
+            return CompletableFuture.completedFuture(null);
+        }
+        Long lockDurationSeconds = handoffLockDurationSeconds(jobParameter);
+        if (!jobInfo.isHandoffPending() || this.lockService == null || lockDurationSeconds == null) {
+            return this.start(jobInfo, jobParameter, jobRunner, context);
+        }
+
+        // first run since this node took the job over, make sure the previous owner is not running it anymore
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        this.handoffLocks.incrementAndGet();
+        this.lockService.acquireLockWithId(jobInfo.getIndexName(), lockDurationSeconds, jobInfo.getJobId(), ActionListener.wrap(lock -> {
+            if (lock == null) {
+                this.handoffDeferred.incrementAndGet();
+                log.info("Job {} is still locked by its previous owner, skipping this run", jobInfo.getJobId());
+                result.complete(null);
+                return;
+            }
+            jobInfo.setHandoffPending(false);
+            this.lockService.release(
+                lock,
+                ActionListener.wrap(released -> {}, e -> log.warn("Failed to release hand-off lock of job {}", jobInfo.getJobId(), e))
+            );
+            try {
+                this.executor.get().execute(() -> this.start(jobInfo, jobParameter, jobRunner, context).whenComplete((r, e) -> {
+                    if (e == null) {
+                        result.complete(null);
+                    } else {
+                        result.completeExceptionally(e);
+                    }
+                }));
+            } catch (Exception e) {
+                log.warn("Failed to start job {} after hand-off", jobInfo.getJobId(), e);
+                result.completeExceptionally(e);
+            }
+        }, e -> {
+            this.handoffDeferred.incrementAndGet();
+            log.warn("Failed to check hand-off lock of job {}, skipping this run", jobInfo.getJobId(), e);
+            result.complete(null);
+        }));
+        return result;
+    }
+
+    /**
+     * Called when this node stops owning a job. If a run of a job that disallows concurrent execution is still in flight,
+     * the job lock is held until it finishes so the new owner does not start an overlapping run.
+     */
+    public void release(JobSchedulingInfo jobInfo) {
+        ScheduledJobParameter jobParameter = jobInfo.getJobParameter();
+        CompletableFuture<Void> execution = jobInfo.getRunningExecution();
+        if (jobParameter == null || jobParameter.isConcurrentExecutionAllowed() || execution == null || execution.isDone()) {
+            return;
+        }
+        Long lockDurationSeconds = handoffLockDurationSeconds(jobParameter);
+        if (this.lockService == null || lockDurationSeconds == null) {
+            return;
+        }
+        this.handoffLocks.incrementAndGet();
+        this.lockService.acquireLockWithId(jobInfo.getIndexName(), lockDurationSeconds, jobInfo.getJobId(), ActionListener.wrap(lock -> {
+            if (lock == null) {
+                return;
+            }
+            execution.whenComplete(
+                (r, e) -> this.lockService.release(
+                    lock,
+                    ActionListener.wrap(
+                        released -> {},
+                        releaseFailure -> log.warn("Failed to release hand-off lock of job {}", jobInfo.getJobId(), releaseFailure)
+                    )
+                )
+            );
+        }, e -> log.warn("Failed to take hand-off lock of job {}", jobInfo.getJobId(), e)));
+    }
+
+    private static Long handoffLockDurationSeconds(ScheduledJobParameter jobParameter) {
+        Long lockDurationSeconds = jobParameter.getLockDurationSeconds();
+        return lockDurationSeconds != null ? lockDurationSeconds : jobParameter.getExecutionTimeoutSeconds();
+    }
+
+    private CompletionStage<Void> start(
+        JobSchedulingInfo jobInfo,
+        ScheduledJobParameter jobParameter,
+        ScheduledJobRunner jobRunner,
+        JobExecutionContext context
+    ) {
+        CompletableFuture<Void> execution = new CompletableFuture<>();
+        CompletableFuture<Void> previous = jobInfo.getRunningExecution();
+        if (previous != null && !previous.isDone()) {
+            this.overlapping.incrementAndGet();
+            log.debug("Job {} is still running, starting an overlapping run", jobInfo.getJobId());
+        }
+        jobInfo.setRunningExecution(execution);
+        this.started.incrementAndGet();
+        this.inFlight.incrementAndGet();
+        long startNanos = this.nanoTime.getAsLong();
+
+        Long timeoutSeconds = jobParameter.getExecutionTimeoutSeconds();
+        Scheduler.ScheduledCancellable timeout = timeoutSeconds == null || timeoutSeconds <= 0
+            ? null
+            : this.timingWheel.schedule(
+                () -> execution.completeExceptionally(new TimeoutException("Job run exceeded " + timeoutSeconds + "s")),
+                TimeValue.timeValueSeconds(timeoutSeconds)
+            );
+
+        CompletionStage<Void> stage;
+        try {
+            stage = AsyncScheduledJobRunner.adapt(jobRunner).runJobAsync(jobParameter, context);
+        } catch (Exception e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        CompletionStage<Void> runnerStage = stage;
+
+        execution.whenComplete((r, e) -> {
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            jobInfo.setLastRunDurationMillis(TimeUnit.NANOSECONDS.toMillis(this.nanoTime.getAsLong() - startNanos));
+            jobInfo.clearRunningExecution(execution);
+            this.inFlight.decrementAndGet();
+            if (e == null) {
+                this.completed.incrementAndGet();
+            } else if (e instanceof TimeoutException) {
+                this.timedOut.incrementAndGet();
+                log.warn("Job {} of index {} timed out, cancelling it", jobInfo.getJobId(), jobInfo.getIndexName());
+                cancel(runnerStage);
+            } else {
+                this.failed.incrementAndGet();
+                log.warn("Job {} of index {} failed", jobInfo.getJobId(), jobInfo.getIndexName(), e);
+            }
+        });
+        runnerStage.whenComplete((r, e) -> {
+            if (e == null) {
+                execution.complete(null);
+            } else {
+                execution.completeExceptionally(e);
+            }
+        });
+        return execution;
+    }
+
+    private static void cancel(CompletionStage<Void> stage) {
+        try {
+            stage.toCompletableFuture().cancel(true);
+        } catch (UnsupportedOperationException e) {
+            // the runner's stage is not cancellable, the run is only no longer tracked
+        }
+    }
+
+    /**
+     * @return job run counters of this node.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("in_flight", this.inFlight.get());
+        stats.put("started", this.started.get());
+        stats.put("completed", this.completed.get());
+        stats.put("failed", this.failed.get());
+        stats.put("timed_out", this.timedOut.get());
+        stats.put("overlapping", this.overlapping.get());
+        stats.put("skipped_overlapping", this.skippedOverlapping.get());
+        stats.put("handoff_locks", this.handoffLocks.get());
+        stats.put("handoff_deferred", this.handoffDeferred.get());
+        return stats;
+    }
+}
@@ -9,7 +9,9 @@
 package org.opensearch.jobscheduler.scheduler;
 
 import org.opensearch.jobscheduler.JobSchedulerPlugin;
+import org.opensearch.jobscheduler.JobSchedulerSettings;
 import org.opensearch.jobscheduler.spi.JobExecutionContext;
+import org.opensearch.jobscheduler.spi.MisfirePolicy;
 import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
 import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
 import org.opensearch.jobscheduler.spi.JobDocVersion;
@@ -17,36 +19,113 @@ import org.opensearch.jobscheduler.spi.utils.LockService;
 import org.opensearch.jobscheduler.utils.VisibleForTesting;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.Randomness;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.io.Closeable;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Components that handles job scheduling/descheduling.
  */
-public class JobScheduler {
+public class JobScheduler implements Closeable {
     private static final Logger log = LogManager.getLogger(JobScheduler.class);
 
+    private static final long CONCURRENT_MAP_ENTRY_BYTES = RamUsageEstimator.alignObjectSize(
+        RamUsageEstimator.NUM_BYTES_OBJECT_HEADER + 3L * RamUsageEstimator.NUM_BYTES_OBJECT_REF + Integer.BYTES
+    ) + 2L * RamUsageEstimator.NUM_BYTES_OBJECT_REF;
+    private static final long FIRING_CLOSURE_BYTES = RamUsageEstimator.alignObjectSize(
+        RamUsageEstimator.NUM_BYTES_OBJECT_HEADER + 6L * RamUsageEstimator.NUM_BYTES_OBJECT_REF
+    );
+
+    /**
+     * Estimated scheduler heap overhead of one scheduled job: its scheduling info and registry entry, the armed timer and
+     * its firing closure, and the document version plus map entry the sweeper keeps for it. The job parameter is owned by
+     * the job type and not included, the buffer of upcoming execution times and the extras of a job are counted
+     * separately. With compressed oops this comes to about 300 bytes, of which the timer, closure, version and map
+     * entries alone take over 200.
+     */
+    static final long ESTIMATED_BYTES_PER_JOB = RamUsageEstimator.shallowSizeOfInstance(JobSchedulingInfo.class)
+        + TimingWheel.TIMER_BYTES
+        + FIRING_CLOSURE_BYTES
+        + RamUsageEstimator.shallowSizeOfInstance(JobDocVersion.class)
+        + 2 * CONCURRENT_MAP_ENTRY_BYTES;
+    /**
+     * Heap of the upcoming execution times buffered by a job whose schedule is not an interval.
+     */
+    static final long UPCOMING_BUFFER_BYTES = RamUsageEstimator.shallowSizeOfInstance(JobSchedulingInfo.UpcomingTimes.class)
+        + RamUsageEstimator.sizeOf(new long[JobSchedulingInfo.LOOKAHEAD]);
+    /**
+     * Heap of the extras of a job placed by balanced placement or catching up missed executions.
+     */
+    static final long EXTRAS_BYTES = RamUsageEstimator.shallowSizeOfInstance(JobSchedulingInfo.Extras.class);
+
     private ThreadPool threadPool;
     private ScheduledJobInfo scheduledJobInfo;
     private Clock clock;
     private final LockService lockService;
+    private final JobDispatcher dispatcher;
+    private final TimingWheel timingWheel;
+    private final Scheduler.Cancellable wheelTicker;
+    private final VirtualThreadJobExecutor virtualThreadJobExecutor;
+    private final JobExecutionTracker executionTracker;
+    private final MisfireLimiter misfireLimiter;
+    private final FiringHistogram firingHistogram;
+    private final AtomicLong inPlaceUpdates = new AtomicLong();
+    // set when the node shuts down, no timer is armed and no job is started anymore
+    private volatile boolean draining;
 
     public JobScheduler(ThreadPool threadPool, final LockService lockService) {
+        this(Settings.EMPTY, threadPool, lockService);
+    }
+
+    public JobScheduler(Settings settings, ThreadPool threadPool, final LockService lockService) {
         this.threadPool = threadPool;
         this.scheduledJobInfo = new ScheduledJobInfo();
         this.clock = Clock.systemDefaultZone();
         this.lockService = lockService;
+
+        // All job timers live in a single timing wheel instead of one ThreadPool.schedule call per job, the wheel is driven
+        // by one periodic task on the shared scheduler and hands jobs due in the same tick to the dispatcher, which submits
+        // them to the job scheduler thread pool in bounded batches.
+        TimeValue tick = JobSchedulerSettings.TIMER_TICK.get(settings);
+        this.dispatcher = new JobDispatcher(
+            JobSchedulerSettings.DISPATCH_BATCH_SIZE.get(settings),
+            () -> this.threadPool.executor(JobSchedulerPlugin.OPEN_DISTRO_JOB_SCHEDULER_THREAD_POOL_NAME)
+        );
+        this.timingWheel = new TimingWheel(tick, () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime()), this.dispatcher::dispatch);
+        this.wheelTicker = this.threadPool.scheduleWithFixedDelay(this.timingWheel::advance, tick, ThreadPool.Names.SAME);
+        this.virtualThreadJobExecutor = new VirtualThreadJobExecutor(
+            JobSchedulerSettings.VIRTUAL_THREAD_JOB_TYPES.get(settings),
+            JobSchedulerSettings.VIRTUAL_THREAD_MAX_CONCURRENCY.get(settings),
+            threadPool
+        );
+        this.executionTracker = new JobExecutionTracker(
+            this.timingWheel,
+            lockService,
+            () -> this.threadPool.executor(JobSchedulerPlugin.OPEN_DISTRO_JOB_SCHEDULER_THREAD_POOL_NAME),
+            System::nanoTime
+        );
+        this.misfireLimiter = new MisfireLimiter(JobSchedulerSettings.MISFIRE_MAX_RELEASES_PER_SECOND.get(settings));
+        this.firingHistogram = new FiringHistogram(() -> this.clock.millis(), JobSchedulerSettings.JITTER_BALANCED_PLACEMENT.get(settings));
     }
 
     @VisibleForTesting
@@ -59,6 +138,77 @@ public class JobScheduler {
         return this.scheduledJobInfo;
     }
 
+    public JobDispatcher getDispatcher() {
+        return this.dispatcher;
+    }
+
+    /**
+     * Returns the runner to schedule jobs of {@code jobType} with. Job types listed in
+     * {@link JobSchedulerSettings#VIRTUAL_THREAD_JOB_TYPES} get a runner that executes on virtual threads.
+     *
+     * @param jobType job type
+     * @param runner  runner registered for the job type
+     * @return runner to pass to {@link #schedule}
+     */
+    public ScheduledJobRunner runnerFor(String jobType, ScheduledJobRunner runner) {
+        return this.virtualThreadJobExecutor.runnerFor(jobType, runner);
+    }
+
+    public JobExecutionTracker getExecutionTracker() {
+        return this.executionTracker;
+    }
+
+    public MisfireLimiter getMisfireLimiter() {
+        return this.misfireLimiter;
+    }
+
+    public FiringHistogram getFiringHistogram() {
+        return this.firingHistogram;
+    }
+
+    public VirtualThreadJobExecutor getVirtualThreadJobExecutor() {
+        return this.virtualThreadJobExecutor;
+    }
+
+    /**
+     * @return number of scheduled jobs on this node and the estimated heap the scheduler spends on them.
+     */
+    public Map<String, Object> getMemoryStats() {
+        int jobCount = 0;
+        int upcomingBuffers = 0;
+        int extras = 0;
+        for (Map<String, JobSchedulingInfo> jobs : this.scheduledJobInfo.getJobInfoMap().values()) {
+            for (JobSchedulingInfo jobInfo : jobs.values()) {
+                jobCount++;
+                if (jobInfo.hasUpcomingBuffer()) {
+                    upcomingBuffers++;
+                }
+                if (jobInfo.hasExtras()) {
+                    extras++;
+                }
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("jobs", jobCount);
+        stats.put("armed_timers", this.timingWheel.size());
+        stats.put("estimated_bytes_per_job", ESTIMATED_BYTES_PER_JOB);
+        stats.put("upcoming_buffers", upcomingBuffers);
+        stats.put("upcoming_buffer_bytes", UPCOMING_BUFFER_BYTES);
+        stats.put("job_extras", extras);
+        stats.put("job_extras_bytes", EXTRAS_BYTES);
+        stats.put(
+            "estimated_total_bytes",
+            ESTIMATED_BYTES_PER_JOB * jobCount + UPCOMING_BUFFER_BYTES * upcomingBuffers + EXTRAS_BYTES * extras
+        );
+        stats.put("in_place_updates", this.inPlaceUpdates.get());
+        return stats;
+    }
+
+    @VisibleForTesting
+    TimingWheel getTimingWheel() {
+        return this.timingWheel;
+    }
+
     public Set<String> getScheduledJobIds(String indexName) {
         return this.scheduledJobInfo.getJobsByIndex(indexName).keySet();
     }
@@ -71,14 +221,48 @@ public class JobScheduler {
         JobDocVersion version,
         Double jitterLimit
     ) {
+        return this.schedule(indexName, docId, scheduledJobParameter, jobRunner, version, jitterLimit, null);
+    }
+
+    /**
+     * Schedules a job handed off by its previous owner. The job resumes at the execution time the previous owner expected,
+     * an execution time that passed during the hand-off is handled by the misfire policy of the job.
+     *
+     * @param expectedExecutionTime next execution time the previous owner had armed the job for
+     */
+    public boolean scheduleHandedOff(
+        String indexName,
+        String docId,
+        ScheduledJobParameter scheduledJobParameter,
+        ScheduledJobRunner jobRunner,
+        JobDocVersion version,
+        Double jitterLimit,
+        Instant expectedExecutionTime
+    ) {
+        return this.schedule(indexName, docId, scheduledJobParameter, jobRunner, version, jitterLimit, expectedExecutionTime);
+    }
+
+    private boolean schedule(
+        String indexName,
+        String docId,
+        ScheduledJobParameter scheduledJobParameter,
+        ScheduledJobRunner jobRunner,
+        JobDocVersion version,
+        Double jitterLimit,
+        Instant handedOffExecutionTime
+    ) {
+        if (this.draining) {
+            log.info("Not scheduling job id {} for index {}, the node is shutting down.", docId, indexName);
+            return false;
+        }
         log.info("Scheduling job id {} for index {} .", docId, indexName);
-        JobSchedulingInfo jobInfo;
-        synchronized (this.scheduledJobInfo.getJobsByIndex(indexName)) {
-            jobInfo = this.scheduledJobInfo.getJobInfo(indexName, docId);
-            if (jobInfo == null) {
-                jobInfo = new JobSchedulingInfo(indexName, docId, scheduledJobParameter);
-                this.scheduledJobInfo.addJob(indexName, docId, jobInfo);
-            }
+        JobSchedulingInfo jobInfo = this.scheduledJobInfo.getOrAddJob(
+            indexName,
+            docId,
+            () -> new JobSchedulingInfo(indexName, docId, scheduledJobParameter)
+        );
+        // only schedule calls for the same job serialize here, jobs of the same index never contend with each other
+        synchronized (jobInfo) {
             if (!scheduledJobParameter.isEnabled()) {
                 log.info("Job {} is disabled, do not call reSchedule.", docId);
                 jobInfo.setDescheduled(true);
@@ -88,12 +272,123 @@ public class JobScheduler {
                 return true;
             }
 
+            jobInfo.setJobParameter(scheduledJobParameter);
+            jobInfo.setJobDocVersion(version);
+            if (handedOffExecutionTime != null && jobInfo.getExpectedExecutionTimeMillis() == JobSchedulingInfo.NO_TIME) {
+                // the next execution is computed after the expected one, resume right before the handed off time
+                jobInfo.setExpectedExecutionTime(handedOffExecutionTime.minusMillis(1));
+            }
             this.reschedule(scheduledJobParameter, jobInfo, jobRunner, version, jitterLimit);
         }
 
         return true;
     }
 
+    /**
+     * Updates a scheduled job in place when the new version of its document does not change when it runs. The armed
+     * timer, the execution history and the jitter of the job are kept, the next run and every run after it use the new
+     * job parameter and document version.
+     *
+     * @return true if the job was updated in place, false if it has to be descheduled and scheduled again
+     */
+    public boolean updateInPlace(String indexName, String docId, ScheduledJobParameter jobParameter, JobDocVersion version) {
+        JobSchedulingInfo jobInfo = this.scheduledJobInfo.getJobInfo(indexName, docId);
+        if (jobInfo == null) {
+            return false;
+        }
+        synchronized (jobInfo) {
+            if (jobInfo.isDescheduled()
+                || jobInfo.getScheduledCancellable() == null
+                || !sameTiming(jobInfo.getJobParameter(), jobParameter)) {
+                return false;
+            }
+            jobInfo.setJobParameter(jobParameter);
+            jobInfo.setJobDocVersion(version);
+        }
+        this.inPlaceUpdates.incrementAndGet();
+        log.debug("Updated job id {} for index {} in place.", docId, indexName);
+        return true;
+    }
+
+    /**
+     * @return true if both job parameters run the job at the same times.
+     */
+    static boolean sameTiming(ScheduledJobParameter current, ScheduledJobParameter updated) {
+        return current != null
+            && current.isEnabled() == updated.isEnabled()
+            && Objects.equals(current.getSchedule(), updated.getSchedule())
+            && Objects.equals(current.getEnabledTime(), updated.getEnabledTime())
+            && Objects.equals(current.getJitter(), updated.getJitter());
+    }
+
+    /**
+     * Starts draining the scheduler before the node shuts down: no job is scheduled, no timer is armed and timers that
+     * fire do not start their job anymore. The armed jobs keep their expected execution time, to be handed off.
+     */
+    public void startDrain() {
+        log.info("Draining job scheduler, {} jobs stop being armed", this.scheduledJobInfo.getJobCount());
+        this.draining = true;
+    }
+
+    public boolean isDraining() {
+        return this.draining;
+    }
+
+    /**
+     * Waits for the job runs in flight on this node to finish.
+     *
+     * @return true if every run finished within the timeout
+     */
+    public boolean awaitRunningExecutions(TimeValue timeout) {
+        List<CompletableFuture<?>> running = new ArrayList<>();
+        for (Map<String, JobSchedulingInfo> jobs : this.scheduledJobInfo.getJobInfoMap().values()) {
+            for (JobSchedulingInfo jobInfo : jobs.values()) {
+                CompletableFuture<Void> execution = jobInfo.getRunningExecution();
+                if (execution != null && !execution.isDone()) {
+                    // a failed run is finished as well
+                    running.add(execution.handle((result, e) -> null));
+                }
+            }
+        }
+        if (running.isEmpty()) {
+            return true;
+        }
+        log.info("Waiting up to {} for {} running jobs to finish", timeout, running.size());
+        try {
+            CompletableFuture.allOf(running.toArray(new CompletableFuture<?>[0])).get(timeout.millis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Stops the task advancing the timing wheel, so no armed timer fires anymore, and shuts down the virtual thread
+     * executor of the job types that opted in. Runs that already started finish.
+     */
+    @Override
+    public void close() {
+        if (this.wheelTicker != null) {
+            this.wheelTicker.cancel();
+        }
+        this.virtualThreadJobExecutor.close();
+    }
+
+    /**
+     * @return next execution time the job is armed for in epoch millis, {@link JobSchedulingInfo#NO_TIME} if the job is
+     *         not armed on this node
+     */
+    public long getExpectedExecutionTimeMillis(String indexName, String docId) {
+        JobSchedulingInfo jobInfo = this.scheduledJobInfo.getJobInfo(indexName, docId);
+        if (jobInfo == null || jobInfo.isDescheduled()) {
+            return JobSchedulingInfo.NO_TIME;
+        }
+        return jobInfo.getExpectedExecutionTimeMillis();
+    }
+
     public List<String> bulkDeschedule(String indexName, Collection<String> ids) {
         if (ids == null) {
             return new ArrayList<>();
@@ -108,6 +403,20 @@ public class JobScheduler {
         return result;
     }
 
+    /**
+     * Deschedules all jobs of an index at once. Dropping the index from the registry is O(1), timers that are still armed
+     * find their job descheduled when they fire and neither run it nor re-arm.
+     *
+     * @param indexName job index name
+     * @return ids of the jobs that were descheduled
+     */
+    public Set<String> descheduleIndex(String indexName) {
+        Map<String, JobSchedulingInfo> removedJobs = this.scheduledJobInfo.removeIndex(indexName);
+        removedJobs.values().forEach(this.executionTracker::release);
+        log.info("Descheduled {} jobs of index {}", removedJobs.size(), indexName);
+        return removedJobs.keySet();
+    }
+
     public boolean deschedule(String indexName, String id) {
         JobSchedulingInfo jobInfo = this.scheduledJobInfo.getJobInfo(indexName, id);
         if (jobInfo == null) {
@@ -117,11 +426,15 @@ public class JobScheduler {
 
         log.info("Descheduling jobId: {}", id);
         jobInfo.setDescheduled(true);
+        this.executionTracker.release(jobInfo);
         Scheduler.ScheduledCancellable scheduledCancellable = jobInfo.getScheduledCancellable();
 
         if (scheduledCancellable != null && !scheduledCancellable.cancel()) {
             return false;
         }
+        if (scheduledCancellable != null) {
+            this.firingHistogram.remove(jobInfo.getArmedSecond());
+        }
         this.scheduledJobInfo.removeJob(indexName, id);
 
         return true;
@@ -140,7 +453,7 @@ public class JobScheduler {
             return false;
         }
 
-        Instant nextExecutionTime = jobParameter.getSchedule().getNextExecutionTime(jobInfo.getExpectedExecutionTime());
+        Instant nextExecutionTime = jobInfo.nextExecutionTime(jobParameter.getSchedule(), jobInfo.getExpectedExecutionTime());
         if (nextExecutionTime == null) {
             log.info("No next execution time for job {}", jobParameter.getName());
             return true;
@@ -148,29 +461,61 @@ public class JobScheduler {
         Instant now = this.clock.instant();
         Duration duration = Duration.between(now, nextExecutionTime);
         if (duration.isNegative()) {
-            log.info(
-                "job {} expected time: {} < current time: {}, setting next execute time to current",
-                jobParameter.getName(),
-                nextExecutionTime.toEpochMilli(),
-                now.toEpochMilli()
-            );
-            nextExecutionTime = now;
-            duration = Duration.ZERO;
+            // only a job with an expected execution time misfires, a job first scheduled after a restart starts from now
+            MisfirePolicy misfirePolicy = jobParameter.getMisfirePolicy();
+            if (misfirePolicy == null) {
+                misfirePolicy = MisfirePolicy.FIRE_ONCE_NOW;
+            }
+            if (misfirePolicy == MisfirePolicy.CATCH_UP && jobInfo.getCatchUpRuns() < jobParameter.getMaxCatchUpRuns()) {
+                // keep the missed execution time, the run reports it as its expected execution time
+                log.info("job {} catching up missed execution at {}", jobParameter.getName(), nextExecutionTime.toEpochMilli());
+                jobInfo.setCatchUpRuns(jobInfo.getCatchUpRuns() + 1);
+                this.misfireLimiter.onCaughtUp();
+                duration = Duration.ofMillis(this.misfireLimiter.release(now.toEpochMilli()));
+            } else if (misfirePolicy != MisfirePolicy.FIRE_ONCE_NOW) {
+                log.info("job {} skipping missed executions before {}", jobParameter.getName(), now.toEpochMilli());
+                jobInfo.setCatchUpRuns(0);
+                this.misfireLimiter.onSkipped();
+                nextExecutionTime = jobInfo.nextExecutionTime(jobParameter.getSchedule(), now);
+                if (nextExecutionTime == null) {
+                    log.info("No next execution time for job {}", jobParameter.getName());
+                    return true;
+                }
+                duration = Duration.between(now, nextExecutionTime);
+            } else {
+                log.info(
+                    "job {} expected time: {} < current time: {}, setting next execute time to current",
+                    jobParameter.getName(),
+                    nextExecutionTime.toEpochMilli(),
+                    now.toEpochMilli()
+                );
+                nextExecutionTime = now;
+                duration = Duration.ofMillis(this.misfireLimiter.release(now.toEpochMilli()));
+            }
+        } else {
+            jobInfo.setCatchUpRuns(0);
         }
 
         // Too many jobs start at the same time point will bring burst. Add random jitter delay to spread out load.
         // Example, if interval is 10 minutes, jitter is 0.6, next job run will be randomly delayed by 0 to 10*0.6 minutes.
-        Instant secondExecutionTimeFromNow = jobParameter.getSchedule().getNextExecutionTime(nextExecutionTime);
+        Instant secondExecutionTimeFromNow = jobInfo.nextExecutionTime(jobParameter.getSchedule(), nextExecutionTime);
         if (secondExecutionTimeFromNow != null) {
             Duration interval = Duration.between(nextExecutionTime, secondExecutionTimeFromNow);
             if (interval.toMillis() > 0) {
                 double jitter = jobParameter.getJitter() == null ? 0d : jobParameter.getJitter();
                 jitter = jitter > jitterLimit ? jitterLimit : jitter;
                 jitter = jitter < 0 ? 0 : jitter;
-                long randomLong = Randomness.get().nextLong();
-                if (randomLong == Long.MIN_VALUE) randomLong += 17; // to ensure the * -1 below doesn't fail to change to positive
-                long randomPositiveLong = randomLong < 0 ? randomLong * -1 : randomLong;
-                long jitterMillis = Math.round(randomPositiveLong % interval.toMillis() * jitter);
+                long jitterMillis;
+                if (this.firingHistogram.isBalanced()) {
+                    // balanced placement picks the least occupied second around an offset hashed from the job id, not a random one
+                    long fireTimeMillis = now.toEpochMilli() + duration.toMillis();
+                    jitterMillis = this.firingHistogram.place(jobInfo, fireTimeMillis, Math.round(interval.toMillis() * jitter));
+                } else {
+                    long randomLong = Randomness.get().nextLong();
+                    if (randomLong == Long.MIN_VALUE) randomLong += 17; // to ensure the * -1 below doesn't fail to change to positive
+                    long randomPositiveLong = randomLong < 0 ? randomLong * -1 : randomLong;
+                    jitterMillis = Math.round(randomPositiveLong % interval.toMillis() * jitter);
+                }
                 if (jitter > 0) {
                     log.info("Will delay {} miliseconds for next execution of job {}", jitterMillis, jobParameter.getName());
                 }
@@ -180,41 +525,84 @@ public class JobScheduler {
 
         jobInfo.setExpectedExecutionTime(nextExecutionTime);
 
-        Runnable runnable = () -> {
-            if (jobInfo.isDescheduled()) {
-                return;
+        Runnable runnable = new JobDispatcher.Firing() {
+            @Override
+            public void run() {
+                fire(jobParameter, jobInfo, jobRunner, version, jitterLimit);
             }
 
-            jobInfo.setExpectedPreviousExecutionTime(jobInfo.getExpectedExecutionTime());
-            jobInfo.setActualPreviousExecutionTime(clock.instant());
-            // schedule next execution
-            this.reschedule(jobParameter, jobInfo, jobRunner, version, jitterLimit);
-
-            // invoke job runner
-            JobExecutionContext context = new JobExecutionContext(
-                jobInfo.getExpectedPreviousExecutionTime(),
-                version,
-                lockService,
-                jobInfo.getIndexName(),
-                jobInfo.getJobId()
-            );
-
-            jobRunner.runJob(jobParameter, context);
+            @Override
+            public void rejected() {
+                rearm(jobParameter, jobInfo, jobRunner, version, jitterLimit);
+            }
         };
 
-        if (jobInfo.isDescheduled()) {
+        if (jobInfo.isDescheduled() || this.draining) {
             return false;
         }
 
-        jobInfo.setScheduledCancellable(
-            this.threadPool.schedule(
-                runnable,
-                new TimeValue(duration.toNanos(), TimeUnit.NANOSECONDS),
-                JobSchedulerPlugin.OPEN_DISTRO_JOB_SCHEDULER_THREAD_POOL_NAME
-            )
-        );
+        jobInfo.setArmedSecond(this.firingHistogram.add(now.toEpochMilli() + duration.toMillis()));
+        jobInfo.setScheduledCancellable(this.timingWheel.schedule(runnable, new TimeValue(duration.toNanos(), TimeUnit.NANOSECONDS)));
 
         return true;
     }
 
+    private void fire(
+        ScheduledJobParameter jobParameter,
+        JobSchedulingInfo jobInfo,
+        ScheduledJobRunner jobRunner,
+        JobDocVersion version,
+        Double jitterLimit
+    ) {
+        this.firingHistogram.remove(jobInfo.getArmedSecond());
+        if (jobInfo.isDescheduled() || this.draining) {
+            // a draining node hands the job off with its expected execution time, the new owner runs it
+            return;
+        }
+
+        // an in-place update may have swapped the job parameter since the timer was armed
+        ScheduledJobParameter currentParameter = jobInfo.getJobParameter() == null ? jobParameter : jobInfo.getJobParameter();
+        JobDocVersion currentVersion = jobInfo.getJobDocVersion() == null ? version : jobInfo.getJobDocVersion();
+
+        jobInfo.setExpectedPreviousExecutionTime(jobInfo.getExpectedExecutionTime());
+        jobInfo.setActualPreviousExecutionTime(clock.instant());
+        // schedule next execution
+        this.reschedule(currentParameter, jobInfo, jobRunner, currentVersion, jitterLimit);
+
+        // invoke job runner
+        JobExecutionContext context = new JobExecutionContext(
+            jobInfo.getExpectedPreviousExecutionTime(),
+            currentVersion,
+            lockService,
+            jobInfo.getIndexName(),
+            jobInfo.getJobId()
+        );
+
+        this.executionTracker.run(jobInfo, currentParameter, jobRunner, context);
+    }
+
+    /**
+     * Arms a job whose firing the executor rejected for the execution after the rejected one, the rejected execution is
+     * skipped.
+     */
+    private void rearm(
+        ScheduledJobParameter jobParameter,
+        JobSchedulingInfo jobInfo,
+        ScheduledJobRunner jobRunner,
+        JobDocVersion version,
+        Double jitterLimit
+    ) {
+        this.firingHistogram.remove(jobInfo.getArmedSecond());
+        if (jobInfo.isDescheduled() || this.draining) {
+            return;
+        }
+        ScheduledJobParameter currentParameter = jobInfo.getJobParameter() == null ? jobParameter : jobInfo.getJobParameter();
+        JobDocVersion currentVersion = jobInfo.getJobDocVersion() == null ? version : jobInfo.getJobDocVersion();
+        log.warn(
+            "Job {} skipped its execution at {}, the job scheduler executor is full",
+            jobInfo.getJobId(),
+            jobInfo.getExpectedExecutionTime()
+        );
+        this.reschedule(currentParameter, jobInfo, jobRunner, currentVersion, jitterLimit);
+    }
 }
@@ -8,21 +8,44 @@
  */
 package org.opensearch.jobscheduler.scheduler;
 
+import org.opensearch.jobscheduler.spi.JobDocVersion;
 import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
+import org.opensearch.jobscheduler.spi.schedule.IntervalSchedule;
+import org.opensearch.jobscheduler.spi.schedule.Schedule;
 import org.opensearch.threadpool.Scheduler;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Per-job scheduling state. Execution times are kept as primitive epoch millis, {@link Instant}s are only created when
+ * they are read, which keeps the resident footprint of every scheduled job small.
+ */
 public class JobSchedulingInfo {
+    public static final long NO_TIME = Long.MIN_VALUE;
+    /**
+     * Number of upcoming execution times computed per {@link Schedule#getNextExecutionTimes} call.
+     */
+    static final int LOOKAHEAD = 8;
 
     private String indexName;
     private String jobId;
-    private ScheduledJobParameter jobParameter;
-    private boolean descheduled = false;
-    private Instant actualPreviousExecutionTime;
-    private Instant expectedPreviousExecutionTime;
-    private Instant expectedExecutionTime;
+    // swapped by in-place updates, the armed timer reads both when it fires
+    private volatile ScheduledJobParameter jobParameter;
+    private volatile JobDocVersion jobDocVersion;
+    private volatile boolean descheduled = false;
+    private volatile ScheduledJobInfo.IndexJobs indexJobs;
+    private long actualPreviousExecutionTime = NO_TIME;
+    private long expectedPreviousExecutionTime = NO_TIME;
+    private long expectedExecutionTime = NO_TIME;
     private Scheduler.ScheduledCancellable scheduledCancellable;
+    private volatile CompletableFuture<Void> runningExecution;
+    private volatile long lastRunDurationMillis = NO_TIME;
+    private volatile boolean handoffPending = true;
+    // allocated on first use, most jobs never need them
+    private Extras extras;
+    private UpcomingTimes upcoming;
 
     public JobSchedulingInfo(String indexName, String jobId, ScheduledJobParameter jobParameter) {
         this.indexName = indexName;
@@ -42,19 +65,34 @@ public class JobSchedulingInfo {
         return jobParameter;
     }
 
+    /**
+     * @return version of the job document the job is scheduled with, null if the job has not been scheduled yet.
+     */
+    public JobDocVersion getJobDocVersion() {
+        return jobDocVersion;
+    }
+
     public boolean isDescheduled() {
-        return descheduled;
+        ScheduledJobInfo.IndexJobs jobs = this.indexJobs;
+        return descheduled || (jobs != null && jobs.isRemoved());
     }
 
     public Instant getActualPreviousExecutionTime() {
-        return actualPreviousExecutionTime;
+        return toInstant(actualPreviousExecutionTime);
     }
 
     public Instant getExpectedPreviousExecutionTime() {
-        return expectedPreviousExecutionTime;
+        return toInstant(expectedPreviousExecutionTime);
     }
 
     public Instant getExpectedExecutionTime() {
+        return toInstant(this.expectedExecutionTime);
+    }
+
+    /**
+     * @return expected execution time in epoch millis, or {@link #NO_TIME} if the job has not been armed yet.
+     */
+    public long getExpectedExecutionTimeMillis() {
         return this.expectedExecutionTime;
     }
 
@@ -62,24 +100,215 @@ public class JobSchedulingInfo {
         return scheduledCancellable;
     }
 
+    /**
+     * @return the latest run of the job, it may already have finished.
+     */
+    public CompletableFuture<Void> getRunningExecution() {
+        return runningExecution;
+    }
+
+    public boolean isRunning() {
+        CompletableFuture<Void> execution = this.runningExecution;
+        return execution != null && !execution.isDone();
+    }
+
+    /**
+     * @return duration of the last finished run in millis, or {@link #NO_TIME} if the job has not finished a run yet.
+     */
+    public long getLastRunDurationMillis() {
+        return lastRunDurationMillis;
+    }
+
+    /**
+     * @return true until the first run of the job on this node confirmed that no previous owner is still running it.
+     */
+    public boolean isHandoffPending() {
+        return handoffPending;
+    }
+
+    /**
+     * @return number of missed executions caught up back to back, see {@link org.opensearch.jobscheduler.spi.MisfirePolicy}.
+     */
+    public int getCatchUpRuns() {
+        Extras extras = this.extras;
+        return extras == null ? 0 : extras.catchUpRuns;
+    }
+
+    /**
+     * @return jitter of the job as a fraction of its jitter window chosen by balanced placement, NaN if not placed yet.
+     */
+    public float getJitterFraction() {
+        Extras extras = this.extras;
+        return extras == null ? Float.NaN : extras.jitterFraction;
+    }
+
+    long getArmedSecond() {
+        Extras extras = this.extras;
+        return extras == null ? NO_TIME : extras.armedSecond;
+    }
+
+    /**
+     * @return true if the job holds state only some jobs use, see {@link Extras}.
+     */
+    boolean hasExtras() {
+        return this.extras != null;
+    }
+
+    void setJobParameter(ScheduledJobParameter jobParameter) {
+        this.jobParameter = jobParameter;
+    }
+
+    void setJobDocVersion(JobDocVersion jobDocVersion) {
+        this.jobDocVersion = jobDocVersion;
+    }
+
     public void setDescheduled(boolean descheduled) {
         this.descheduled = descheduled;
     }
 
     public void setActualPreviousExecutionTime(Instant actualPreviousExecutionTime) {
-        this.actualPreviousExecutionTime = actualPreviousExecutionTime;
+        this.actualPreviousExecutionTime = toMillis(actualPreviousExecutionTime);
     }
 
     public void setExpectedPreviousExecutionTime(Instant expectedPreviousExecutionTime) {
-        this.expectedPreviousExecutionTime = expectedPreviousExecutionTime;
+        this.expectedPreviousExecutionTime = toMillis(expectedPreviousExecutionTime);
     }
 
     public void setExpectedExecutionTime(Instant expectedExecutionTime) {
-        this.expectedExecutionTime = expectedExecutionTime;
+        this.expectedExecutionTime = toMillis(expectedExecutionTime);
+    }
+
+    void setIndexJobs(ScheduledJobInfo.IndexJobs indexJobs) {
+        this.indexJobs = indexJobs;
     }
 
     public void setScheduledCancellable(Scheduler.ScheduledCancellable scheduledCancellable) {
         this.scheduledCancellable = scheduledCancellable;
     }
 
+    synchronized void setRunningExecution(CompletableFuture<Void> runningExecution) {
+        this.runningExecution = runningExecution;
+    }
+
+    synchronized void clearRunningExecution(CompletableFuture<Void> execution) {
+        if (this.runningExecution == execution) {
+            this.runningExecution = null;
+        }
+    }
+
+    void setJitterFraction(float jitterFraction) {
+        if (this.extras != null || !Float.isNaN(jitterFraction)) {
+            this.extras().jitterFraction = jitterFraction;
+        }
+    }
+
+    void setArmedSecond(long armedSecond) {
+        if (this.extras != null || armedSecond != NO_TIME) {
+            this.extras().armedSecond = armedSecond;
+        }
+    }
+
+    void setCatchUpRuns(int catchUpRuns) {
+        if (this.extras != null || catchUpRuns != 0) {
+            this.extras().catchUpRuns = catchUpRuns;
+        }
+    }
+
+    private synchronized Extras extras() {
+        if (this.extras == null) {
+            this.extras = new Extras();
+        }
+        return this.extras;
+    }
+
+    void setHandoffPending(boolean handoffPending) {
+        this.handoffPending = handoffPending;
+    }
+
+    void setLastRunDurationMillis(long lastRunDurationMillis) {
+        this.lastRunDurationMillis = lastRunDurationMillis;
+    }
+
+    /**
+     * Gets the next execution time of the job's schedule after {@code time}. Execution times are computed {@link #LOOKAHEAD}
+     * at a time and served from a ring buffer, so a job with a steady schedule only evaluates it once every few firings.
+     * Interval schedules compute their times arithmetically, they are evaluated directly and never allocate the buffer.
+     *
+     * @param schedule schedule of the job parameter
+     * @param time     base time point, null for now
+     * @return next execution time since time parameter, null if the schedule has ended.
+     */
+    synchronized Instant nextExecutionTime(Schedule schedule, Instant time) {
+        if (schedule instanceof IntervalSchedule) {
+            return schedule.getNextExecutionTime(time);
+        }
+        if (this.upcoming == null) {
+            this.upcoming = new UpcomingTimes();
+        }
+        UpcomingTimes upcoming = this.upcoming;
+        long baseMillis = toMillis(time);
+        if (baseMillis == NO_TIME || baseMillis < upcoming.base) {
+            // the buffered times only cover what comes after the base, anything earlier could have been skipped
+            upcoming.size = 0;
+        }
+        upcoming.poll(baseMillis);
+        if (upcoming.size == 0) {
+            upcoming.fill(schedule, time);
+            upcoming.poll(baseMillis);
+        }
+        return upcoming.size == 0 ? null : Instant.ofEpochMilli(upcoming.times[upcoming.head]);
+    }
+
+    /**
+     * @return true if the job buffers upcoming execution times, see {@link #nextExecutionTime}.
+     */
+    synchronized boolean hasUpcomingBuffer() {
+        return this.upcoming != null;
+    }
+
+    private static Instant toInstant(long epochMillis) {
+        return epochMillis == NO_TIME ? null : Instant.ofEpochMilli(epochMillis);
+    }
+
+    private static long toMillis(Instant instant) {
+        return instant == null ? NO_TIME : instant.toEpochMilli();
+    }
+
+    /**
+     * State only some jobs use: the firing second and jitter fraction of jobs placed by balanced placement, and the
+     * missed executions a job caught up. Kept out of line so jobs without them do not pay for the fields.
+     */
+    static final class Extras {
+        private long armedSecond = NO_TIME;
+        private float jitterFraction = Float.NaN;
+        private int catchUpRuns;
+    }
+
+    /**
+     * Ring of consecutive upcoming execution times of a schedule, all of them after {@link #base}.
+     */
+    static final class UpcomingTimes {
+        private final long[] times = new long[LOOKAHEAD];
+        private int head;
+        private int size;
+        private long base = NO_TIME;
+
+        private void poll(long baseMillis) {
+            while (this.size > 0 && this.times[this.head] <= baseMillis) {
+                this.head = (this.head + 1) % this.times.length;
+                this.size--;
+            }
+        }
+
+        private void fill(Schedule schedule, Instant time) {
+            List<Instant> executionTimes = schedule.getNextExecutionTimes(time, LOOKAHEAD);
+            this.head = 0;
+            this.size = Math.min(executionTimes.size(), LOOKAHEAD);
+            for (int i = 0; i < this.size; i++) {
+                this.times[i] = executionTimes.get(i).toEpochMilli();
+            }
+            // without a base time the schedule used its own clock, only times from the first execution on are known to be complete
+            this.base = time != null ? time.toEpochMilli() : this.size > 0 ? this.times[0] - 1 : NO_TIME;
+        }
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.scheduler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Node-wide cap on how many misfired jobs are released per second. Jobs whose execution time has passed would otherwise
+ * all fire at once after a long pause, a misfired job that does not fit into the current second is pushed into the next
+ * second with free capacity. The cap is off by default, so misfired jobs fire right away as they always did.
+ * <p>
+ * A job misfires when the execution time it was expected at has passed: a timer that fired late after a pause or a
+ * rejected run, or a job handed off by a draining node with the execution time it was due at. A node does not persist
+ * the expected execution times of its jobs, so after a restart a job is scheduled at its next execution time from now
+ * and never counts as misfired. Jobs whose executions coincide after a restart are spread by jitter, not by this cap.
+ */
+public class MisfireLimiter {
+    private final int maxReleasesPerSecond;
+
+    private long releaseSecond = Long.MIN_VALUE;
+    private int releasedInSecond;
+
+    private long misfired;
+    private long delayed;
+    private long maxDelayMillis;
+    private long skipped;
+    private long caughtUp;
+
+    /**
+     * @param maxReleasesPerSecond maximum number of misfired jobs released per second, 0 for no limit
+     */
+    public MisfireLimiter(int maxReleasesPerSecond) {
+        this.maxReleasesPerSecond = maxReleasesPerSecond;
+    }
+
+    /**
+     * Reserves a release slot for a misfired job.
+     *
+     * @param nowMillis current epoch millis
+     * @return millis the job has to wait before it may fire
+     */
+    public synchronized long release(long nowMillis) {
+        this.misfired++;
+        if (this.maxReleasesPerSecond <= 0) {
+            return 0L;
+        }
+        long nowSecond = Math.floorDiv(nowMillis, 1000L);
+        if (this.releaseSecond < nowSecond) {
+            this.releaseSecond = nowSecond;
+            this.releasedInSecond = 0;
+        } else if (this.releasedInSecond >= this.maxReleasesPerSecond) {
+            this.releaseSecond++;
+            this.releasedInSecond = 0;
+        }
+        this.releasedInSecond++;
+        long delayMillis = Math.max(0L, this.releaseSecond * 1000L - nowMillis);
+        if (delayMillis > 0) {
+            this.delayed++;
+            this.maxDelayMillis = Math.max(this.maxDelayMillis, delayMillis);
+        }
+        return delayMillis;
+    }
+
+    synchronized void onSkipped() {
+        this.skipped++;
+    }
+
+    synchronized void onCaughtUp() {
+        this.caughtUp++;
+    }
+
+    /**
+     * @return misfire counters of this node.
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("max_releases_per_second", this.maxReleasesPerSecond);
+        stats.put("misfired", this.misfired);
+        stats.put("delayed", this.delayed);
+        stats.put("max_delay_millis", this.maxDelayMillis);
+        stats.put("skipped", this.skipped);
+        stats.put("caught_up", this.caughtUp);
+        return stats;
+    }
+}
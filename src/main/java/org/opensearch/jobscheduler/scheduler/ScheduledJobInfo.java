@@ -8,55 +8,105 @@
  */
 package org.opensearch.jobscheduler.scheduler;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Job index, id and jobInfo mapping.
+ * <p>
+ * The mapping is lock free, jobs of one index live in their own concurrent map so registering or removing different
+ * jobs never contends, and a whole index can be dropped in O(1) with {@link #removeIndex(String)}.
  */
 public class ScheduledJobInfo {
-    private Map<String, Map<String, JobSchedulingInfo>> jobInfoMap;
+    private final ConcurrentHashMap<String, IndexJobs> jobInfoMap;
 
     ScheduledJobInfo() {
         this.jobInfoMap = new ConcurrentHashMap<>();
     }
 
     public Map<String, JobSchedulingInfo> getJobsByIndex(String indexName) {
-        if (!this.jobInfoMap.containsKey(indexName)) {
-            synchronized (this.jobInfoMap) {
-                if (!this.jobInfoMap.containsKey(indexName)) {
-                    this.jobInfoMap.put(indexName, new ConcurrentHashMap<>());
-                }
-            }
-        }
-        return this.jobInfoMap.get(indexName);
+        return this.indexJobs(indexName);
     }
 
     public JobSchedulingInfo getJobInfo(String indexName, String jobId) {
-        return getJobsByIndex(indexName).get(jobId);
+        IndexJobs jobs = this.jobInfoMap.get(indexName);
+        return jobs == null ? null : jobs.get(jobId);
     }
 
     public void addJob(String indexName, String jobId, JobSchedulingInfo jobInfo) {
-        if (!this.jobInfoMap.containsKey(indexName)) {
-            synchronized (this.jobInfoMap) {
-                if (!this.jobInfoMap.containsKey(indexName)) {
-                    jobInfoMap.put(indexName, new ConcurrentHashMap<>());
-                }
-            }
+        IndexJobs jobs = this.indexJobs(indexName);
+        jobInfo.setIndexJobs(jobs);
+        jobs.put(jobId, jobInfo);
+    }
+
+    /**
+     * Returns the job info of {@code jobId}, registering the one created by {@code jobInfoSupplier} if there is none.
+     */
+    JobSchedulingInfo getOrAddJob(String indexName, String jobId, Supplier<JobSchedulingInfo> jobInfoSupplier) {
+        IndexJobs jobs = this.indexJobs(indexName);
+        JobSchedulingInfo jobInfo = jobs.get(jobId);
+        if (jobInfo != null) {
+            return jobInfo;
         }
+        return jobs.computeIfAbsent(jobId, id -> {
+            JobSchedulingInfo newJobInfo = jobInfoSupplier.get();
+            newJobInfo.setIndexJobs(jobs);
+            return newJobInfo;
+        });
+    }
 
-        this.jobInfoMap.get(indexName).put(jobId, jobInfo);
+    /**
+     * @return number of registered jobs across all indices.
+     */
+    public int getJobCount() {
+        int count = 0;
+        for (IndexJobs jobs : this.jobInfoMap.values()) {
+            count += jobs.size();
+        }
+        return count;
     }
 
+    /**
+     * @return read-only view of the index to job mapping, it is not copied so it reflects concurrent updates.
+     */
     public Map<String, Map<String, JobSchedulingInfo>> getJobInfoMap() {
-        return Map.copyOf(jobInfoMap);
+        return Collections.unmodifiableMap(jobInfoMap);
     }
 
     public JobSchedulingInfo removeJob(String indexName, String jobId) {
-        if (this.jobInfoMap.containsKey(indexName)) {
-            return this.jobInfoMap.get(indexName).remove(jobId);
+        IndexJobs jobs = this.jobInfoMap.get(indexName);
+        return jobs == null ? null : jobs.remove(jobId);
+    }
+
+    /**
+     * Drops all jobs of an index at once. The jobs are marked as removed through their shared index entry, so timers that
+     * are still armed find them descheduled when they fire and do not run or re-arm.
+     *
+     * @param indexName job index name
+     * @return the jobs that were registered for the index
+     */
+    public Map<String, JobSchedulingInfo> removeIndex(String indexName) {
+        IndexJobs jobs = this.jobInfoMap.remove(indexName);
+        if (jobs == null) {
+            return Collections.emptyMap();
         }
+        jobs.removed = true;
+        return jobs;
+    }
+
+    private IndexJobs indexJobs(String indexName) {
+        IndexJobs jobs = this.jobInfoMap.get(indexName);
+        return jobs != null ? jobs : this.jobInfoMap.computeIfAbsent(indexName, name -> new IndexJobs());
+    }
+
+    @SuppressWarnings("serial")
+    static final class IndexJobs extends ConcurrentHashMap<String, JobSchedulingInfo> {
+        private volatile boolean removed = false;
 
-        return null;
+        boolean isRemoved() {
+            return this.removed;
+        }
     }
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.scheduler;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.threadpool.Scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Hierarchical timing wheel that owns the timers of all scheduled jobs on this node.
+ * <p>
+ * Time is divided into ticks of a fixed resolution. Level 0 has one slot per tick, and every higher level has one slot per
+ * full rotation of the level below it. A timer is placed in the lowest level whose range covers its deadline and is
+ * cascaded down one level each time the cursor reaches its slot, so insert and cancel are O(1) regardless of how many
+ * timers are pending. The tasks of all timers that expire in one {@link #advance()} call are handed to the dispatcher
+ * together, the wheel itself only moves timers around.
+ * <p>
+ * The wheel is driven by calling {@link #advance()} at least once per tick, all ticks elapsed since the previous call
+ * are processed so a late call never loses timers.
+ */
+public class TimingWheel {
+    private static final Logger log = LogManager.getLogger(TimingWheel.class);
+
+    static final int SLOT_BITS = 6;
+    static final int SLOTS_PER_LEVEL = 1 << SLOT_BITS;
+    static final int LEVELS = 4;
+    private static final int SLOT_MASK = SLOTS_PER_LEVEL - 1;
+
+    /**
+     * Heap used by one armed timer.
+     */
+    static final long TIMER_BYTES = RamUsageEstimator.shallowSizeOfInstance(Timeout.class);
+
+    private final long tickMillis;
+    private final LongSupplier relativeTimeMillis;
+    private final Consumer<List<Runnable>> dispatcher;
+    private final Bucket[][] wheel;
+
+    // last tick that has been fully processed, guarded by this
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(TimeValue tick, LongSupplier relativeTimeMillis, Consumer<List<Runnable>> dispatcher) {
+        if (tick.millis() <= 0) {
+            throw new IllegalArgumentException("Timing wheel tick must be at least 1ms, got " + tick);
+        }
+        this.tickMillis = tick.millis();
+        this.relativeTimeMillis = relativeTimeMillis;
+        this.dispatcher = dispatcher;
+        this.wheel = new Bucket[LEVELS][SLOTS_PER_LEVEL];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS_PER_LEVEL; slot++) {
+                this.wheel[level][slot] = new Bucket();
+            }
+        }
+        this.currentTick = relativeTimeMillis.getAsLong() / this.tickMillis;
+    }
+
+    public long getTickMillis() {
+        return this.tickMillis;
+    }
+
+    /**
+     * @return number of timers that are armed and not yet expired or cancelled.
+     */
+    public synchronized int size() {
+        return this.size;
+    }
+
+    /**
+     * Arms a timer that hands {@code task} to the dispatcher once {@code delay} has elapsed. The delay is rounded up to
+     * the next tick boundary, a zero or negative delay fires on the next tick.
+     *
+     * @param task  task to run
+     * @param delay time to wait before running the task
+     * @return handle that can be used to cancel the timer
+     */
+    public Scheduler.ScheduledCancellable schedule(Runnable task, TimeValue delay) {
+        long deadlineMillis = this.relativeTimeMillis.getAsLong() + Math.max(0L, delay.millis());
+        Timeout timeout = new Timeout(task, deadlineMillis);
+        synchronized (this) {
+            // ceil so that a timer never fires before its deadline
+            timeout.deadlineTick = Math.max(this.currentTick + 1, (deadlineMillis + this.tickMillis - 1) / this.tickMillis);
+            this.place(timeout);
+            this.size++;
+        }
+        return timeout;
+    }
+
+    /**
+     * Processes every tick that elapsed since the last call and hands the tasks of expired timers to the dispatcher.
+     */
+    public void advance() {
+        long targetTick = this.relativeTimeMillis.getAsLong() / this.tickMillis;
+        List<Timeout> expired = new ArrayList<>();
+        synchronized (this) {
+            while (this.currentTick < targetTick) {
+                this.currentTick++;
+                this.cascade();
+                this.wheel[0][(int) (this.currentTick & SLOT_MASK)].drainTo(expired);
+            }
+            for (Timeout timeout : expired) {
+                timeout.state = Timeout.EXPIRED;
+            }
+            this.size -= expired.size();
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        List<Runnable> tasks = new ArrayList<>(expired.size());
+        for (Timeout timeout : expired) {
+            tasks.add(timeout.task);
+        }
+        try {
+            this.dispatcher.accept(tasks);
+        } catch (Exception e) {
+            log.warn("Failed to dispatch {} expired timers", tasks.size(), e);
+        }
+    }
+
+    // moves the timers of every higher-level slot the cursor just entered down to the levels below, highest level first
+    private void cascade() {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            int shift = SLOT_BITS * level;
+            if ((this.currentTick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            Bucket bucket = this.wheel[level][(int) ((this.currentTick >>> shift) & SLOT_MASK)];
+            Timeout timeout = bucket.head;
+            bucket.head = null;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout.bucket = null;
+                this.place(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long deadlineTick = Math.max(timeout.deadlineTick, this.currentTick);
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((deadlineTick >>> shift) - (this.currentTick >>> shift) < SLOTS_PER_LEVEL) {
+                this.wheel[level][(int) ((deadlineTick >>> shift) & SLOT_MASK)].add(timeout);
+                return;
+            }
+        }
+        // beyond the range of the wheel, park in the farthest top-level slot and re-place when it cascades
+        int shift = SLOT_BITS * (LEVELS - 1);
+        this.wheel[LEVELS - 1][(int) (((this.currentTick >>> shift) + SLOT_MASK) & SLOT_MASK)].add(timeout);
+    }
+
+    private synchronized boolean cancel(Timeout timeout) {
+        if (timeout.state != Timeout.PENDING) {
+            return false;
+        }
+        timeout.state = Timeout.CANCELLED;
+        timeout.bucket.remove(timeout);
+        this.size--;
+        return true;
+    }
+
+    private long remainingMillis(Timeout timeout) {
+        return timeout.deadlineMillis - this.relativeTimeMillis.getAsLong();
+    }
+
+    private static final class Bucket {
+        private Timeout head;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.next = this.head;
+            if (this.head != null) {
+                this.head.prev = timeout;
+            }
+            this.head = timeout;
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                this.head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        private void drainTo(List<Timeout> expired) {
+            Timeout timeout = this.head;
+            this.head = null;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout.bucket = null;
+                expired.add(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private final class Timeout implements Scheduler.ScheduledCancellable {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadlineMillis;
+        private long deadlineTick;
+        private int state = PENDING;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadlineMillis) {
+            this.task = task;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        @Override
+        public boolean cancel() {
+            return TimingWheel.this.cancel(this);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            synchronized (TimingWheel.this) {
+                return this.state == CANCELLED;
+            }
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(TimingWheel.this.remainingMillis(this), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(this.getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.scheduler;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.jobscheduler.spi.AsyncScheduledJobRunner;
+import org.opensearch.jobscheduler.spi.JobExecutionContext;
+import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
+import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs {@link ScheduledJobRunner#runJob} invocations of opted-in job types on JDK virtual threads instead of the fixed
+ * job scheduler thread pool. Runners that block on remote calls then only park a virtual thread and no longer stall the
+ * other jobs of the node. A semaphore bounds how many such runs execute at once, runs beyond the bound wait on their
+ * own virtual thread until a permit is free.
+ * <p>
+ * Wrapped runners are {@link AsyncScheduledJobRunner}s whose stage completes when the run on the virtual thread finishes,
+ * so the scheduler tracks the actual run rather than its hand-off. Once closed, new runs fail with a
+ * {@link RejectedExecutionException}, runs that already started finish on their virtual thread.
+ */
+public class VirtualThreadJobExecutor implements Closeable {
+    private static final Logger log = LogManager.getLogger(VirtualThreadJobExecutor.class);
+
+    private final Set<String> jobTypes;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final ThreadPool threadPool;
+    private final ExecutorService executor;
+    private final Map<ScheduledJobRunner, ScheduledJobRunner> wrappedRunners;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public VirtualThreadJobExecutor(List<String> jobTypes, int maxConcurrency, ThreadPool threadPool) {
+        this.jobTypes = Set.copyOf(jobTypes);
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.threadPool = threadPool;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("opensearch[job_scheduler_virtual]-", 0).factory());
+        this.wrappedRunners = new ConcurrentHashMap<>();
+    }
+
+    public boolean isEnabled(String jobType) {
+        return this.jobTypes.contains(jobType);
+    }
+
+    /**
+     * Returns the runner to use for a job type, which is {@code runner} itself unless the job type opted in to virtual
+     * threads.
+     *
+     * @param jobType job type of the runner
+     * @param runner  runner registered for the job type
+     * @return runner that executes on virtual threads if the job type opted in, {@code runner} otherwise
+     */
+    public ScheduledJobRunner runnerFor(String jobType, ScheduledJobRunner runner) {
+        if (runner == null || !this.isEnabled(jobType)) {
+            return runner;
+        }
+        return this.wrappedRunners.computeIfAbsent(runner, delegate -> {
+            AsyncScheduledJobRunner asyncDelegate = AsyncScheduledJobRunner.adapt(delegate);
+            return (AsyncScheduledJobRunner) (job, context) -> this.submit(asyncDelegate, job, context);
+        });
+    }
+
+    private CompletionStage<Void> submit(AsyncScheduledJobRunner runner, ScheduledJobParameter job, JobExecutionContext context) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        Runnable contextPreserving = this.threadPool.getThreadContext().preserveContext(() -> {
+            // parking a virtual thread is cheap, so the permit is held until an asynchronous run has actually finished
+            runner.runJobAsync(job, context).toCompletableFuture().join();
+        });
+        this.queued.incrementAndGet();
+        try {
+            this.executor.execute(() -> {
+                boolean acquired = false;
+                try {
+                    this.permits.acquire();
+                    acquired = true;
+                    this.queued.decrementAndGet();
+                    this.inFlight.incrementAndGet();
+                    contextPreserving.run();
+                    this.completed.incrementAndGet();
+                    result.complete(null);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    this.failed.incrementAndGet();
+                    result.completeExceptionally(e);
+                } catch (Exception e) {
+                    this.failed.incrementAndGet();
+                    log.warn("Job run on virtual thread failed", e);
+                    result.completeExceptionally(e);
+                } finally {
+                    if (acquired) {
+                        this.inFlight.decrementAndGet();
+                        this.permits.release();
+                    } else {
+                        this.queued.decrementAndGet();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // the executor was closed, the run never started
+            this.queued.decrementAndGet();
+            this.failed.incrementAndGet();
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Stops accepting job runs. Runs that already started are not interrupted.
+     */
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * @return virtual thread execution counters of this node.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("job_types", List.copyOf(this.jobTypes));
+        stats.put("max_concurrency", this.maxConcurrency);
+        stats.put("in_flight", this.inFlight.get());
+        stats.put("queued", this.queued.get());
+        stats.put("completed", this.completed.get());
+        stats.put("failed", this.failed.get());
+        return stats;
+    }
+}
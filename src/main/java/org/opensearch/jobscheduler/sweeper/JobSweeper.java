@@ -12,11 +12,15 @@ import org.opensearch.common.lifecycle.LifecycleListener;
 import org.opensearch.jobscheduler.JobSchedulerSettings;
 import org.opensearch.jobscheduler.ScheduledJobProvider;
 import org.opensearch.jobscheduler.scheduler.JobScheduler;
+import org.opensearch.jobscheduler.scheduler.JobSchedulingInfo;
 import org.opensearch.jobscheduler.spi.LockModel;
 import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
 import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
 import org.opensearch.jobscheduler.spi.JobDocVersion;
 import org.opensearch.jobscheduler.spi.utils.LockService;
+import org.opensearch.jobscheduler.transport.action.HandoffJobsAction;
+import org.opensearch.jobscheduler.transport.request.HandoffJobsRequest;
+import org.opensearch.jobscheduler.transport.response.HandoffJobsResponse;
 import org.opensearch.jobscheduler.utils.JobDetailsService;
 import org.opensearch.jobscheduler.utils.VisibleForTesting;
 import org.apache.logging.log4j.LogManager;
@@ -24,48 +28,72 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchException;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
+import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.IndexRoutingTable;
 import org.opensearch.cluster.routing.IndexShardRoutingTable;
-import org.opensearch.cluster.routing.Murmur3HashFunction;
+import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
-import org.opensearch.common.util.set.Sets;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.RoutingFieldMapper;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.shard.IllegalIndexShardStateException;
 import org.opensearch.index.shard.IndexingOperationListener;
+import org.opensearch.index.shard.ShardNotFoundException;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.function.Function;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -73,6 +101,15 @@ import java.util.stream.Collectors;
  */
 public class JobSweeper extends LifecycleListener implements IndexingOperationListener, ClusterStateListener {
     private static final Logger log = LogManager.getLogger(JobSweeper.class);
+    private static final Set<RestStatus> RETRYABLE_STATUS = Set.of(
+        RestStatus.BAD_GATEWAY,
+        RestStatus.GATEWAY_TIMEOUT,
+        RestStatus.SERVICE_UNAVAILABLE
+    );
+    /**
+     * Smallest window of jobs armed after each page of the first sweep of a shard, see {@link #scheduleRecoveredJobs}.
+     */
+    static final TimeValue RECOVERY_MIN_WINDOW = TimeValue.timeValueMinutes(1);
 
     private Client client;
     private ClusterService clusterService;
@@ -82,15 +119,71 @@ public class JobSweeper extends LifecycleListener implements IndexingOperationLi
 
     private Scheduler.Cancellable scheduledFullSweep;
     private ExecutorService fullSweepExecutor;
+    private SweepWorkerPool sweepWorkers;
+    private LocalShardReader localShardReader;
+    // latest sweep of each shard, a later sweep of the same shard, for example a periodic sweep and one triggered by a
+    // routing change, starts after it
+    private ConcurrentHashMap<ShardId, ShardSweep> activeShardSweeps;
     private ConcurrentHashMap<ShardId, ConcurrentHashMap<String, JobDocVersion>> sweptJobs;
+    // serialize deciding the swept version of a job with scheduling or descheduling it, striped by job id
+    private final Object[] jobLocks = newJobLocks();
+    // highest _seq_no each local shard has been swept up to, periodic sweeps only fetch documents after it
+    private ConcurrentHashMap<ShardId, SweepCheckpoint> sweepCheckpoints;
+    // highest _seq_no of the operations applied to the local copy of each shard, seen through the indexing listener
+    private ConcurrentHashMap<ShardId, Long> shardMaxSeqNos;
+    // ownership ring of each local shard with the routing it was built from, rebuilt when the routing of the shard changes
+    private ConcurrentHashMap<ShardId, CachedShardNodes> shardNodesCache;
+    // jobs indexed on each local shard waiting to be parsed and scheduled
+    private ConcurrentHashMap<ShardId, JobUpdateQueue> jobUpdateQueues;
+    // jobs indexed on each local shard waiting to be parsed and put on standby
+    private ConcurrentHashMap<ShardId, JobUpdateQueue> standbyUpdateQueues;
+    // parsed jobs of other copies this node takes over when their owner leaves
+    private StandbyJobs standbyJobs;
+    // parsed jobs read by the first sweep of each shard after this node started, armed soonest due first while it reads
+    private RecoveringJobs recoveringJobs;
+    // shards read for the first time on this node, with the sweep reading them
+    private ConcurrentHashMap<ShardId, ShardSweep> recoveringShards;
+    // nodes that handed off their jobs before shutting down, left out of the ownership rings until they leave the cluster
+    private volatile Set<String> drainingNodeIds = Set.of();
+    // shards whose copies moved, per job index, waiting for the sweeper thread, one sweep is pending per index at a time
+    private ConcurrentHashMap<String, Set<ShardId>> pendingRoutingChanges;
     private JobScheduler scheduler;
     private LockService lockService;
     private JobDetailsService jobDetailsService;
 
     private volatile long lastFullSweepTimeNano;
+    // periodic sweep of every job index that is running, the next one starts once it is done
+    private volatile CompletableFuture<Void> runningFullSweep;
+    // set once a periodic sweep started with every job primary active finished, shards first read after that are not
+    // prioritized, see ShardSweep#startRecovery
+    private volatile boolean startupSweepDone;
+    private volatile long lastFullReconcileTimeNano;
+    private final AtomicLong fullShardSweeps = new AtomicLong();
+    private final AtomicLong incrementalShardSweeps = new AtomicLong();
+    private final AtomicLong skippedShardSweeps = new AtomicLong();
+    private final AtomicLong localShardReads = new AtomicLong();
+    private final AtomicLong cancelledShardSweeps = new AtomicLong();
+    private final AtomicLong shardNodesBuilds = new AtomicLong();
+    private final AtomicLong completedSweeps = new AtomicLong();
+    private final AtomicLong versionCheckedJobs = new AtomicLong();
+    private final AtomicLong sourceFetchedJobs = new AtomicLong();
+    private final AtomicLong coalescedRoutingChanges = new AtomicLong();
+    private final AtomicLong promotedStandbyJobs = new AtomicLong();
+    private final AtomicLong handedOffJobs = new AtomicLong();
+    private final AtomicLong takenOverJobs = new AtomicLong();
+    private final AtomicLong recoveredJobs = new AtomicLong();
+    private volatile long lastSweepWallMillis;
+    private volatile long maxSweepWallMillis;
 
     private volatile TimeValue sweepPeriod;
+    private volatile TimeValue fullReconcilePeriod;
     private volatile Integer sweepPageMaxSize;
+    private volatile boolean sweepTwoPhase;
+    private volatile boolean sweepLocalReader;
+    private volatile boolean warmStandby;
+    private volatile boolean startupPrioritization;
+    private volatile String ownershipWeightAttribute;
+    private volatile TimeValue drainTimeout;
     private volatile TimeValue sweepSearchTimeout;
     private volatile TimeValue sweepSearchBackoffMillis;
     private volatile Integer sweepSearchBackoffRetryCount;
@@ -118,16 +211,41 @@ public class JobSweeper extends LifecycleListener implements IndexingOperationLi
         this.jobDetailsService = jobDetailsService;
 
         this.lastFullSweepTimeNano = System.nanoTime();
+        this.lastFullReconcileTimeNano = this.lastFullSweepTimeNano;
         this.loadSettings(settings);
         this.addConfigListeners();
 
+        // the single sweeper thread plans sweeps, the shards are read by the bounded worker pool
         this.fullSweepExecutor = Executors.newSingleThreadExecutor(OpenSearchExecutors.daemonThreadFactory("opendistro_job_sweeper"));
+        int sweepWorkerCount = JobSchedulerSettings.SWEEP_WORKERS.get(settings);
+        this.sweepWorkers = new SweepWorkerPool(
+            Executors.newFixedThreadPool(sweepWorkerCount, OpenSearchExecutors.daemonThreadFactory("opendistro_job_sweeper_worker")),
+            sweepWorkerCount
+        );
+        this.localShardReader = new LocalShardReader();
+        this.activeShardSweeps = new ConcurrentHashMap<>();
         this.sweptJobs = new ConcurrentHashMap<>();
+        this.sweepCheckpoints = new ConcurrentHashMap<>();
+        this.shardMaxSeqNos = new ConcurrentHashMap<>();
+        this.shardNodesCache = new ConcurrentHashMap<>();
+        this.jobUpdateQueues = new ConcurrentHashMap<>();
+        this.standbyUpdateQueues = new ConcurrentHashMap<>();
+        this.standbyJobs = new StandbyJobs();
+        this.recoveringJobs = new RecoveringJobs();
+        this.recoveringShards = new ConcurrentHashMap<>();
+        this.pendingRoutingChanges = new ConcurrentHashMap<>();
     }
 
     private void loadSettings(Settings settings) {
         this.sweepPeriod = JobSchedulerSettings.SWEEP_PERIOD.get(settings);
+        this.fullReconcilePeriod = JobSchedulerSettings.SWEEP_FULL_RECONCILE_PERIOD.get(settings);
         this.sweepPageMaxSize = JobSchedulerSettings.SWEEP_PAGE_SIZE.get(settings);
+        this.sweepTwoPhase = JobSchedulerSettings.SWEEP_TWO_PHASE.get(settings);
+        this.sweepLocalReader = JobSchedulerSettings.SWEEP_LOCAL_READER.get(settings);
+        this.warmStandby = JobSchedulerSettings.SWEEP_WARM_STANDBY.get(settings);
+        this.startupPrioritization = JobSchedulerSettings.SWEEP_STARTUP_PRIORITIZATION.get(settings);
+        this.ownershipWeightAttribute = JobSchedulerSettings.OWNERSHIP_WEIGHT_ATTRIBUTE.get(settings);
+        this.drainTimeout = JobSchedulerSettings.DRAIN_TIMEOUT.get(settings);
         this.sweepSearchTimeout = JobSchedulerSettings.REQUEST_TIMEOUT.get(settings);
         this.sweepSearchBackoffMillis = JobSchedulerSettings.SWEEP_BACKOFF_MILLIS.get(settings);
         this.sweepSearchBackoffRetryCount = JobSchedulerSettings.SWEEP_BACKOFF_RETRY_COUNT.get(settings);
@@ -141,10 +259,45 @@ public class JobSweeper extends LifecycleListener implements IndexingOperationLi
             log.debug("Reinitializing background full sweep with period: {}", this.sweepPeriod.getMinutes());
             initBackgroundSweep();
         });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(JobSchedulerSettings.SWEEP_FULL_RECONCILE_PERIOD, timeValue -> {
+            this.fullReconcilePeriod = timeValue;
+            log.debug("Setting background sweep full reconcile period: {}", this.fullReconcilePeriod);
+        });
         clusterService.getClusterSettings().addSettingsUpdateConsumer(JobSchedulerSettings.SWEEP_PAGE_SIZE, intValue -> {
             sweepPageMaxSize = intValue;
             log.debug("Setting background sweep page size: {}", this.sweepPageMaxSize);
         });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(JobSchedulerSettings.SWEEP_TWO_PHASE, booleanValue -> {
+            this.sweepTwoPhase = booleanValue;
+            log.debug("Setting two phase background sweep: {}", this.sweepTwoPhase);
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(JobSchedulerSettings.SWEEP_LOCAL_READER, booleanValue -> {
+            this.sweepLocalReader = booleanValue;
+            log.debug("Setting background sweep local shard reader: {}", this.sweepLocalReader);
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(JobSchedulerSettings.SWEEP_WARM_STANDBY, booleanValue -> {
+            this.warmStandby = booleanValue;
+            log.info("Setting warm standby of jobs owned by other shard copies: {}", this.warmStandby);
+            if (!this.warmStandby) {
+                this.standbyUpdateQueues.clear();
+                this.standbyJobs.clear();
+            }
+            // standby jobs are read by the next full reconcile of each shard
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(JobSchedulerSettings.SWEEP_STARTUP_PRIORITIZATION, booleanValue -> {
+            this.startupPrioritization = booleanValue;
+            log.info("Setting soonest due first scheduling of the jobs read by the first sweep of a shard: {}", booleanValue);
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(JobSchedulerSettings.OWNERSHIP_WEIGHT_ATTRIBUTE, attribute -> {
+            this.ownershipWeightAttribute = attribute;
+            log.info("Setting job ownership weight attribute: [{}], resweeping job indices", this.ownershipWeightAttribute);
+            // only the jobs whose owner changed move, the checkpoints no longer match the rings and are read from the start
+            this.fullSweepExecutor.submit(() -> this.startSweep(this.indexToProviders.keySet(), false));
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(JobSchedulerSettings.DRAIN_TIMEOUT, timeValue -> {
+            this.drainTimeout = timeValue;
+            log.debug("Setting job drain timeout: {}", this.drainTimeout);
+        });
         clusterService.getClusterSettings().addSettingsUpdateConsumer(JobSchedulerSettings.REQUEST_TIMEOUT, timeValue -> {
             this.sweepSearchTimeout = timeValue;
             log.debug("Setting background sweep search timeout: {}", this.sweepSearchTimeout.getMinutes());
@@ -179,11 +332,171 @@ public class JobSweeper extends LifecycleListener implements IndexingOperationLi
         if (this.scheduledFullSweep != null) {
             this.scheduledFullSweep.cancel();
         }
+        this.drain();
+    }
+
+    /**
+     * Stops running jobs on this node and hands them off to the nodes that own them once this node is gone. The runs in
+     * flight get up to half of the drain timeout to finish, so the hand-off keeps at least the other half. Then each
+     * next owner is sent the jobs it takes over with the execution times they were armed for, so it arms them without
+     * waiting for the routing change and a sweep.
+     */
+    private void drain() {
+        long deadlineNanos = System.nanoTime() + this.drainTimeout.nanos();
+        this.scheduler.startDrain();
+        TimeValue runTimeout = TimeValue.timeValueNanos(this.drainTimeout.nanos() / 2);
+        if (!this.scheduler.awaitRunningExecutions(runTimeout)) {
+            log.warn("Job runs did not finish within {}, handing off their jobs anyway", runTimeout);
+        }
+        Map<String, HandoffJobsRequest> requests;
+        try {
+            requests = this.buildHandoffs();
+        } catch (Exception e) {
+            log.warn("Unable to hand off jobs, their next owners pick them up when this node leaves", e);
+            return;
+        }
+        this.sendHandoffs(requests, deadlineNanos);
+    }
+
+    /**
+     * @return requests handing off every job owned by this node to the node owning it without this node, by node
+     */
+    private Map<String, HandoffJobsRequest> buildHandoffs() {
+        if (this.sweptJobs.isEmpty()) {
+            return Map.of();
+        }
+        ClusterState clusterState = this.clusterService.state();
+        String localNodeId = clusterState.nodes().getLocalNodeId();
+        Map<String, List<HandoffJobsRequest.JobHandoff>> handoffs = new HashMap<>();
+        for (Map.Entry<ShardId, ConcurrentHashMap<String, JobDocVersion>> shard : this.sweptJobs.entrySet()) {
+            ShardId shardId = shard.getKey();
+            IndexRoutingTable indexRoutingTable = clusterState.routingTable().index(shardId.getIndex());
+            IndexShardRoutingTable routingTable = indexRoutingTable == null ? null : indexRoutingTable.shard(shardId.id());
+            if (routingTable == null) {
+                continue;
+            }
+            ShardNodes nextOwners = this.shardNodes(localNodeId, routingTable, clusterState.nodes()).without(localNodeId);
+            for (String jobId : shard.getValue().keySet()) {
+                long expectedExecutionTime = this.scheduler.getExpectedExecutionTimeMillis(shardId.getIndexName(), jobId);
+                String nextOwner = nextOwners.owningNode(jobId);
+                if (expectedExecutionTime == JobSchedulingInfo.NO_TIME || nextOwner == null) {
+                    continue;
+                }
+                handoffs.computeIfAbsent(nextOwner, nodeId -> new ArrayList<>())
+                    .add(new HandoffJobsRequest.JobHandoff(shardId, jobId, expectedExecutionTime));
+            }
+        }
+        Map<String, HandoffJobsRequest> requests = new HashMap<>();
+        handoffs.forEach((nodeId, jobs) -> requests.put(nodeId, new HandoffJobsRequest(localNodeId, jobs, nodeId)));
+        return requests;
+    }
+
+    /**
+     * Sends the hand-off requests, a request that failed is sent again with the sweep backoff until the drain deadline.
+     * A node whose hand-off never got through picks its jobs up once this node leaves the cluster.
+     */
+    private void sendHandoffs(Map<String, HandoffJobsRequest> requests, long deadlineNanos) {
+        Map<String, HandoffJobsRequest> pending = new HashMap<>(requests);
+        Iterator<TimeValue> backoff = this.sweepSearchBackoff.iterator();
+        while (!pending.isEmpty()) {
+            Map<String, ActionFuture<HandoffJobsResponse>> sent = new HashMap<>();
+            pending.forEach((nodeId, request) -> sent.put(nodeId, this.client.execute(HandoffJobsAction.INSTANCE, request)));
+            for (Map.Entry<String, ActionFuture<HandoffJobsResponse>> handoff : sent.entrySet()) {
+                String nodeId = handoff.getKey();
+                int jobCount = pending.get(nodeId).getHandoffs().size();
+                TimeValue remaining = TimeValue.timeValueNanos(Math.max(0L, deadlineNanos - System.nanoTime()));
+                try {
+                    HandoffJobsResponse response = handoff.getValue().actionGet(remaining);
+                    if (response.hasFailures()) {
+                        log.debug("Hand-off of {} jobs to node {} failed", jobCount, nodeId, response.failures().get(0));
+                        continue;
+                    }
+                    pending.remove(nodeId);
+                    this.handedOffJobs.addAndGet(jobCount);
+                    log.info(
+                        "Handed off {} jobs to node {}, {} of them were armed right away",
+                        jobCount,
+                        nodeId,
+                        response.getTakenOverJobs()
+                    );
+                } catch (Exception e) {
+                    log.debug("Hand-off of {} jobs to node {} failed", jobCount, nodeId, e);
+                }
+            }
+            if (pending.isEmpty() || !backoff.hasNext()) {
+                break;
+            }
+            TimeValue delay = backoff.next();
+            if (System.nanoTime() + delay.nanos() >= deadlineNanos) {
+                break;
+            }
+            try {
+                Thread.sleep(delay.millis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.warn("Unable to hand off jobs to nodes {}, they pick their jobs up when this node leaves", pending.keySet());
+        }
+    }
+
+    /**
+     * Takes over the jobs handed off by a node that shuts down. The node is left out of the ownership rings from now on,
+     * the handed off jobs this node has on standby are armed for the execution time their previous owner expected, and
+     * the shards of the other jobs are swept.
+     * <p>
+     * Only the nodes taking over jobs learn about the drain, the other nodes keep the draining node in their rings until
+     * it leaves. They still agree on the owner of every job that is running: a node leaving a ring only moves its own
+     * jobs, see {@link ShardNodes}, and the draining node stopped running those.
+     *
+     * @return number of jobs armed right away
+     */
+    public int takeOverJobs(String sourceNodeId, List<HandoffJobsRequest.JobHandoff> handoffs) {
+        ClusterState clusterState = this.clusterService.state();
+        String localNodeId = clusterState.nodes().getLocalNodeId();
+        if (sourceNodeId.equals(localNodeId)) {
+            return 0;
+        }
+        synchronized (this) {
+            Set<String> drainingNodeIds = new HashSet<>(this.drainingNodeIds);
+            drainingNodeIds.add(sourceNodeId);
+            this.drainingNodeIds = Set.copyOf(drainingNodeIds);
+        }
+        log.info("Node {} is shutting down and handed off {} jobs", sourceNodeId, handoffs.size());
+
+        Map<ShardId, Map<String, Long>> handedOffTimes = new HashMap<>();
+        for (HandoffJobsRequest.JobHandoff handoff : handoffs) {
+            handedOffTimes.computeIfAbsent(handoff.getShardId(), id -> new HashMap<>())
+                .put(handoff.getJobId(), handoff.getExpectedExecutionTimeMillis());
+        }
+        int takenOver = 0;
+        Map<String, Set<ShardId>> shardsToSweep = new HashMap<>();
+        for (Map.Entry<ShardId, Map<String, Long>> shard : handedOffTimes.entrySet()) {
+            ShardId shardId = shard.getKey();
+            IndexRoutingTable indexRoutingTable = clusterState.routingTable().index(shardId.getIndex());
+            IndexShardRoutingTable routingTable = indexRoutingTable == null ? null : indexRoutingTable.shard(shardId.id());
+            if (routingTable == null || !this.indexToProviders.containsKey(shardId.getIndexName())) {
+                continue;
+            }
+            ShardNodes shardNodes = this.shardNodes(localNodeId, routingTable, clusterState.nodes());
+            if (!shardNodes.activeShardNodeIds.contains(localNodeId)) {
+                continue;
+            }
+            takenOver += this.promoteStandbyJobs(shardId, shardNodes, shard.getValue());
+            shardsToSweep.computeIfAbsent(shardId.getIndexName(), name -> new HashSet<>()).add(shardId);
+        }
+        this.takenOverJobs.addAndGet(takenOver);
+        // jobs that were not on standby are scheduled by a sweep against the rings without the draining node
+        shardsToSweep.forEach(this::requestShardSweep);
+        return takenOver;
     }
 
     @Override
     public void beforeClose() {
         this.fullSweepExecutor.shutdown();
+        this.sweepWorkers.shutdown();
     }
 
     @Override
@@ -192,19 +505,50 @@ public class JobSweeper extends LifecycleListener implements IndexingOperationLi
             log.info("Indexing failed for job {} on index {}", index.id(), shardId.getIndexName());
             return;
         }
+        this.recordSeqNo(shardId, result.getSeqNo());
 
         String localNodeId = clusterService.localNode().getId();
-        IndexShardRoutingTable routingTable = clusterService.state().routingTable().shardRoutingTable(shardId);
-        List<String> shardNodeIds = new ArrayList<>();
-        for (ShardRouting shardRouting : routingTable) {
-            if (shardRouting.active()) {
-                shardNodeIds.add(shardRouting.currentNodeId());
-            }
+        ClusterState clusterState = clusterService.state();
+        IndexShardRoutingTable routingTable = clusterState.routingTable().shardRoutingTable(shardId);
+        ShardNodes shardNodes = this.shardNodes(localNodeId, routingTable, clusterState.nodes());
+        JobDocVersion jobDocVersion = new JobDocVersion(result.getTerm(), result.getSeqNo(), result.getVersion());
+        if (shardNodes.isOwningNode(index.id())) {
+            this.enqueueJobUpdate(this.jobUpdateQueues, shardId, index.id(), index.source(), jobDocVersion, this::sweep);
+        } else if (this.warmStandby && shardNodes.isStandbyNode(index.id())) {
+            this.enqueueJobUpdate(this.standbyUpdateQueues, shardId, index.id(), index.source(), jobDocVersion, this::standby);
         }
+    }
 
-        ShardNodes shardNodes = new ShardNodes(localNodeId, shardNodeIds);
-        if (shardNodes.isOwningNode(index.id())) {
-            this.sweep(shardId, index.id(), index.source(), new JobDocVersion(result.getTerm(), result.getSeqNo(), result.getVersion()));
+    /**
+     * Queues an indexed job to be parsed and scheduled, or put on standby, on the sweep workers. Job parsers and extension
+     * jobs can block, the write thread only queues the document. Updates of the same job that are still queued are
+     * coalesced.
+     */
+    private void enqueueJobUpdate(
+        ConcurrentHashMap<ShardId, JobUpdateQueue> queues,
+        ShardId shardId,
+        String docId,
+        BytesReference jobSource,
+        JobDocVersion jobDocVersion,
+        ShardJobConsumer consumer
+    ) {
+        JobUpdateQueue queue = queues.computeIfAbsent(shardId, id -> new JobUpdateQueue());
+        // the buffers of the operation can be released once the write completes
+        BytesReference source = jobSource == null ? null : new BytesArray(BytesReference.toBytes(jobSource));
+        if (!queue.offer(docId, source, jobDocVersion)) {
+            return;
+        }
+        JobUpdateQueue.JobUpdateConsumer shardConsumer = (queuedId, queuedSource, queuedVersion) -> consumer.accept(
+            shardId,
+            queuedId,
+            queuedSource,
+            queuedVersion
+        );
+        try {
+            this.sweepWorkers.submit(shardId.getIndexName(), () -> queue.drain(shardConsumer));
+        } catch (RejectedExecutionException e) {
+            queue.drainRejected();
+            log.debug("Not scheduling job {} of shard {}, the sweeper is shut down", docId, shardId);
         }
     }
 
@@ -218,10 +562,35 @@ public class JobSweeper extends LifecycleListener implements IndexingOperationLi
             log.debug("Deletion failed for scheduled job {}. Continuing with current version {}", delete.id(), version);
             return;
         }
-
-        if (this.scheduler.getScheduledJobIds(shardId.getIndexName()).contains(delete.id())) {
-            log.info("Descheduling job {} on index {}", delete.id(), shardId.getIndexName());
-            this.scheduler.deschedule(shardId.getIndexName(), delete.id());
+        this.recordSeqNo(shardId, result.getSeqNo());
+        JobUpdateQueue queue = this.jobUpdateQueues.get(shardId);
+        if (queue != null) {
+            queue.discard(delete.id(), result.getSeqNo());
+        }
+        JobUpdateQueue standbyQueue = this.standbyUpdateQueues.get(shardId);
+        if (standbyQueue != null) {
+            standbyQueue.discard(delete.id(), result.getSeqNo());
+        }
+        this.standbyJobs.remove(shardId, delete.id(), result.getSeqNo());
+        this.recoveringJobs.remove(shardId, delete.id(), result.getSeqNo());
+        boolean descheduled;
+        synchronized (this.jobLock(delete.id())) {
+            ConcurrentHashMap<String, JobDocVersion> shardJobs = this.sweptJobs.get(shardId);
+            JobDocVersion current = shardJobs == null ? null : shardJobs.get(delete.id());
+            JobDocVersion tombstone = new JobDocVersion(result.getTerm(), result.getSeqNo(), Versions.NOT_FOUND);
+            if (tombstone.compareTo(current) > 0
+                && (current != null || (this.mayBeParsing(shardId, queue) && this.isOwnedJob(shardId, delete.id())))) {
+                // a worker still parsing an older update of the job finds the tombstone and does not schedule it, the
+                // tombstone is dropped by the next sweep of the shard that reads it to its end
+                this.sweptJobs.computeIfAbsent(shardId, id -> new ConcurrentHashMap<>()).put(delete.id(), tombstone);
+            }
+            descheduled = this.scheduler.getScheduledJobIds(shardId.getIndexName()).contains(delete.id());
+            if (descheduled) {
+                log.info("Descheduling job {} on index {}", delete.id(), shardId.getIndexName());
+                this.scheduler.deschedule(shardId.getIndexName(), delete.id());
+            }
+        }
+        if (descheduled) {
             lockService.deleteLock(
                 LockModel.generateLockId(shardId.getIndexName(), delete.id()),
                 ActionListener.wrap(
@@ -232,60 +601,504 @@ public class JobSweeper extends LifecycleListener implements IndexingOperationLi
         }
     }
 
+    /**
+     * @return true if a worker may be parsing a document of the shard that is not swept yet, because job updates of the
+     *         shard are being drained or the shard is being swept
+     */
+    private boolean mayBeParsing(ShardId shardId, JobUpdateQueue queue) {
+        return (queue != null && queue.isDrainPending()) || this.activeShardSweeps.containsKey(shardId);
+    }
+
+    /**
+     * @return true if this node owns the job, documents of other copies are never parsed to be scheduled by this node
+     */
+    private boolean isOwnedJob(ShardId shardId, String docId) {
+        ClusterState clusterState = this.clusterService.state();
+        IndexRoutingTable indexRoutingTable = clusterState.routingTable().index(shardId.getIndex());
+        IndexShardRoutingTable routingTable = indexRoutingTable == null ? null : indexRoutingTable.shard(shardId.id());
+        return routingTable != null
+            && this.shardNodes(clusterState.nodes().getLocalNodeId(), routingTable, clusterState.nodes()).isOwningNode(docId);
+    }
+
+    /**
+     * Returns the ownership ring of a shard. Routing tables are immutable and a cluster state update keeps the routing
+     * table instance of every shard whose copies did not change, so the ring is only rebuilt when the routing of the
+     * shard itself changes. Weighted rings are also rebuilt when the nodes of the cluster change. Copies on nodes that
+     * handed off their jobs are left out.
+     */
+    private ShardNodes shardNodes(String localNodeId, IndexShardRoutingTable routingTable, DiscoveryNodes nodes) {
+        String weightAttribute = this.ownershipWeightAttribute;
+        Set<String> drainingNodeIds = this.drainingNodeIds;
+        CachedShardNodes cached = this.shardNodesCache.get(routingTable.shardId());
+        if (cached != null
+            && cached.routingTable == routingTable
+            && cached.shardNodes.localNodeId.equals(localNodeId)
+            && cached.weightAttribute.equals(weightAttribute)
+            && cached.drainingNodeIds == drainingNodeIds
+            && (weightAttribute.isEmpty() || cached.nodes == nodes)) {
+            return cached.shardNodes;
+        }
+        List<String> shardNodeIds = new ArrayList<>();
+        for (ShardRouting shardRouting : routingTable) {
+            if (shardRouting.active() && !drainingNodeIds.contains(shardRouting.currentNodeId())) {
+                shardNodeIds.add(shardRouting.currentNodeId());
+            }
+        }
+        ShardNodes shardNodes = weightAttribute.isEmpty()
+            ? new ShardNodes(localNodeId, shardNodeIds)
+            : new ShardNodes(localNodeId, shardNodeIds, nodeId -> ownershipWeight(nodes, nodeId, weightAttribute));
+        this.shardNodesCache.put(
+            routingTable.shardId(),
+            new CachedShardNodes(routingTable, nodes, weightAttribute, drainingNodeIds, shardNodes)
+        );
+        this.shardNodesBuilds.incrementAndGet();
+        return shardNodes;
+    }
+
+    /**
+     * Every copy must derive the same weights, so they are only taken from node attributes of the cluster state.
+     *
+     * @return ownership weight of a node, 1 if the node has no valid weight attribute
+     */
+    private static double ownershipWeight(DiscoveryNodes nodes, String nodeId, String weightAttribute) {
+        DiscoveryNode node = nodes.get(nodeId);
+        String weight = node == null ? null : node.getAttributes().get(weightAttribute);
+        if (weight == null) {
+            return 1.0;
+        }
+        try {
+            return Double.parseDouble(weight);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid job ownership weight {} of node {}", weight, nodeId);
+            return 1.0;
+        }
+    }
+
+    private void recordSeqNo(ShardId shardId, long seqNo) {
+        if (seqNo >= 0) {
+            this.shardMaxSeqNos.merge(shardId, seqNo, Math::max);
+        }
+    }
+
+    /**
+     * @return reader of the local copies of the job index shards, to be registered as index event listener.
+     */
+    public LocalShardReader getLocalShardReader() {
+        return this.localShardReader;
+    }
+
+    /**
+     * @return counters of the shard sweeps this node ran.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("full_shard_sweeps", this.fullShardSweeps.get());
+        stats.put("incremental_shard_sweeps", this.incrementalShardSweeps.get());
+        stats.put("skipped_shard_sweeps", this.skippedShardSweeps.get());
+        stats.put("local_shard_reads", this.localShardReads.get());
+        stats.put("cancelled_shard_sweeps", this.cancelledShardSweeps.get());
+        stats.put("queued_job_updates", this.jobUpdateQueues.values().stream().mapToInt(JobUpdateQueue::size).sum());
+        stats.put("coalesced_job_updates", this.jobUpdateQueues.values().stream().mapToLong(JobUpdateQueue::getCoalescedCount).sum());
+        stats.put("shard_ring_builds", this.shardNodesBuilds.get());
+        stats.put("coalesced_routing_changes", this.coalescedRoutingChanges.get());
+        stats.put("standby_jobs", this.standbyJobs.size());
+        stats.put("promoted_standby_jobs", this.promotedStandbyJobs.get());
+        stats.put("handed_off_jobs", this.handedOffJobs.get());
+        stats.put("taken_over_jobs", this.takenOverJobs.get());
+        stats.put("startup_recovering_shards", this.recoveringShards.size());
+        stats.put("startup_pending_jobs", this.recoveringJobs.size());
+        stats.put("startup_recovered_jobs", this.recoveredJobs.get());
+        stats.put("checkpointed_shards", this.sweepCheckpoints.size());
+        stats.put(
+            "deleted_job_tombstones",
+            this.sweptJobs.values().stream().mapToLong(jobs -> jobs.values().stream().filter(JobSweeper::isTombstone).count()).sum()
+        );
+        stats.put("millis_since_full_reconcile", TimeValue.nsecToMSec(System.nanoTime() - this.lastFullReconcileTimeNano));
+        stats.put("completed_sweeps", this.completedSweeps.get());
+        stats.put("last_sweep_wall_millis", this.lastSweepWallMillis);
+        stats.put("max_sweep_wall_millis", this.maxSweepWallMillis);
+        stats.put("two_phase_version_checked_jobs", this.versionCheckedJobs.get());
+        stats.put("two_phase_source_fetched_jobs", this.sourceFetchedJobs.get());
+        stats.put("workers", this.sweepWorkers.getStats());
+        return stats;
+    }
+
     @VisibleForTesting
     void sweep(ShardId shardId, String docId, BytesReference jobSource, JobDocVersion jobDocVersion) {
-        ConcurrentHashMap<String, JobDocVersion> jobVersionMap;
-        if (this.sweptJobs.containsKey(shardId)) {
-            jobVersionMap = this.sweptJobs.get(shardId);
-        } else {
-            jobVersionMap = new ConcurrentHashMap<>();
-            this.sweptJobs.put(shardId, jobVersionMap);
+        ConcurrentHashMap<String, JobDocVersion> jobVersionMap = this.sweptJobs.computeIfAbsent(shardId, id -> new ConcurrentHashMap<>());
+        if (jobDocVersion.compareTo(jobVersionMap.get(docId)) <= 0) {
+            log.debug("Skipping job {}, new version {} <= current version {}", docId, jobDocVersion, jobVersionMap.get(docId));
+            return;
         }
-        jobVersionMap.compute(docId, (id, currentJobDocVersion) -> {
+        String indexName = shardId.getIndexName();
+        // parsed outside of the version map, a delete of the job does not wait for a slow parser
+        ScheduledJobParameter jobParameter = null;
+        Exception parseFailure = null;
+        if (jobSource != null) {
+            try {
+                jobParameter = this.parseJob(indexName, docId, jobSource, jobDocVersion);
+            } catch (Exception e) {
+                parseFailure = e;
+            }
+        }
+        synchronized (this.jobLock(docId)) {
+            JobDocVersion currentJobDocVersion = jobVersionMap.get(docId);
             if (jobDocVersion.compareTo(currentJobDocVersion) <= 0) {
+                // deleted or updated again while the job was parsed
                 log.debug("Skipping job {}, new version {} <= current version {}", docId, jobDocVersion, currentJobDocVersion);
-                return currentJobDocVersion;
+                return;
             }
+            if (jobSource == null) {
+                this.descheduleIfScheduled(indexName, docId);
+                jobVersionMap.remove(docId);
+                return;
+            }
+            if (parseFailure != null) {
+                log.warn("Unable to parse job {}, error message: {}", docId, parseFailure.getMessage());
+                this.descheduleIfScheduled(indexName, docId);
+                return;
+            }
+            putSweptVersion(jobVersionMap, docId, this.scheduleJob(indexName, docId, jobParameter, jobDocVersion, null));
+        }
+    }
+
+    private static Object[] newJobLocks() {
+        Object[] locks = new Object[64];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    /**
+     * The swept version of a job is decided and the job scheduled under this lock rather than in a compute of the version
+     * map, which would hold the lock of a whole map bin and block the other jobs of the bin while the job is armed.
+     */
+    private Object jobLock(String docId) {
+        return this.jobLocks[Math.floorMod(docId.hashCode(), this.jobLocks.length)];
+    }
+
+    /**
+     * @param jobDocVersion version of the job to remember as swept, null if the document is not a scheduled job
+     */
+    private static void putSweptVersion(Map<String, JobDocVersion> jobVersionMap, String docId, JobDocVersion jobDocVersion) {
+        if (jobDocVersion == null) {
+            jobVersionMap.remove(docId);
+        } else {
+            jobVersionMap.put(docId, jobDocVersion);
+        }
+    }
+
+    /**
+     * @return true if the version is the tombstone of a deleted job, see {@link #postDelete}
+     */
+    private static boolean isTombstone(JobDocVersion jobDocVersion) {
+        return jobDocVersion != null && jobDocVersion.getVersion() == Versions.NOT_FOUND;
+    }
+
+    private ScheduledJobParameter parseJob(String indexName, String docId, BytesReference jobSource, JobDocVersion jobDocVersion)
+        throws IOException {
+        ScheduledJobProvider provider = this.indexToProviders.get(indexName);
+        XContentParser parser = XContentHelper.createParser(
+            this.xContentRegistry,
+            LoggingDeprecationHandler.INSTANCE,
+            jobSource,
+            XContentType.JSON
+        );
+        return provider.getJobParser().parse(parser, docId, jobDocVersion);
+    }
+
+    /**
+     * Schedules a parsed job owned by this node, replacing the scheduled version of the job.
+     *
+     * @param jobParameter          parsed job, null if the document is not a scheduled job
+     * @param expectedExecutionTime execution time the previous owner armed the job for if it handed the job off, or null
+     * @return version of the job to remember as swept, null if the document is not a scheduled job
+     */
+    private JobDocVersion scheduleJob(
+        String indexName,
+        String docId,
+        ScheduledJobParameter jobParameter,
+        JobDocVersion jobDocVersion,
+        Instant expectedExecutionTime
+    ) {
+        if (jobParameter == null) {
+            // allow parser to return null, which means this is not a scheduled job document.
+            this.descheduleIfScheduled(indexName, docId);
+            return null;
+        }
+        // updates that leave the timing alone, like status written back by a run, keep the armed timer
+        if (this.scheduler.updateInPlace(indexName, docId, jobParameter, jobDocVersion)) {
+            return jobDocVersion;
+        }
+        this.descheduleIfScheduled(indexName, docId);
+        ScheduledJobProvider provider = this.indexToProviders.get(indexName);
+        ScheduledJobRunner jobRunner = this.scheduler.runnerFor(provider.getJobType(), provider.getJobRunner());
+
+        if (expectedExecutionTime != null) {
+            this.scheduler.scheduleHandedOff(indexName, docId, jobParameter, jobRunner, jobDocVersion, jitterLimit, expectedExecutionTime);
+        } else {
+            this.scheduler.schedule(indexName, docId, jobParameter, jobRunner, jobDocVersion, jitterLimit);
+        }
+
+        return jobDocVersion;
+    }
+
+    /**
+     * Parses a job owned by another copy of the shard and puts it on standby, see {@link StandbyJobs}.
+     */
+    @VisibleForTesting
+    void standby(ShardId shardId, String docId, BytesReference jobSource, JobDocVersion jobDocVersion) {
+        if (!this.warmStandby || jobDocVersion.compareTo(this.standbyJobs.getVersion(shardId, docId)) <= 0) {
+            return;
+        }
+        if (jobSource == null) {
+            this.standbyJobs.put(shardId, docId, null, jobDocVersion);
+            return;
+        }
+        try {
+            ScheduledJobParameter jobParameter = this.parseJob(shardId.getIndexName(), docId, jobSource, jobDocVersion);
+            this.standbyJobs.put(shardId, docId, jobParameter, jobDocVersion);
+        } catch (Exception e) {
+            log.debug("Unable to parse standby job {}, error message: {}", docId, e.getMessage());
+        }
+    }
+
+    /**
+     * Parses a job read by the first sweep of a shard after this node started and keeps it with its next execution time,
+     * to be scheduled when it is within the window of jobs armed after the page, see {@link #scheduleRecoveredJobs}.
+     */
+    @VisibleForTesting
+    void recover(ShardId shardId, String docId, BytesReference jobSource, JobDocVersion jobDocVersion) {
+        ConcurrentHashMap<String, JobDocVersion> currentJobs = this.sweptJobs.get(shardId);
+        if (currentJobs != null && jobDocVersion.compareTo(currentJobs.get(docId)) <= 0) {
+            // indexed again since the node started and already scheduled
+            return;
+        }
+        try {
+            ScheduledJobParameter jobParameter = this.parseJob(shardId.getIndexName(), docId, jobSource, jobDocVersion);
+            this.recoveringJobs.put(shardId, docId, jobParameter, jobDocVersion, Instant.now());
+        } catch (Exception e) {
+            log.warn("Unable to parse job {}, error message: {}", docId, e.getMessage());
+        }
+    }
+
+    /**
+     * Schedules the jobs collected by the first sweep of a shard that are due before the end of the window, the soonest
+     * due first. The window is at least {@link #RECOVERY_MIN_WINDOW} and grows with the time the sweep has been reading,
+     * so a job is armed by the time half of the wait until its execution has passed, however long the read takes.
+     *
+     * @param untilDone true once the whole shard is read, the remaining jobs are scheduled regardless of their time
+     * @return number of scheduled jobs
+     */
+    private int scheduleRecoveredJobs(ShardId shardId, long startNanos, boolean untilDone) {
+        List<StandbyJobs.StandbyJob> recovered;
+        if (untilDone) {
+            recovered = this.recoveringJobs.pollAll(shardId);
+        } else {
+            long windowMillis = Math.max(RECOVERY_MIN_WINDOW.millis(), TimeValue.nsecToMSec(System.nanoTime() - startNanos));
+            recovered = this.recoveringJobs.pollDue(shardId, System.currentTimeMillis() + windowMillis);
+        }
+        this.scheduleParsedJobs(shardId, recovered, Map.of());
+        this.recoveredJobs.addAndGet(recovered.size());
+        return recovered.size();
+    }
+
+    private void endRecovery(ShardId shardId, ShardSweep shardSweep) {
+        if (this.recoveringShards.remove(shardId, shardSweep)) {
+            // jobs of a sweep that did not reach the end of the shard are read again by the next sweep
+            this.recoveringJobs.removeShards(shardId::equals);
+        }
+    }
 
-            if (this.scheduler.getScheduledJobIds(shardId.getIndexName()).contains(docId)) {
-                this.scheduler.deschedule(shardId.getIndexName(), docId);
+    /**
+     * Sweeps a job owned by this node, or puts it on standby if this node takes it over when its owner leaves. Owned jobs
+     * of a shard read for the first time on this node are collected first, see {@link #recover}.
+     */
+    private void sweepOrStandby(ShardId shardId, ShardNodes shardNodes, String docId, BytesReference jobSource, JobDocVersion version) {
+        if (shardNodes.isOwningNode(docId)) {
+            if (this.recoveringShards.containsKey(shardId)) {
+                this.recover(shardId, docId, jobSource, version);
+            } else {
+                this.sweep(shardId, docId, jobSource, version);
             }
-            if (jobSource != null) {
-                try {
-                    ScheduledJobProvider provider = this.indexToProviders.get(shardId.getIndexName());
-                    XContentParser parser = XContentHelper.createParser(
-                        this.xContentRegistry,
-                        LoggingDeprecationHandler.INSTANCE,
-                        jobSource,
-                        XContentType.JSON
-                    );
-                    ScheduledJobParameter jobParameter = provider.getJobParser().parse(parser, docId, jobDocVersion);
-                    if (jobParameter == null) {
-                        // allow parser to return null, which means this is not a scheduled job document.
-                        return null;
-                    }
-                    ScheduledJobRunner jobRunner = this.indexToProviders.get(shardId.getIndexName()).getJobRunner();
+        } else if (this.warmStandby && shardNodes.isStandbyNode(docId)) {
+            this.standby(shardId, docId, jobSource, version);
+        }
+    }
+
+    /**
+     * @return true if the source of the job has to be read, because this node owns it or has it on standby, and the
+     *         version is newer than the swept or standby one
+     */
+    private boolean needsJob(ShardId shardId, ShardNodes shardNodes, String docId, JobDocVersion jobDocVersion) {
+        if (shardNodes.isOwningNode(docId)) {
+            ConcurrentHashMap<String, JobDocVersion> currentJobs = this.sweptJobs.get(shardId);
+            return currentJobs == null || jobDocVersion.compareTo(currentJobs.get(docId)) > 0;
+        }
+        return this.warmStandby
+            && shardNodes.isStandbyNode(docId)
+            && jobDocVersion.compareTo(this.standbyJobs.getVersion(shardId, docId)) > 0;
+    }
 
-                    this.scheduler.schedule(shardId.getIndexName(), docId, jobParameter, jobRunner, jobDocVersion, jitterLimit);
+    /**
+     * Schedules the standby jobs of a shard that this node owns after a copy left, without reading the shard. The
+     * soonest due jobs are armed first.
+     *
+     * @param handedOffTimes execution times the previous owner armed the jobs for, by job id, if it handed them off
+     * @return number of promoted jobs
+     */
+    private int promoteStandbyJobs(ShardId shardId, ShardNodes shardNodes, Map<String, Long> handedOffTimes) {
+        List<StandbyJobs.StandbyJob> promoted = this.standbyJobs.promote(shardId, shardNodes::isOwningNode, Instant.now());
+        if (promoted.isEmpty()) {
+            return 0;
+        }
+        this.scheduleParsedJobs(shardId, promoted, handedOffTimes);
+        this.promotedStandbyJobs.addAndGet(promoted.size());
+        log.info("Promoted {} standby jobs of shard {}", promoted.size(), shardId);
+        return promoted.size();
+    }
 
-                    return jobDocVersion;
+    /**
+     * Schedules parsed jobs in the given order. A job swept with the same or a newer version in the meantime is left as is.
+     *
+     * @param handedOffTimes execution times the previous owner armed the jobs for, by job id, if it handed them off
+     */
+    private void scheduleParsedJobs(ShardId shardId, List<StandbyJobs.StandbyJob> jobs, Map<String, Long> handedOffTimes) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        ConcurrentHashMap<String, JobDocVersion> jobVersionMap = this.sweptJobs.computeIfAbsent(shardId, id -> new ConcurrentHashMap<>());
+        for (StandbyJobs.StandbyJob job : jobs) {
+            synchronized (this.jobLock(job.docId)) {
+                if (job.jobDocVersion.compareTo(jobVersionMap.get(job.docId)) <= 0) {
+                    continue;
+                }
+                Long handedOffTime = handedOffTimes.get(job.docId);
+                Instant expectedExecutionTime = handedOffTime == null ? null : Instant.ofEpochMilli(handedOffTime);
+                try {
+                    JobDocVersion swept = this.scheduleJob(
+                        shardId.getIndexName(),
+                        job.docId,
+                        job.jobParameter,
+                        job.jobDocVersion,
+                        expectedExecutionTime
+                    );
+                    putSweptVersion(jobVersionMap, job.docId, swept);
                 } catch (Exception e) {
-                    log.warn("Unable to parse job {}, error message: {}", docId, e.getMessage());
-                    return currentJobDocVersion;
+                    log.warn("Unable to schedule job {}, error message: {}", job.docId, e.getMessage());
                 }
-            } else {
-                return null;
             }
-        });
+        }
+    }
+
+    private void descheduleIfScheduled(String indexName, String docId) {
+        if (this.scheduler.getScheduledJobIds(indexName).contains(docId)) {
+            this.scheduler.deschedule(indexName, docId);
+        }
     }
 
     @Override
     public void clusterChanged(ClusterChangedEvent event) {
+        if (event.nodesRemoved()) {
+            this.forgetDrainingNodes(event.state().nodes());
+        }
         for (String indexName : indexToProviders.keySet()) {
-            if (event.indexRoutingTableChanged(indexName)) {
-                this.fullSweepExecutor.submit(() -> this.sweepIndex(indexName));
+            if (!event.indexRoutingTableChanged(indexName)) {
+                continue;
+            }
+            Set<ShardId> changedShards = changedShards(event.previousState().routingTable(), event.state().routingTable(), indexName);
+            if (changedShards.isEmpty()) {
+                // copies started initializing or a replica was promoted, the owner of every job stays the same
+                continue;
+            }
+            this.requestShardSweep(indexName, changedShards);
+        }
+    }
+
+    /**
+     * Sweeps the given shards of a job index on the sweeper thread. Shards requested while a sweep of the index is still
+     * waiting for the sweeper thread are added to that sweep.
+     */
+    private void requestShardSweep(String indexName, Set<ShardId> changedShards) {
+        boolean[] pending = new boolean[1];
+        this.pendingRoutingChanges.compute(indexName, (name, shards) -> {
+            pending[0] = shards != null;
+            Set<ShardId> merged = shards == null ? new HashSet<>() : shards;
+            merged.addAll(changedShards);
+            return merged;
+        });
+        if (pending[0]) {
+            this.coalescedRoutingChanges.incrementAndGet();
+            return;
+        }
+        // planned on the sweeper thread, the shard sweeps run on the worker pool without blocking later changes
+        this.fullSweepExecutor.submit(() -> this.sweepChangedShards(indexName));
+    }
+
+    private synchronized void forgetDrainingNodes(DiscoveryNodes nodes) {
+        if (this.drainingNodeIds.isEmpty()) {
+            return;
+        }
+        // the rings already leave out the copies of the draining nodes, they stay the same once the nodes are gone
+        Set<String> drainingNodeIds = new HashSet<>(this.drainingNodeIds);
+        drainingNodeIds.removeIf(nodeId -> !nodes.nodeExists(nodeId));
+        this.drainingNodeIds = Set.copyOf(drainingNodeIds);
+    }
+
+    /**
+     * Sweeps the local shards of a job index whose active copies changed since the routing changes were recorded.
+     */
+    private CompletableFuture<Void> sweepChangedShards(String indexName) {
+        long startNanos = System.nanoTime();
+        Set<ShardId> changedShards = this.pendingRoutingChanges.remove(indexName);
+        Map<ShardId, ShardNodes> shards = new LinkedHashMap<>();
+        // shards that left this node or an index that was removed are handled here, whatever changed
+        for (Map.Entry<ShardId, ShardNodes> shard : this.prepareIndexSweep(indexName).entrySet()) {
+            if (changedShards != null && changedShards.contains(shard.getKey())) {
+                shards.put(shard.getKey(), shard.getValue());
+                // jobs of a copy that left are armed before the shard is read
+                this.promoteStandbyJobs(shard.getKey(), shard.getValue(), Map.of());
+            }
+        }
+        return this.startShardSweeps(List.of(indexName), shards, false, startNanos);
+    }
+
+    /**
+     * Compares the active copies of every shard of a job index in two routing tables.
+     *
+     * @return ids of the shards whose copies are on a different set of nodes, including shards only in one of the tables
+     */
+    static Set<ShardId> changedShards(RoutingTable previous, RoutingTable current, String indexName) {
+        Map<ShardId, Set<String>> previousNodes = activeShardNodeIds(previous.index(indexName));
+        Map<ShardId, Set<String>> currentNodes = activeShardNodeIds(current.index(indexName));
+        Set<ShardId> changed = new HashSet<>();
+        for (Map.Entry<ShardId, Set<String>> shard : currentNodes.entrySet()) {
+            if (!shard.getValue().equals(previousNodes.get(shard.getKey()))) {
+                changed.add(shard.getKey());
+            }
+        }
+        for (ShardId shardId : previousNodes.keySet()) {
+            if (!currentNodes.containsKey(shardId)) {
+                changed.add(shardId);
+            }
+        }
+        return changed;
+    }
+
+    private static Map<ShardId, Set<String>> activeShardNodeIds(IndexRoutingTable indexRoutingTable) {
+        if (indexRoutingTable == null) {
+            return Map.of();
+        }
+        Map<ShardId, Set<String>> nodeIds = new HashMap<>();
+        for (IndexShardRoutingTable shardRoutingTable : indexRoutingTable) {
+            Set<String> shardNodeIds = new HashSet<>();
+            for (ShardRouting shardRouting : shardRoutingTable.activeShards()) {
+                shardNodeIds.add(shardRouting.currentNodeId());
             }
+            nodeIds.put(shardRoutingTable.shardId(), shardNodeIds);
         }
+        return nodeIds;
     }
 
     @VisibleForTesting
@@ -324,26 +1137,164 @@ public class JobSweeper extends LifecycleListener implements IndexingOperationLi
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-    private void sweepAllJobIndices() {
-        for (String indexName : this.indexToProviders.keySet()) {
-            this.sweepIndex(indexName);
+    /**
+     * Starts the periodic sweep of every job index. The sweeper thread only plans the shard sweeps, it does not wait for
+     * them, so sweeps requested by routing changes are planned while the periodic sweep runs.
+     *
+     * @return future completed once the periodic sweep is done
+     */
+    @VisibleForTesting
+    CompletableFuture<Void> sweepAllJobIndices() {
+        CompletableFuture<Void> running = this.runningFullSweep;
+        if (running != null && !running.isDone()) {
+            log.info("Skipping full sweep, the previous one is still running");
+            return running;
         }
-        this.lastFullSweepTimeNano = System.nanoTime();
+        // periodic sweeps are incremental, every full reconcile period all shards are read from the start again
+        boolean fullReconcile = System.nanoTime() - this.lastFullReconcileTimeNano >= this.fullReconcilePeriod.nanos();
+        CompletableFuture<Void> sweep;
+        boolean primariesActive = false;
+        try {
+            primariesActive = this.allPrimariesActive(this.clusterService.state(), this.indexToProviders.keySet());
+            sweep = this.startSweep(this.indexToProviders.keySet(), fullReconcile);
+        } catch (Exception e) {
+            sweep = CompletableFuture.failedFuture(e);
+        }
+        boolean startupSwept = primariesActive;
+        this.runningFullSweep = sweep.whenComplete((result, e) -> {
+            if (e != null) {
+                log.warn("Full sweep failed", e);
+            }
+            this.lastFullSweepTimeNano = System.nanoTime();
+            if (startupSwept && e == null) {
+                this.startupSweepDone = true;
+            }
+            if (fullReconcile) {
+                this.lastFullReconcileTimeNano = this.lastFullSweepTimeNano;
+            }
+        }).exceptionally(e -> null);
+        return this.runningFullSweep;
+    }
+
+    private boolean allPrimariesActive(ClusterState clusterState, Set<String> indexNames) {
+        for (String indexName : indexNames) {
+            IndexRoutingTable indexRoutingTable = clusterState.routingTable().index(indexName);
+            if (indexRoutingTable != null && !indexRoutingTable.allPrimaryShardsActive()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @VisibleForTesting
     void sweepIndex(String indexName) {
+        this.sweepIndex(indexName, false);
+    }
+
+    /**
+     * Sweeps the local shards of a job index and waits for the sweep to finish.
+     *
+     * @param indexName     job index name
+     * @param fullReconcile true to read every document of the shards, otherwise only documents after the checkpoint of
+     *                      the previous sweep are read and shards without new operations are skipped
+     */
+    @VisibleForTesting
+    void sweepIndex(String indexName, boolean fullReconcile) {
+        this.startSweep(List.of(indexName), fullReconcile).join();
+    }
+
+    /**
+     * Starts a sweep of the local shards of the given job indices. The shards are swept in parallel, their steps run on
+     * the sweep worker pool round robin across indices, and searches are asynchronous so no worker waits on a slow
+     * shard.
+     *
+     * @return future completed once every shard of the sweep has been swept
+     */
+    private CompletableFuture<Void> startSweep(Collection<String> indexNames, boolean fullReconcile) {
+        long startNanos = System.nanoTime();
+        Map<ShardId, ShardNodes> shards = new LinkedHashMap<>();
+        for (String indexName : indexNames) {
+            shards.putAll(this.prepareIndexSweep(indexName));
+        }
+        return this.startShardSweeps(indexNames, shards, fullReconcile, startNanos);
+    }
+
+    private CompletableFuture<Void> startShardSweeps(
+        Collection<String> indexNames,
+        Map<ShardId, ShardNodes> shards,
+        boolean fullReconcile,
+        long startNanos
+    ) {
+        if (shards.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<?>[] shardSweeps = new CompletableFuture<?>[shards.size()];
+        int i = 0;
+        for (Map.Entry<ShardId, ShardNodes> shard : shards.entrySet()) {
+            shardSweeps[i++] = this.startShardSweep(shard.getKey(), shard.getValue(), fullReconcile);
+        }
+        return CompletableFuture.allOf(shardSweeps).thenRun(() -> this.recordSweep(indexNames, shards.size(), startNanos));
+    }
+
+    /**
+     * Starts a sweep of a shard once the sweep of the shard that is already running, if any, is done. A running sweep
+     * that computed ownership against a different ring is cancelled, its remaining pages would be swept with stale
+     * owners.
+     *
+     * @return future completed once the shard has been swept
+     */
+    private CompletableFuture<Void> startShardSweep(ShardId shardId, ShardNodes shardNodes, boolean fullReconcile) {
+        ShardSweep shardSweep = new ShardSweep(shardId, shardNodes, fullReconcile);
+        ShardSweep previous = this.activeShardSweeps.put(shardId, shardSweep);
+        shardSweep.done.whenComplete((result, e) -> this.activeShardSweeps.remove(shardId, shardSweep));
+        if (previous == null) {
+            shardSweep.submit();
+        } else {
+            if (!previous.shardNodes.layout.equals(shardNodes.layout)) {
+                previous.cancel();
+            }
+            previous.done.whenComplete((result, e) -> shardSweep.submit());
+        }
+        return shardSweep.done;
+    }
+
+    private void cancelShardSweeps(Predicate<ShardId> shards) {
+        for (ShardSweep shardSweep : this.activeShardSweeps.values()) {
+            if (shards.test(shardSweep.shardId)) {
+                shardSweep.cancel();
+            }
+        }
+    }
+
+    private void recordSweep(Collection<String> indexNames, int shardCount, long startNanos) {
+        long wallMillis = TimeValue.nsecToMSec(System.nanoTime() - startNanos);
+        this.lastSweepWallMillis = wallMillis;
+        this.maxSweepWallMillis = Math.max(this.maxSweepWallMillis, wallMillis);
+        this.completedSweeps.incrementAndGet();
+        log.info("Swept {} shards of job indices {} in {}ms", shardCount, indexNames, wallMillis);
+    }
+
+    /**
+     * Deschedules the jobs of shards that are no longer on this node.
+     *
+     * @return the local shards of the index to sweep, with the copies job ownership is computed against
+     */
+    private Map<ShardId, ShardNodes> prepareIndexSweep(String indexName) {
         ClusterState clusterState = this.clusterService.state();
         // checks to see if index no longer exists
         if (!clusterState.routingTable().hasIndex(indexName)) {
-            // deschedule jobs for this index
-            for (ShardId shardId : this.sweptJobs.keySet()) {
-                if (shardId.getIndexName().equals(indexName) && this.sweptJobs.containsKey(shardId)) {
-                    log.info("Descheduling jobs, shard {} index {} as the index is removed.", shardId.getId(), indexName);
-                    this.scheduler.bulkDeschedule(shardId.getIndexName(), this.sweptJobs.get(shardId).keySet());
-                }
-            }
-            return;
+            // deschedule all jobs of this index at once and forget their versions, a re-created index starts over
+            log.info("Descheduling jobs of index {} as the index is removed.", indexName);
+            this.scheduler.descheduleIndex(indexName);
+            this.sweptJobs.keySet().removeIf(shardId -> shardId.getIndexName().equals(indexName));
+            this.sweepCheckpoints.keySet().removeIf(shardId -> shardId.getIndexName().equals(indexName));
+            this.shardMaxSeqNos.keySet().removeIf(shardId -> shardId.getIndexName().equals(indexName));
+            this.cancelShardSweeps(shardId -> shardId.getIndexName().equals(indexName));
+            this.shardNodesCache.keySet().removeIf(shardId -> shardId.getIndexName().equals(indexName));
+            this.jobUpdateQueues.keySet().removeIf(shardId -> shardId.getIndexName().equals(indexName));
+            this.standbyUpdateQueues.keySet().removeIf(shardId -> shardId.getIndexName().equals(indexName));
+            this.standbyJobs.removeShards(shardId -> shardId.getIndexName().equals(indexName));
+            return Map.of();
         }
         String localNodeId = clusterState.getNodes().getLocalNodeId();
         Map<ShardId, List<ShardRouting>> localShards = this.getLocalShards(clusterState, localNodeId, indexName);
@@ -363,128 +1314,448 @@ public class JobSweeper extends LifecycleListener implements IndexingOperationLi
                 sweptJobIter.remove();
             }
         }
+        this.sweepCheckpoints.keySet().removeIf(shardId -> shardId.getIndexName().equals(indexName) && !localShards.containsKey(shardId));
+        this.shardMaxSeqNos.keySet().removeIf(shardId -> shardId.getIndexName().equals(indexName) && !localShards.containsKey(shardId));
+        this.cancelShardSweeps(shardId -> shardId.getIndexName().equals(indexName) && !localShards.containsKey(shardId));
+        this.shardNodesCache.keySet().removeIf(shardId -> shardId.getIndexName().equals(indexName) && !localShards.containsKey(shardId));
+        this.jobUpdateQueues.keySet().removeIf(shardId -> shardId.getIndexName().equals(indexName) && !localShards.containsKey(shardId));
+        this.standbyUpdateQueues.keySet()
+            .removeIf(shardId -> shardId.getIndexName().equals(indexName) && !localShards.containsKey(shardId));
+        this.standbyJobs.removeShards(shardId -> shardId.getIndexName().equals(indexName) && !localShards.containsKey(shardId));
 
-        // sweep each local shard
-        for (Map.Entry<ShardId, List<ShardRouting>> shard : localShards.entrySet()) {
-            try {
-                List<ShardRouting> shardRoutingList = shard.getValue();
-                List<String> shardNodeIds = shardRoutingList.stream().map(ShardRouting::currentNodeId).collect(Collectors.toList());
-                sweepShard(shard.getKey(), new ShardNodes(localNodeId, shardNodeIds), -1L);
-            } catch (Exception e) {
-                log.info("Error while sweeping shard {}, error message: {}", shard.getKey(), e.getMessage());
-            }
+        Map<ShardId, ShardNodes> shards = new LinkedHashMap<>();
+        for (ShardId shardId : localShards.keySet()) {
+            shards.put(shardId, this.shardNodes(localNodeId, clusterState.routingTable().shardRoutingTable(shardId), clusterState.nodes()));
         }
+        return shards;
     }
 
-    private void sweepShard(ShardId shardId, ShardNodes shardNodes, long startAfter) {
-        ConcurrentHashMap<String, JobDocVersion> currentJobs = this.sweptJobs.containsKey(shardId)
-            ? this.sweptJobs.get(shardId)
-            : new ConcurrentHashMap<>();
+    /**
+     * Visitor sweeping the local copy of a shard straight from Lucene. Only the sources of owned and standby jobs with a
+     * newer version than the swept or standby one are loaded.
+     */
+    private LocalShardReader.JobDocVisitor localJobVisitor(ShardId shardId, ShardNodes shardNodes) {
+        return new LocalShardReader.JobDocVisitor() {
+            @Override
+            public boolean needsSource(String docId, JobDocVersion jobDocVersion) {
+                return JobSweeper.this.needsJob(shardId, shardNodes, docId, jobDocVersion);
+            }
 
-        for (String jobId : currentJobs.keySet()) {
+            @Override
+            public void visit(String docId, BytesReference jobSource, JobDocVersion jobDocVersion) {
+                JobSweeper.this.sweepOrStandby(shardId, shardNodes, docId, jobSource, jobDocVersion);
+            }
+        };
+    }
 
-            if (!shardNodes.isOwningNode(jobId)) {
-                this.scheduler.deschedule(shardId.getIndexName(), jobId);
-                currentJobs.remove(jobId);
+    /**
+     * Second phase of a two phase sweep page: fetches the sources of the owned and standby jobs whose version differs
+     * from the swept or standby one with a single multi-get.
+     *
+     * @return future of the fetched jobs, completed with null if no job changed
+     */
+    private CompletableFuture<MultiGetResponse> fetchChangedJobs(ShardId shardId, ShardNodes shardNodes, SearchHits hits) {
+        MultiGetRequest multiGetRequest = new MultiGetRequest().preference("_primary").realtime(true);
+        for (SearchHit hit : hits) {
+            String jobId = hit.getId();
+            if (!shardNodes.isOwningNode(jobId) && !(this.warmStandby && shardNodes.isStandbyNode(jobId))) {
+                continue;
+            }
+            this.versionCheckedJobs.incrementAndGet();
+            JobDocVersion version = new JobDocVersion(hit.getPrimaryTerm(), hit.getSeqNo(), hit.getVersion());
+            if (this.needsJob(shardId, shardNodes, jobId, version)) {
+                // a job indexed with a custom routing is only found on its shard when fetched with the same routing
+                DocumentField routing = hit.field(RoutingFieldMapper.NAME);
+                MultiGetRequest.Item item = new MultiGetRequest.Item(shardId.getIndexName(), jobId);
+                multiGetRequest.add(routing == null ? item : item.routing(routing.getValue()));
             }
         }
+        if (multiGetRequest.getItems().isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return this.retry((request, listener) -> this.client.multiGet(request, listener), multiGetRequest, this.sweepSearchBackoff);
+    }
 
-        long searchAfter = startAfter;
-        while (searchAfter >= -1L) {
-            SearchRequest jobSearchRequest = new SearchRequest().indices(shardId.getIndexName())
-                .preference("_shards:" + shardId.id() + "|_primary")
-                .source(
-                    new SearchSourceBuilder().version(true)
-                        .seqNoAndPrimaryTerm(true)
-                        .sort(new FieldSortBuilder("_seq_no").unmappedType("long"))
-                        .searchAfter(new Long[] { searchAfter })
-                        .size(this.sweepPageMaxSize)
-                        .query(QueryBuilders.matchAllQuery())
-                );
-
-            SearchResponse response;
-            try {
-                response = this.retry((searchRequest) -> this.client.search(searchRequest), jobSearchRequest, this.sweepSearchBackoff)
-                    .actionGet(this.sweepSearchTimeout);
-            } catch (Exception e) {
-                log.error("Aborting sweep of shard {}, will retry on next sweep cycle.", shardId, e);
-                return;
-            }
-            if (response.status() != RestStatus.OK) {
-                log.error("Error sweeping shard {}, failed querying jobs on this shard", shardId);
-                return;
+    private void sweepFetchedJobs(ShardId shardId, ShardNodes shardNodes, MultiGetResponse response) {
+        if (response == null) {
+            return;
+        }
+        for (MultiGetItemResponse item : response.getResponses()) {
+            if (item.isFailed()) {
+                log.warn("Unable to fetch job {} of shard {}, error message: {}", item.getId(), shardId, item.getFailure().getMessage());
+                continue;
             }
-            for (SearchHit hit : response.getHits()) {
-                String jobId = hit.getId();
-                if (shardNodes.isOwningNode(jobId)) {
-                    this.sweep(
-                        shardId,
-                        jobId,
-                        hit.getSourceRef(),
-                        new JobDocVersion(hit.getPrimaryTerm(), hit.getSeqNo(), hit.getVersion())
-                    );
-                }
+            GetResponse getResponse = item.getResponse();
+            if (!getResponse.isExists()) {
+                // deleted since the first phase, postDelete takes care of it
+                continue;
             }
-            if (response.getHits() == null || response.getHits().getHits().length < 1) {
-                break;
+            this.sourceFetchedJobs.incrementAndGet();
+            this.sweepOrStandby(
+                shardId,
+                shardNodes,
+                getResponse.getId(),
+                getResponse.getSourceAsBytesRef(),
+                new JobDocVersion(getResponse.getPrimaryTerm(), getResponse.getSeqNo(), getResponse.getVersion())
+            );
+        }
+    }
+
+    /**
+     * Sends a request and retries it after the delays of the backoff policy as long as it fails with a retryable
+     * status. Retries are scheduled on the thread pool, no thread waits for them.
+     *
+     * @return future of the response, failed if no response arrived within the request timeout
+     */
+    private <T, R> CompletableFuture<R> retry(BiConsumer<T, ActionListener<R>> action, T request, BackoffPolicy backoffPolicy) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        this.retry(action, request, backoffPolicy.iterator(), future);
+        return future.orTimeout(this.sweepSearchTimeout.millis(), TimeUnit.MILLISECONDS);
+    }
+
+    private <T, R> void retry(
+        BiConsumer<T, ActionListener<R>> action,
+        T request,
+        Iterator<TimeValue> backoff,
+        CompletableFuture<R> future
+    ) {
+        if (future.isDone()) {
+            // timed out while waiting for the retry
+            return;
+        }
+        ActionListener<R> listener = ActionListener.wrap(future::complete, e -> {
+            if (e instanceof OpenSearchException && backoff.hasNext() && RETRYABLE_STATUS.contains(((OpenSearchException) e).status())) {
+                this.threadPool.schedule(() -> this.retry(action, request, backoff, future), backoff.next(), ThreadPool.Names.SAME);
             } else {
-                SearchHit lastHit = response.getHits().getHits()[response.getHits().getHits().length - 1];
-                searchAfter = lastHit.getSeqNo();
+                future.completeExceptionally(e);
             }
+        });
+        try {
+            action.accept(request, listener);
+        } catch (Exception e) {
+            listener.onFailure(e);
         }
     }
 
-    private <T, R> R retry(Function<T, R> function, T param, BackoffPolicy backoffPolicy) {
-        Set<RestStatus> retryalbeStatus = Sets.newHashSet(
-            RestStatus.BAD_GATEWAY,
-            RestStatus.GATEWAY_TIMEOUT,
-            RestStatus.SERVICE_UNAVAILABLE
-        );
-        Iterator<TimeValue> iter = backoffPolicy.iterator();
-        do {
+    /**
+     * Sweep of one local shard. Each step runs as a task on the sweep worker pool and searches are asynchronous: the
+     * next page is requested before the current one is swept, and a worker is only busy while a page is swept. The
+     * steps of a sweep run one after the other.
+     */
+    private final class ShardSweep {
+        private final ShardId shardId;
+        private final ShardNodes shardNodes;
+        private final boolean fullReconcile;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile boolean cancelled;
+        private long startAfter = -1L;
+        private boolean twoPhase;
+        private long recoveryStartNanos;
+        // highest _seq_no applied to the shard when the read began
+        private long readStartSeqNo = SequenceNumbers.NO_OPS_PERFORMED;
+
+        private ShardSweep(ShardId shardId, ShardNodes shardNodes, boolean fullReconcile) {
+            this.shardId = shardId;
+            this.shardNodes = shardNodes;
+            this.fullReconcile = fullReconcile;
+        }
+
+        private void submit() {
+            this.execute(this::start);
+        }
+
+        /**
+         * Stops the sweep before its next step, a page that is being swept is finished.
+         */
+        private void cancel() {
+            this.cancelled = true;
+        }
+
+        private void execute(Runnable step) {
             try {
-                return function.apply(param);
-            } catch (OpenSearchException e) {
-                if (iter.hasNext() && retryalbeStatus.contains(e.status())) {
+                JobSweeper.this.sweepWorkers.submit(this.shardId.getIndexName(), () -> {
                     try {
-                        Thread.sleep(iter.next().millis());
-                    } catch (InterruptedException ex) {
-                        throw e;
+                        step.run();
+                    } catch (Exception e) {
+                        log.info("Error while sweeping shard {}, error message: {}", this.shardId, e.getMessage());
+                        this.done.complete(null);
                     }
-                } else {
-                    throw e;
+                });
+            } catch (RejectedExecutionException e) {
+                log.debug("Not sweeping shard {}, the sweeper is shut down", this.shardId);
+                this.done.complete(null);
+            }
+        }
+
+        /**
+         * Starts the first read of the shard after this node started. Its jobs are parsed and collected with their next
+         * execution time as they are read, after each page the jobs due within a window are scheduled soonest due first
+         * and the rest once the whole shard is read, so a job due in seconds does not wait for every job indexed before it
+         * to be scheduled, nor for the read to end. Once a periodic sweep that started with every job primary active
+         * finished, the node is started and shards first read after that are swept as usual: they were moved to this node
+         * or created, their jobs ran on their previous owner until then and are not due all at once.
+         */
+        private void startRecovery() {
+            this.recoveryStartNanos = System.nanoTime();
+            JobSweeper.this.recoveringShards.put(this.shardId, this);
+            this.done.whenComplete((result, e) -> JobSweeper.this.endRecovery(this.shardId, this));
+        }
+
+        /**
+         * Called once the sweep read the shard up to its end.
+         */
+        private void finishRead() {
+            ConcurrentHashMap<String, JobDocVersion> currentJobs = JobSweeper.this.sweptJobs.get(this.shardId);
+            if (this.readStartSeqNo >= 0 && currentJobs != null) {
+                // the jobs deleted before the read started were not found by it, by now the updates queued before their delete
+                // have been parsed
+                currentJobs.values().removeIf(version -> isTombstone(version) && version.getSeqNo() <= this.readStartSeqNo);
+            }
+            this.finishRecovery();
+        }
+
+        private void finishRecovery() {
+            if (JobSweeper.this.recoveringShards.remove(this.shardId, this)) {
+                JobSweeper.this.scheduleRecoveredJobs(this.shardId, this.recoveryStartNanos, true);
+                log.info(
+                    "Scheduled the jobs of shard {} soonest due first, {} ms after the shard sweep started",
+                    this.shardId,
+                    TimeValue.nsecToMSec(System.nanoTime() - this.recoveryStartNanos)
+                );
+            }
+        }
+
+        /**
+         * Called after a page of the shard was swept.
+         */
+        private void finishPage() {
+            if (JobSweeper.this.recoveringShards.get(this.shardId) == this) {
+                JobSweeper.this.scheduleRecoveredJobs(this.shardId, this.recoveryStartNanos, false);
+            }
+        }
+
+        private boolean stopIfCancelled() {
+            if (!this.cancelled) {
+                return false;
+            }
+            log.info("Cancelled sweep of shard {}, the routing of the shard changed", this.shardId);
+            JobSweeper.this.cancelledShardSweeps.incrementAndGet();
+            this.done.complete(null);
+            return true;
+        }
+
+        private void start() {
+            if (this.stopIfCancelled()) {
+                return;
+            }
+            SweepCheckpoint checkpoint = this.fullReconcile ? null : JobSweeper.this.sweepCheckpoints.get(this.shardId);
+            if (checkpoint != null && !checkpoint.ringLayout.equals(this.shardNodes.layout)) {
+                // the shard copies or their weights changed, ownership of documents before the checkpoint may have moved to this node
+                checkpoint = null;
+            }
+            if (checkpoint != null) {
+                if (JobSweeper.this.shardMaxSeqNos.getOrDefault(this.shardId, SequenceNumbers.NO_OPS_PERFORMED) <= checkpoint.seqNo) {
+                    log.debug("Skipping sweep of shard {}, no operations after seq_no {}", this.shardId, checkpoint.seqNo);
+                    JobSweeper.this.skippedShardSweeps.incrementAndGet();
+                    this.done.complete(null);
+                    return;
+                }
+                // documents indexed after the checkpoint but not yet visible to search are swept by postIndex on their owner,
+                // the next full reconcile picks up anything missed in between
+                this.startAfter = checkpoint.seqNo;
+                this.readStartSeqNo = JobSweeper.this.shardMaxSeqNos.getOrDefault(this.shardId, SequenceNumbers.NO_OPS_PERFORMED);
+                JobSweeper.this.incrementalShardSweeps.incrementAndGet();
+            } else {
+                JobSweeper.this.fullShardSweeps.incrementAndGet();
+                // the shard is read from the start, standby jobs this node no longer takes over are dropped
+                JobSweeper.this.standbyJobs.retain(this.shardId, this.shardNodes::isStandbyNode);
+                this.readStartSeqNo = JobSweeper.this.shardMaxSeqNos.getOrDefault(this.shardId, SequenceNumbers.NO_OPS_PERFORMED);
+                if (JobSweeper.this.startupPrioritization
+                    && !JobSweeper.this.startupSweepDone
+                    && !JobSweeper.this.sweepCheckpoints.containsKey(this.shardId)) {
+                    this.startRecovery();
                 }
             }
-        } while (true);
-    }
 
-    private static class ShardNodes {
-        private static final int VIRTUAL_NODE_COUNT = 100;
+            ConcurrentHashMap<String, JobDocVersion> currentJobs = JobSweeper.this.sweptJobs.containsKey(this.shardId)
+                ? JobSweeper.this.sweptJobs.get(this.shardId)
+                : new ConcurrentHashMap<>();
 
-        String localNodeId;
-        Collection<String> activeShardNodeIds;
-        private TreeMap<Integer, String> circle;
+            for (String jobId : currentJobs.keySet()) {
 
-        ShardNodes(String localNodeId, Collection<String> activeShardNodeIds) {
-            this.localNodeId = localNodeId;
-            this.activeShardNodeIds = activeShardNodeIds;
-            this.circle = new TreeMap<>();
-            for (String node : activeShardNodeIds) {
-                for (int i = 0; i < VIRTUAL_NODE_COUNT; i++) {
-                    this.circle.put(Murmur3HashFunction.hash(node + i), node);
+                if (!this.shardNodes.isOwningNode(jobId)) {
+                    JobSweeper.this.scheduler.deschedule(this.shardId.getIndexName(), jobId);
+                    currentJobs.remove(jobId);
+                }
+            }
+
+            if (JobSweeper.this.sweepLocalReader && JobSweeper.this.localShardReader.canRead(this.shardId)) {
+                try {
+                    LocalShardReader.ShardRead read = JobSweeper.this.localShardReader.open(this.shardId, this.startAfter);
+                    // the searcher is released however the sweep ends, also if a page is never run
+                    this.done.whenComplete((result, e) -> read.close());
+                    this.readLocalPage(read, JobSweeper.this.localJobVisitor(this.shardId, this.shardNodes));
+                    return;
+                } catch (ShardNotFoundException | IllegalIndexShardStateException e) {
+                    // the local copy was closed or relocated since the check, read the shard through search instead
+                    log.debug("Local copy of shard {} is not readable, sweeping it through search", this.shardId);
+                } catch (Exception e) {
+                    log.error("Aborting sweep of shard {}, will retry on next sweep cycle.", this.shardId, e);
+                    this.done.complete(null);
+                    return;
                 }
             }
+
+            // in two phase mode pages only carry ids and versions, sources are fetched for changed jobs only
+            this.twoPhase = JobSweeper.this.sweepTwoPhase;
+            this.onPage(this.fetchPage(this.startAfter), this.startAfter);
         }
 
-        boolean isOwningNode(String jobId) {
-            if (this.circle.isEmpty()) {
-                return false;
+        /**
+         * Reads a page of the local copy of the shard and submits the read of the next page as a new task, so a large
+         * shard does not hold a sweep worker for the whole read.
+         */
+        private void readLocalPage(LocalShardReader.ShardRead read, LocalShardReader.JobDocVisitor visitor) {
+            if (this.stopIfCancelled()) {
+                return;
+            }
+            boolean more;
+            try {
+                more = read.readPage(JobSweeper.this.sweepPageMaxSize, visitor);
+            } catch (Exception e) {
+                log.error("Aborting sweep of shard {}, will retry on next sweep cycle.", this.shardId, e);
+                this.done.complete(null);
+                return;
+            }
+            if (more) {
+                this.finishPage();
+                this.execute(() -> this.readLocalPage(read, visitor));
+                return;
+            }
+            JobSweeper.this.localShardReads.incrementAndGet();
+            JobSweeper.this.sweepCheckpoints.put(this.shardId, new SweepCheckpoint(read.checkpoint(), this.shardNodes.layout));
+            this.finishRead();
+            this.done.complete(null);
+        }
+
+        private CompletableFuture<SearchResponse> fetchPage(long searchAfter) {
+            SearchSourceBuilder searchSource = new SearchSourceBuilder().version(true)
+                .seqNoAndPrimaryTerm(true)
+                .sort(new FieldSortBuilder("_seq_no").unmappedType("long"))
+                .searchAfter(new Long[] { searchAfter })
+                .size(JobSweeper.this.sweepPageMaxSize)
+                .query(QueryBuilders.matchAllQuery());
+            if (this.twoPhase) {
+                searchSource.fetchSource(false);
+            }
+            SearchRequest jobSearchRequest = new SearchRequest().indices(this.shardId.getIndexName())
+                .preference("_shards:" + this.shardId.id() + "|_primary")
+                .source(searchSource);
+            return JobSweeper.this.retry(
+                (request, listener) -> JobSweeper.this.client.search(request, listener),
+                jobSearchRequest,
+                JobSweeper.this.sweepSearchBackoff
+            );
+        }
+
+        private void onPage(CompletableFuture<SearchResponse> page, long searchAfter) {
+            // responses arrive on transport threads, the page is swept on the worker pool
+            page.whenComplete((response, e) -> this.execute(() -> this.sweepPage(response, e, searchAfter)));
+        }
+
+        private void sweepPage(SearchResponse response, Throwable failure, long searchAfter) {
+            if (this.stopIfCancelled()) {
+                return;
+            }
+            if (failure != null) {
+                log.error("Aborting sweep of shard {}, will retry on next sweep cycle.", this.shardId, failure);
+                this.done.complete(null);
+                return;
             }
-            int jobHashCode = Murmur3HashFunction.hash(jobId);
-            String nodeId = this.circle.higherEntry(jobHashCode) == null
-                ? this.circle.firstEntry().getValue()
-                : this.circle.higherEntry(jobHashCode).getValue();
-            return this.localNodeId.equals(nodeId);
+            if (response.status() != RestStatus.OK) {
+                log.error("Error sweeping shard {}, failed querying jobs on this shard", this.shardId);
+                this.done.complete(null);
+                return;
+            }
+            SearchHits hits = response.getHits();
+            if (hits == null || hits.getHits().length < 1) {
+                // only a sweep that reached the end of the shard moves the checkpoint
+                JobSweeper.this.sweepCheckpoints.put(
+                    this.shardId,
+                    new SweepCheckpoint(Math.max(searchAfter, this.startAfter), this.shardNodes.layout)
+                );
+                this.finishRead();
+                this.done.complete(null);
+                return;
+            }
+            long lastSeqNo = hits.getHits()[hits.getHits().length - 1].getSeqNo();
+            // the next page is on its way while this one is swept
+            CompletableFuture<SearchResponse> nextPage = this.fetchPage(lastSeqNo);
+            if (this.twoPhase) {
+                CompletableFuture<MultiGetResponse> changedJobs = JobSweeper.this.fetchChangedJobs(this.shardId, this.shardNodes, hits);
+                changedJobs.whenComplete((fetched, e) -> this.execute(() -> {
+                    if (this.stopIfCancelled()) {
+                        return;
+                    }
+                    if (e != null) {
+                        log.error("Aborting sweep of shard {}, failed fetching changed jobs, will retry on next sweep cycle.", shardId, e);
+                        this.done.complete(null);
+                        return;
+                    }
+                    JobSweeper.this.sweepFetchedJobs(this.shardId, this.shardNodes, fetched);
+                    this.finishPage();
+                    this.onPage(nextPage, lastSeqNo);
+                }));
+                return;
+            }
+            for (SearchHit hit : hits) {
+                JobSweeper.this.sweepOrStandby(
+                    this.shardId,
+                    this.shardNodes,
+                    hit.getId(),
+                    hit.getSourceRef(),
+                    new JobDocVersion(hit.getPrimaryTerm(), hit.getSeqNo(), hit.getVersion())
+                );
+            }
+            this.finishPage();
+            this.onPage(nextPage, lastSeqNo);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ShardJobConsumer {
+        void accept(ShardId shardId, String docId, BytesReference jobSource, JobDocVersion jobDocVersion);
+    }
+
+    private static final class CachedShardNodes {
+        private final IndexShardRoutingTable routingTable;
+        private final DiscoveryNodes nodes;
+        private final String weightAttribute;
+        private final Set<String> drainingNodeIds;
+        private final ShardNodes shardNodes;
+
+        private CachedShardNodes(
+            IndexShardRoutingTable routingTable,
+            DiscoveryNodes nodes,
+            String weightAttribute,
+            Set<String> drainingNodeIds,
+            ShardNodes shardNodes
+        ) {
+            this.routingTable = routingTable;
+            this.nodes = nodes;
+            this.weightAttribute = weightAttribute;
+            this.drainingNodeIds = drainingNodeIds;
+            this.shardNodes = shardNodes;
+        }
+    }
+
+    private static final class SweepCheckpoint {
+        private final long seqNo;
+        private final Map<String, Integer> ringLayout;
+
+        private SweepCheckpoint(long seqNo, Map<String, Integer> ringLayout) {
+            this.seqNo = seqNo;
+            this.ringLayout = ringLayout;
         }
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.sweeper;
+
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.jobscheduler.spi.JobDocVersion;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalescing queue of the job documents indexed on a shard that still have to be parsed and scheduled.
+ * <p>
+ * Only the latest version of a job waits in the queue, an update with a newer version replaces the queued one and an
+ * older one is dropped. The queue tells the producer when a drain has to be scheduled, at most one drain is pending or
+ * running at a time, so the updates of a shard are handed to the consumer by one worker at a time.
+ */
+final class JobUpdateQueue {
+
+    /**
+     * Consumer of the drained job updates.
+     */
+    interface JobUpdateConsumer {
+        void accept(String docId, BytesReference jobSource, JobDocVersion jobDocVersion);
+    }
+
+    private final ConcurrentHashMap<String, JobUpdate> updates = new ConcurrentHashMap<>();
+    private final AtomicBoolean drainPending = new AtomicBoolean();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Queues a job update, replacing an older queued version of the job.
+     *
+     * @return true if no drain is pending and the caller has to schedule one
+     */
+    boolean offer(String docId, BytesReference jobSource, JobDocVersion jobDocVersion) {
+        JobUpdate update = new JobUpdate(jobSource, jobDocVersion);
+        this.updates.merge(docId, update, (queued, offered) -> {
+            this.coalesced.incrementAndGet();
+            return offered.jobDocVersion.compareTo(queued.jobDocVersion) > 0 ? offered : queued;
+        });
+        return this.drainPending.compareAndSet(false, true);
+    }
+
+    /**
+     * Drops the queued update of a job if it is older than the given sequence number, for example of a delete.
+     */
+    void discard(String docId, long seqNo) {
+        this.updates.computeIfPresent(docId, (id, queued) -> queued.jobDocVersion.getSeqNo() < seqNo ? null : queued);
+    }
+
+    /**
+     * Hands every queued update to the consumer, including the updates offered while draining.
+     */
+    void drain(JobUpdateConsumer consumer) {
+        do {
+            for (String docId : this.updates.keySet()) {
+                JobUpdate update = this.updates.remove(docId);
+                if (update != null) {
+                    consumer.accept(docId, update.jobSource, update.jobDocVersion);
+                }
+            }
+            this.drainPending.set(false);
+            // an update offered after the last pass but before the flag was cleared did not schedule a drain, take it here
+        } while (!this.updates.isEmpty() && this.drainPending.compareAndSet(false, true));
+    }
+
+    /**
+     * Called when a scheduled drain could not run, the next offer schedules a new one.
+     */
+    void drainRejected() {
+        this.drainPending.set(false);
+    }
+
+    /**
+     * @return true while a drain is pending or running
+     */
+    boolean isDrainPending() {
+        return this.drainPending.get();
+    }
+
+    int size() {
+        return this.updates.size();
+    }
+
+    long getCoalescedCount() {
+        return this.coalesced.get();
+    }
+
+    private static final class JobUpdate {
+        private final BytesReference jobSource;
+        private final JobDocVersion jobDocVersion;
+
+        private JobUpdate(BytesReference jobSource, JobDocVersion jobDocVersion) {
+            this.jobSource = jobSource;
+            this.jobDocVersion = jobDocVersion;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.sweeper;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.Bits;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.fieldvisitor.FieldsVisitor;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.mapper.VersionFieldMapper;
+import org.opensearch.index.shard.IllegalIndexShardStateException;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.index.shard.ShardNotFoundException;
+import org.opensearch.jobscheduler.spi.JobDocVersion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads job documents straight from the Lucene index of the shard copies on this node, without going through the
+ * search layer.
+ * <p>
+ * The reader tracks the started shards of the job indices it is registered on. A read opens a searcher on the local
+ * copy, walks the live root documents a page at a time and only loads the {@code _source} of the documents the caller
+ * asks for. The searcher stays open between pages, so the pages of a read see the same point in time and can be read by
+ * different threads one after the other.
+ * <p>
+ * The local copy may be a replica, which trails its primary by the operations still being replicated to it. An
+ * operation that reaches the copy after its searcher was opened is seen by the index listeners of the node instead,
+ * and {@link ShardRead#checkpoint()} does not move past the local checkpoint of the copy, so the next read starting from
+ * it does not skip operations that were missing. A replica that has not processed the operations its primary reported
+ * as applied on every in-sync copy is not read at all, the shard is read through search on the primary instead.
+ */
+public class LocalShardReader implements IndexEventListener {
+    private static final Logger log = LogManager.getLogger(LocalShardReader.class);
+
+    private static final String SEARCHER_SOURCE = "job_sweeper";
+
+    private final ConcurrentHashMap<ShardId, IndexShard> shards = new ConcurrentHashMap<>();
+
+    /**
+     * Visitor of the job documents of a shard.
+     */
+    public interface JobDocVisitor {
+        /**
+         * @return true if the source of the document should be loaded and passed to {@link #visit}
+         */
+        boolean needsSource(String docId, JobDocVersion jobDocVersion);
+
+        void visit(String docId, BytesReference jobSource, JobDocVersion jobDocVersion);
+    }
+
+    @Override
+    public void afterIndexShardStarted(IndexShard indexShard) {
+        this.shards.put(indexShard.shardId(), indexShard);
+        log.debug("Reading shard {} locally", indexShard.shardId());
+    }
+
+    @Override
+    public void beforeIndexShardClosed(ShardId shardId, IndexShard indexShard, Settings indexSettings) {
+        this.shards.remove(shardId);
+    }
+
+    /**
+     * @return true if the shard has a started copy on this node that can be read.
+     */
+    public boolean canRead(ShardId shardId) {
+        IndexShard shard = this.shards.get(shardId);
+        if (shard == null || shard.state() != IndexShardState.STARTED) {
+            return false;
+        }
+        ShardRouting routing = shard.routingEntry();
+        if (routing != null && !routing.primary() && shard.getProcessedLocalCheckpoint() < shard.getLastKnownGlobalCheckpoint()) {
+            log.debug("Replica of shard {} is behind its primary, not reading it locally", shardId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Opens a read of the documents of the local copy of a shard with a {@code _seq_no} greater than
+     * {@code afterSeqNo}, as of the last refresh of the copy. The read has to be closed.
+     *
+     * @param shardId    shard to read
+     * @param afterSeqNo documents with a lower or equal sequence number are skipped, -1 to read every document
+     * @throws ShardNotFoundException          if the shard has no copy on this node
+     * @throws IllegalIndexShardStateException if the local copy is not started
+     */
+    public ShardRead open(ShardId shardId, long afterSeqNo) {
+        IndexShard shard = this.shards.get(shardId);
+        if (shard == null) {
+            throw new ShardNotFoundException(shardId);
+        }
+        if (shard.state() != IndexShardState.STARTED) {
+            throw new IllegalIndexShardStateException(shardId, shard.state(), "shard is not started");
+        }
+        // every operation up to the local checkpoint was applied to the copy before its searcher is opened
+        long localCheckpoint = shard.getProcessedLocalCheckpoint();
+        return new ShardRead(shard.acquireSearcher(SEARCHER_SOURCE), afterSeqNo, localCheckpoint);
+    }
+
+    /**
+     * Reads all documents of the local copy of a shard in one go, see {@link #open}.
+     *
+     * @return highest sequence number read, or {@code afterSeqNo} if no document was read
+     */
+    public long read(ShardId shardId, long afterSeqNo, JobDocVisitor visitor) throws IOException {
+        try (ShardRead read = this.open(shardId, afterSeqNo)) {
+            while (read.readPage(Integer.MAX_VALUE, visitor)) {
+                // the whole copy is read as a single page
+            }
+            return read.maxSeqNo();
+        }
+    }
+
+    /**
+     * Read of the local copy of a shard, page by page. Pages have to be read one after the other.
+     */
+    public static final class ShardRead implements Closeable {
+        private final Engine.Searcher searcher;
+        private final List<LeafReaderContext> leaves;
+        private final long afterSeqNo;
+        private final long localCheckpoint;
+        private long maxSeqNo;
+        private boolean closed;
+
+        // position of the read within the current segment
+        private int leafOrd = -1;
+        private NumericDocValues primaryTerms;
+        private NumericDocValues seqNos;
+        private NumericDocValues versions;
+        private Bits liveDocs;
+        private StoredFields storedFields;
+
+        private ShardRead(Engine.Searcher searcher, long afterSeqNo, long localCheckpoint) {
+            this.searcher = searcher;
+            this.leaves = searcher.getIndexReader().leaves();
+            this.afterSeqNo = afterSeqNo;
+            this.localCheckpoint = localCheckpoint;
+            this.maxSeqNo = afterSeqNo;
+        }
+
+        /**
+         * Reads the next page of documents.
+         *
+         * @param maxDocs maximum number of live root documents the page walks
+         * @param visitor visitor of the documents
+         * @return true if documents may be left to read
+         */
+        public boolean readPage(int maxDocs, JobDocVisitor visitor) throws IOException {
+            int docs = 0;
+            while (docs < maxDocs) {
+                if (this.primaryTerms == null && !this.nextLeaf()) {
+                    return false;
+                }
+                // only root documents have a primary term, nested documents are skipped
+                int doc = this.primaryTerms.nextDoc();
+                if (doc == DocIdSetIterator.NO_MORE_DOCS) {
+                    this.primaryTerms = null;
+                    continue;
+                }
+                if (this.liveDocs != null && !this.liveDocs.get(doc)) {
+                    continue;
+                }
+                docs++;
+                this.readDoc(doc, visitor);
+            }
+            return true;
+        }
+
+        private boolean nextLeaf() throws IOException {
+            while (++this.leafOrd < this.leaves.size()) {
+                LeafReader reader = this.leaves.get(this.leafOrd).reader();
+                NumericDocValues primaryTerms = reader.getNumericDocValues(SeqNoFieldMapper.PRIMARY_TERM_NAME);
+                this.seqNos = reader.getNumericDocValues(SeqNoFieldMapper.NAME);
+                this.versions = reader.getNumericDocValues(VersionFieldMapper.NAME);
+                if (primaryTerms == null || this.seqNos == null || this.versions == null) {
+                    continue;
+                }
+                this.primaryTerms = primaryTerms;
+                // the searcher hides soft deleted documents through the live docs
+                this.liveDocs = reader.getLiveDocs();
+                this.storedFields = reader.storedFields();
+                return true;
+            }
+            return false;
+        }
+
+        private void readDoc(int doc, JobDocVisitor visitor) throws IOException {
+            if (!this.seqNos.advanceExact(doc) || !this.versions.advanceExact(doc)) {
+                return;
+            }
+            long seqNo = this.seqNos.longValue();
+            if (seqNo <= this.afterSeqNo) {
+                return;
+            }
+            this.maxSeqNo = Math.max(this.maxSeqNo, seqNo);
+            FieldsVisitor idVisitor = new FieldsVisitor(false);
+            this.storedFields.document(doc, idVisitor);
+            String docId = idVisitor.id();
+            JobDocVersion jobDocVersion = new JobDocVersion(this.primaryTerms.longValue(), seqNo, this.versions.longValue());
+            if (docId == null || !visitor.needsSource(docId, jobDocVersion)) {
+                return;
+            }
+            FieldsVisitor sourceVisitor = new FieldsVisitor(true);
+            this.storedFields.document(doc, sourceVisitor);
+            visitor.visit(docId, sourceVisitor.source(), jobDocVersion);
+        }
+
+        /**
+         * @return highest sequence number read so far, or {@code afterSeqNo} if no document was read
+         */
+        public long maxSeqNo() {
+            return this.maxSeqNo;
+        }
+
+        /**
+         * @return sequence number the next read of the copy may start after without skipping an operation the copy had
+         *         not applied yet when this read was opened
+         */
+        public long checkpoint() {
+            return Math.max(this.afterSeqNo, Math.min(this.maxSeqNo, this.localCheckpoint));
+        }
+
+        /**
+         * Releases the searcher of the read, may be called more than once.
+         */
+        @Override
+        public synchronized void close() {
+            if (!this.closed) {
+                this.closed = true;
+                this.searcher.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.sweeper;
+
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.jobscheduler.spi.JobDocVersion;
+import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Jobs read by the first sweep of a shard on a node that are not scheduled yet, ordered by the next execution time
+ * computed when they were read.
+ * <p>
+ * The sweep polls the jobs due within a window after every page, so a job due soon is armed as soon as its page is
+ * parsed, and polls the remaining jobs once the whole shard is read. A job replaced or deleted while it waits stays in
+ * the time order until it is polled and is skipped then.
+ */
+final class RecoveringJobs {
+    private static final class Entry {
+        private final StandbyJobs.StandbyJob job;
+        private final long nextExecutionTimeMillis;
+
+        private Entry(StandbyJobs.StandbyJob job, long nextExecutionTimeMillis) {
+            this.job = job;
+            this.nextExecutionTimeMillis = nextExecutionTimeMillis;
+        }
+    }
+
+    private static final class ShardJobs {
+        private final Map<String, Entry> jobs = new HashMap<>();
+        private final PriorityQueue<Entry> byTime = new PriorityQueue<>(Comparator.comparingLong(entry -> entry.nextExecutionTimeMillis));
+    }
+
+    private final ConcurrentHashMap<ShardId, ShardJobs> shards = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a parsed job, an older version of the job is replaced.
+     *
+     * @param now time the next execution time of the job is computed from
+     */
+    void put(ShardId shardId, String docId, ScheduledJobParameter jobParameter, JobDocVersion jobDocVersion, Instant now) {
+        StandbyJobs.StandbyJob job = new StandbyJobs.StandbyJob(docId, jobParameter, jobDocVersion);
+        Entry entry = new Entry(job, job.nextExecutionTimeMillis(now));
+        ShardJobs shardJobs = this.shards.computeIfAbsent(shardId, id -> new ShardJobs());
+        synchronized (shardJobs) {
+            Entry current = shardJobs.jobs.get(docId);
+            if (current != null && current.job.jobDocVersion.compareTo(jobDocVersion) >= 0) {
+                return;
+            }
+            shardJobs.jobs.put(docId, entry);
+            shardJobs.byTime.add(entry);
+        }
+    }
+
+    /**
+     * Removes a job deleted by an operation with the given sequence number.
+     */
+    void remove(ShardId shardId, String docId, long seqNo) {
+        ShardJobs shardJobs = this.shards.get(shardId);
+        if (shardJobs != null) {
+            synchronized (shardJobs) {
+                shardJobs.jobs.computeIfPresent(docId, (id, entry) -> entry.job.jobDocVersion.getSeqNo() < seqNo ? null : entry);
+            }
+        }
+    }
+
+    /**
+     * Removes the jobs of a shard whose next execution time is before {@code beforeMillis}.
+     *
+     * @return the removed jobs, the soonest due first
+     */
+    List<StandbyJobs.StandbyJob> pollDue(ShardId shardId, long beforeMillis) {
+        List<StandbyJobs.StandbyJob> due = new ArrayList<>();
+        ShardJobs shardJobs = this.shards.get(shardId);
+        if (shardJobs == null) {
+            return due;
+        }
+        synchronized (shardJobs) {
+            Entry entry;
+            while ((entry = shardJobs.byTime.peek()) != null && entry.nextExecutionTimeMillis < beforeMillis) {
+                shardJobs.byTime.poll();
+                if (shardJobs.jobs.remove(entry.job.docId, entry)) {
+                    due.add(entry.job);
+                }
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Removes all jobs of a shard.
+     *
+     * @return the removed jobs, the soonest due first
+     */
+    List<StandbyJobs.StandbyJob> pollAll(ShardId shardId) {
+        List<StandbyJobs.StandbyJob> jobs = this.pollDue(shardId, Long.MAX_VALUE);
+        ShardJobs shardJobs = this.shards.get(shardId);
+        if (shardJobs != null) {
+            synchronized (shardJobs) {
+                // jobs without a next execution
+                shardJobs.byTime.clear();
+                shardJobs.jobs.values().forEach(entry -> jobs.add(entry.job));
+                shardJobs.jobs.clear();
+            }
+        }
+        return jobs;
+    }
+
+    void removeShards(Predicate<ShardId> shardIds) {
+        this.shards.keySet().removeIf(shardIds);
+    }
+
+    int size() {
+        int size = 0;
+        for (ShardJobs shardJobs : this.shards.values()) {
+            synchronized (shardJobs) {
+                size += shardJobs.jobs.size();
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.sweeper;
+
+import org.opensearch.cluster.routing.Murmur3HashFunction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Consistent hash ring of the active copies of a shard, deciding which node owns a job of the shard.
+ * <p>
+ * Every copy gets {@link #VIRTUAL_NODE_COUNT} virtual nodes on the ring and a job is owned by the node of the first
+ * virtual node with a hash greater than the hash of the job id, wrapping around. The ring is kept as a sorted
+ * {@code int[]} of virtual node hashes and a parallel array of node ordinals, looked up with a binary search.
+ * Ownership is the same as a {@code TreeMap<Integer, String>} filled in node order, where a colliding hash belongs
+ * to the node put last.
+ * <p>
+ * Copies can be weighted: a copy with weight {@code w} gets {@code w * VIRTUAL_NODE_COUNT} virtual nodes, numbered
+ * the same way as unweighted ones. Changing the weight of a node only adds or removes its own virtual nodes, so only
+ * jobs moving to or from that node change owner.
+ * <p>
+ * For the same reason a node leaving the ring only moves its own jobs, each to the node of the next virtual node that
+ * is not its own. The node a job would move to is its standby node, see {@link #isStandbyNode}.
+ */
+final class ShardNodes {
+    static final int VIRTUAL_NODE_COUNT = 100;
+    static final double MAX_WEIGHT = 10.0;
+
+    final String localNodeId;
+    final Collection<String> activeShardNodeIds;
+    // virtual node count of every copy, two rings with equal layouts assign every job to the same node
+    final Map<String, Integer> layout;
+    private final String[] nodeIds;
+    private final int[] hashes;
+    private final int[] ordinals;
+    // rings without one of the copies, built when standby ownership is first looked up
+    private final ConcurrentHashMap<String, ShardNodes> ringsWithout = new ConcurrentHashMap<>();
+
+    ShardNodes(String localNodeId, Collection<String> activeShardNodeIds) {
+        this(localNodeId, activeShardNodeIds, nodeId -> 1.0);
+    }
+
+    /**
+     * @param weights weight of each shard copy node, relative to the default weight of 1
+     */
+    ShardNodes(String localNodeId, Collection<String> activeShardNodeIds, ToDoubleFunction<String> weights) {
+        this.localNodeId = localNodeId;
+        this.activeShardNodeIds = activeShardNodeIds;
+        this.nodeIds = activeShardNodeIds.toArray(new String[0]);
+
+        int[] virtualNodeCounts = new int[this.nodeIds.length];
+        Map<String, Integer> layout = new HashMap<>();
+        int total = 0;
+        for (int ordinal = 0; ordinal < this.nodeIds.length; ordinal++) {
+            virtualNodeCounts[ordinal] = virtualNodeCount(weights.applyAsDouble(this.nodeIds[ordinal]));
+            layout.put(this.nodeIds[ordinal], virtualNodeCounts[ordinal]);
+            total += virtualNodeCounts[ordinal];
+        }
+        this.layout = Collections.unmodifiableMap(layout);
+
+        // hash in the high bits and ordinal in the low bits, sorting orders by signed hash then by node ordinal
+        long[] virtualNodes = new long[total];
+        int n = 0;
+        for (int ordinal = 0; ordinal < this.nodeIds.length; ordinal++) {
+            for (int i = 0; i < virtualNodeCounts[ordinal]; i++) {
+                virtualNodes[n++] = ((long) Murmur3HashFunction.hash(this.nodeIds[ordinal] + i) << 32) | ordinal;
+            }
+        }
+        Arrays.sort(virtualNodes);
+
+        int[] ringHashes = new int[virtualNodes.length];
+        int[] ringOrdinals = new int[virtualNodes.length];
+        int size = 0;
+        for (long virtualNode : virtualNodes) {
+            int hash = (int) (virtualNode >> 32);
+            if (size > 0 && ringHashes[size - 1] == hash) {
+                // the highest ordinal of a colliding hash wins
+                size--;
+            }
+            ringHashes[size] = hash;
+            ringOrdinals[size] = (int) virtualNode;
+            size++;
+        }
+        this.hashes = size == ringHashes.length ? ringHashes : Arrays.copyOf(ringHashes, size);
+        this.ordinals = size == ringOrdinals.length ? ringOrdinals : Arrays.copyOf(ringOrdinals, size);
+    }
+
+    /**
+     * @return number of virtual nodes of a copy with the given weight, every copy keeps at least one
+     */
+    static int virtualNodeCount(double weight) {
+        if (Double.isNaN(weight)) {
+            return VIRTUAL_NODE_COUNT;
+        }
+        double clamped = Math.min(MAX_WEIGHT, Math.max(0.0, weight));
+        return Math.max(1, (int) Math.round(clamped * VIRTUAL_NODE_COUNT));
+    }
+
+    /**
+     * @return id of the node owning the job, or null if the shard has no active copy.
+     */
+    String owningNode(String jobId) {
+        if (this.hashes.length == 0) {
+            return null;
+        }
+        int jobHashCode = Murmur3HashFunction.hash(jobId);
+        int index = Arrays.binarySearch(this.hashes, jobHashCode);
+        // first virtual node strictly above the job hash
+        index = index >= 0 ? index + 1 : -index - 1;
+        if (index == this.hashes.length) {
+            index = 0;
+        }
+        return this.nodeIds[this.ordinals[index]];
+    }
+
+    boolean isOwningNode(String jobId) {
+        return this.localNodeId.equals(this.owningNode(jobId));
+    }
+
+    /**
+     * @return true if the job is owned by another copy and would be owned by this node if that copy left the ring.
+     */
+    boolean isStandbyNode(String jobId) {
+        String owner = this.owningNode(jobId);
+        if (owner == null || owner.equals(this.localNodeId)) {
+            return false;
+        }
+        return this.ringsWithout.computeIfAbsent(owner, this::without).isOwningNode(jobId);
+    }
+
+    /**
+     * @return ring of the same copies with the same weights, without the given node.
+     */
+    ShardNodes without(String nodeId) {
+        List<String> remaining = new ArrayList<>(this.activeShardNodeIds);
+        remaining.remove(nodeId);
+        return new ShardNodes(this.localNodeId, remaining, id -> this.layout.get(id) / (double) VIRTUAL_NODE_COUNT);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.sweeper;
+
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.jobscheduler.spi.JobDocVersion;
+import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Warm standby table of the jobs another copy of a local shard owns and this node would own if that copy left, see
+ * {@link ShardNodes#isStandbyNode}.
+ * <p>
+ * The jobs are kept parsed with their document version, when their owner leaves they are promoted and scheduled without
+ * reading the shard. Their next execution times are computed at promotion, a time computed when a job was put on standby
+ * is stale by then.
+ */
+final class StandbyJobs {
+    /**
+     * Next execution time of a job whose schedule has no next execution.
+     */
+    static final long NO_TIME = Long.MAX_VALUE;
+
+    /**
+     * Parsed standby job.
+     */
+    static final class StandbyJob {
+        final String docId;
+        final ScheduledJobParameter jobParameter;
+        final JobDocVersion jobDocVersion;
+
+        StandbyJob(String docId, ScheduledJobParameter jobParameter, JobDocVersion jobDocVersion) {
+            this.docId = docId;
+            this.jobParameter = jobParameter;
+            this.jobDocVersion = jobDocVersion;
+        }
+
+        long nextExecutionTimeMillis(Instant now) {
+            Instant nextExecutionTime = this.jobParameter.getSchedule() == null
+                ? null
+                : this.jobParameter.getSchedule().getNextExecutionTime(now);
+            return nextExecutionTime == null ? NO_TIME : nextExecutionTime.toEpochMilli();
+        }
+    }
+
+    private final ConcurrentHashMap<ShardId, ConcurrentHashMap<String, StandbyJob>> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * @return version of the standby job, null if the job is not on standby.
+     */
+    JobDocVersion getVersion(ShardId shardId, String docId) {
+        Map<String, StandbyJob> shardJobs = this.jobs.get(shardId);
+        StandbyJob job = shardJobs == null ? null : shardJobs.get(docId);
+        return job == null ? null : job.jobDocVersion;
+    }
+
+    /**
+     * Puts a job on standby, an older version of the job is replaced.
+     *
+     * @param jobParameter parsed job, null if the document is not a scheduled job
+     */
+    void put(ShardId shardId, String docId, ScheduledJobParameter jobParameter, JobDocVersion jobDocVersion) {
+        ConcurrentHashMap<String, StandbyJob> shardJobs = this.jobs.computeIfAbsent(shardId, id -> new ConcurrentHashMap<>());
+        if (jobParameter == null) {
+            shardJobs.computeIfPresent(docId, (id, job) -> job.jobDocVersion.compareTo(jobDocVersion) < 0 ? null : job);
+            return;
+        }
+        StandbyJob standbyJob = new StandbyJob(docId, jobParameter, jobDocVersion);
+        shardJobs.merge(
+            docId,
+            standbyJob,
+            (current, offered) -> offered.jobDocVersion.compareTo(current.jobDocVersion) > 0 ? offered : current
+        );
+    }
+
+    /**
+     * Removes a standby job deleted by an operation with the given sequence number.
+     */
+    void remove(ShardId shardId, String docId, long seqNo) {
+        Map<String, StandbyJob> shardJobs = this.jobs.get(shardId);
+        if (shardJobs != null) {
+            shardJobs.computeIfPresent(docId, (id, job) -> job.jobDocVersion.getSeqNo() < seqNo ? null : job);
+        }
+    }
+
+    /**
+     * Keeps only the standby jobs of a shard that match the predicate.
+     */
+    void retain(ShardId shardId, Predicate<String> docIds) {
+        Map<String, StandbyJob> shardJobs = this.jobs.get(shardId);
+        if (shardJobs != null) {
+            shardJobs.keySet().removeIf(docId -> !docIds.test(docId));
+        }
+    }
+
+    void removeShards(Predicate<ShardId> shardIds) {
+        this.jobs.keySet().removeIf(shardIds);
+    }
+
+    void clear() {
+        this.jobs.clear();
+    }
+
+    /**
+     * Removes the standby jobs of a shard that are now owned by this node.
+     *
+     * @param owned predicate matching the ids of the jobs owned by this node
+     * @param now   time the next execution times of the promoted jobs are computed from
+     * @return the promoted jobs, the soonest due first
+     */
+    List<StandbyJob> promote(ShardId shardId, Predicate<String> owned, Instant now) {
+        Map<String, StandbyJob> shardJobs = this.jobs.get(shardId);
+        List<StandbyJob> promoted = new ArrayList<>();
+        if (shardJobs == null) {
+            return promoted;
+        }
+        for (String docId : shardJobs.keySet()) {
+            if (owned.test(docId)) {
+                StandbyJob job = shardJobs.remove(docId);
+                if (job != null) {
+                    promoted.add(job);
+                }
+            }
+        }
+        Map<StandbyJob, Long> nextExecutionTimes = new IdentityHashMap<>(promoted.size());
+        for (StandbyJob job : promoted) {
+            nextExecutionTimes.put(job, job.nextExecutionTimeMillis(now));
+        }
+        promoted.sort(Comparator.comparingLong(nextExecutionTimes::get));
+        return promoted;
+    }
+
+    int size() {
+        return this.jobs.values().stream().mapToInt(Map::size).sum();
+    }
+}
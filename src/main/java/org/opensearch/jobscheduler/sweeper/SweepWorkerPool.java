@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.sweeper;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Bounded pool of sweep workers. Shard sweeps are queued per job index and the workers take them round robin across
+ * indices, so a job index with many shards does not hold back the shards of the others.
+ */
+public class SweepWorkerPool {
+    private static final Logger log = LogManager.getLogger(SweepWorkerPool.class);
+
+    private final ExecutorService executor;
+    private final int maxWorkers;
+
+    // guarded by this
+    private final Map<String, ArrayDeque<Runnable>> queues = new HashMap<>();
+    private final ArrayDeque<String> indexOrder = new ArrayDeque<>();
+    private int activeWorkers;
+    private int queued;
+    private boolean closed;
+
+    public SweepWorkerPool(ExecutorService executor, int maxWorkers) {
+        if (maxWorkers < 1) {
+            throw new IllegalArgumentException("Sweep worker pool needs at least one worker, got " + maxWorkers);
+        }
+        this.executor = executor;
+        this.maxWorkers = maxWorkers;
+    }
+
+    /**
+     * Queues a shard sweep of {@code indexName}.
+     *
+     * @param indexName job index the sweep belongs to
+     * @param task      shard sweep
+     * @throws RejectedExecutionException if the pool is shut down
+     */
+    public void submit(String indexName, Runnable task) {
+        synchronized (this) {
+            if (this.closed) {
+                throw new RejectedExecutionException("Sweep worker pool is shut down");
+            }
+            ArrayDeque<Runnable> queue = this.queues.get(indexName);
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                this.queues.put(indexName, queue);
+                this.indexOrder.add(indexName);
+            }
+            queue.add(task);
+            this.queued++;
+            if (this.activeWorkers >= this.maxWorkers) {
+                return;
+            }
+            this.activeWorkers++;
+        }
+        try {
+            this.executor.execute(this::work);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                this.activeWorkers--;
+                if (this.activeWorkers > 0) {
+                    // a running worker picks the task up
+                    return;
+                }
+                ArrayDeque<Runnable> queue = this.queues.get(indexName);
+                if (queue != null && queue.remove(task)) {
+                    this.queued--;
+                    if (queue.isEmpty()) {
+                        this.queues.remove(indexName);
+                        this.indexOrder.remove(indexName);
+                    }
+                }
+            }
+            throw e;
+        }
+    }
+
+    public synchronized void shutdown() {
+        this.closed = true;
+        // workers that are already running still drain the queue, so nobody waits on a sweep that never runs
+        this.executor.shutdown();
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("workers", this.maxWorkers);
+        stats.put("active_workers", this.activeWorkers);
+        stats.put("queued_shard_sweeps", this.queued);
+        stats.put("queued_indices", this.indexOrder.size());
+        return stats;
+    }
+
+    private void work() {
+        Runnable task;
+        while ((task = this.next()) != null) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("Shard sweep failed", e);
+            }
+        }
+    }
+
+    private synchronized Runnable next() {
+        String indexName = this.indexOrder.poll();
+        if (indexName == null) {
+            this.activeWorkers--;
+            return null;
+        }
+        ArrayDeque<Runnable> queue = this.queues.get(indexName);
+        Runnable task = queue.poll();
+        if (queue.isEmpty()) {
+            this.queues.remove(indexName);
+        } else {
+            // the index goes to the back of the line, the next worker picks a shard of another index first
+            this.indexOrder.add(indexName);
+        }
+        this.queued--;
+        return task;
+    }
+}
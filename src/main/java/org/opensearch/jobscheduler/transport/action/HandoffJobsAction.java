@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.transport.action;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.jobscheduler.transport.response.HandoffJobsResponse;
+
+/**
+ * Sent by a node that shuts down to the nodes taking over its jobs, with the execution time each job was armed for.
+ */
+public class HandoffJobsAction extends ActionType<HandoffJobsResponse> {
+    public static final String NAME = "cluster:admin/opensearch/jobscheduler/jobs/handoff";
+    public static final HandoffJobsAction INSTANCE = new HandoffJobsAction();
+
+    private HandoffJobsAction() {
+        super(NAME, HandoffJobsResponse::new);
+    }
+}
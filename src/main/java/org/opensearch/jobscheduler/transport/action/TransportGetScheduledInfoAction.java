@@ -21,6 +21,7 @@ import org.opensearch.jobscheduler.ScheduledJobProvider;
 import org.opensearch.jobscheduler.scheduler.JobScheduler;
 import org.opensearch.jobscheduler.scheduler.JobSchedulingInfo;
 import org.opensearch.jobscheduler.scheduler.ScheduledJobInfo;
+import org.opensearch.jobscheduler.sweeper.JobSweeper;
 import org.opensearch.jobscheduler.spi.schedule.CronSchedule;
 import org.opensearch.jobscheduler.spi.schedule.IntervalSchedule;
 import org.opensearch.jobscheduler.utils.JobDetailsService;
@@ -47,6 +48,7 @@ public class TransportGetScheduledInfoAction extends TransportNodesAction<
 
     private static final Logger log = LogManager.getLogger(TransportGetScheduledInfoAction.class);
     private final JobScheduler jobScheduler;
+    private final JobSweeper jobSweeper;
     private final JobDetailsService jobDetailsService;
     private static final DateFormatter STRICT_DATE_TIME_FORMATTER = DateFormatter.forPattern("strict_date_time");
 
@@ -57,6 +59,7 @@ public class TransportGetScheduledInfoAction extends TransportNodesAction<
         TransportService transportService,
         ActionFilters actionFilters,
         JobScheduler jobScheduler,
+        JobSweeper jobSweeper,
         JobDetailsService jobDetailsService
     ) {
         super(
@@ -71,6 +74,7 @@ public class TransportGetScheduledInfoAction extends TransportNodesAction<
             GetScheduledInfoNodeResponse.class
         );
         this.jobScheduler = jobScheduler;
+        this.jobSweeper = jobSweeper;
         this.jobDetailsService = jobDetailsService;
     }
 
@@ -113,6 +117,16 @@ public class TransportGetScheduledInfoAction extends TransportNodesAction<
                         processJobsFromMap(scheduledJobInfoLocal.getJobInfoMap(), indexToJobProvider, jobs);
                     }
                 }
+
+                scheduledJobInfo.put("dispatch", jobScheduler.getDispatcher().getStats());
+                scheduledJobInfo.put("memory", jobScheduler.getMemoryStats());
+                scheduledJobInfo.put("virtual_threads", jobScheduler.getVirtualThreadJobExecutor().getStats());
+                scheduledJobInfo.put("executions", jobScheduler.getExecutionTracker().getStats());
+                scheduledJobInfo.put("misfires", jobScheduler.getMisfireLimiter().getStats());
+                scheduledJobInfo.put("firing_histogram", jobScheduler.getFiringHistogram().getStats());
+            }
+            if (jobSweeper != null) {
+                scheduledJobInfo.put("sweeps", jobSweeper.getStats());
             }
 
             // Add jobs list and total count
@@ -207,6 +221,15 @@ public class TransportGetScheduledInfoAction extends TransportNodesAction<
             jobInfo.getJobParameter().getLockDurationSeconds() != null ? jobInfo.getJobParameter().getLockDurationSeconds() : "no_lock"
         );
         jobDetails.put("jitter", jobInfo.getJobParameter().getJitter() != null ? jobInfo.getJobParameter().getJitter() : "none");
+        jobDetails.put("running", jobInfo.isRunning());
+        jobDetails.put(
+            "last_run_duration_millis",
+            jobInfo.getLastRunDurationMillis() != JobSchedulingInfo.NO_TIME ? jobInfo.getLastRunDurationMillis() : "none"
+        );
+        jobDetails.put(
+            "execution_timeout",
+            jobInfo.getJobParameter().getExecutionTimeoutSeconds() != null ? jobInfo.getJobParameter().getExecutionTimeoutSeconds() : "none"
+        );
 
         return jobDetails;
     }
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.transport.action;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.jobscheduler.sweeper.JobSweeper;
+import org.opensearch.jobscheduler.transport.request.HandoffJobsNodeRequest;
+import org.opensearch.jobscheduler.transport.request.HandoffJobsRequest;
+import org.opensearch.jobscheduler.transport.response.HandoffJobsNodeResponse;
+import org.opensearch.jobscheduler.transport.response.HandoffJobsResponse;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.List;
+
+public class TransportHandoffJobsAction extends TransportNodesAction<
+    HandoffJobsRequest,
+    HandoffJobsResponse,
+    HandoffJobsNodeRequest,
+    HandoffJobsNodeResponse> {
+
+    private final JobSweeper jobSweeper;
+
+    @Inject
+    public TransportHandoffJobsAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        JobSweeper jobSweeper
+    ) {
+        super(
+            HandoffJobsAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            HandoffJobsRequest::new,
+            HandoffJobsNodeRequest::new,
+            ThreadPool.Names.GENERIC,
+            HandoffJobsNodeResponse.class
+        );
+        this.jobSweeper = jobSweeper;
+    }
+
+    @Override
+    protected HandoffJobsResponse newResponse(
+        HandoffJobsRequest request,
+        List<HandoffJobsNodeResponse> nodeResponses,
+        List<FailedNodeException> failures
+    ) {
+        return new HandoffJobsResponse(clusterService.getClusterName(), nodeResponses, failures);
+    }
+
+    @Override
+    protected HandoffJobsNodeRequest newNodeRequest(HandoffJobsRequest request) {
+        return new HandoffJobsNodeRequest(request);
+    }
+
+    @Override
+    protected HandoffJobsNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new HandoffJobsNodeResponse(in);
+    }
+
+    @Override
+    protected HandoffJobsNodeResponse nodeOperation(HandoffJobsNodeRequest request) {
+        int takenOverJobs = jobSweeper.takeOverJobs(request.getSourceNodeId(), request.getHandoffs());
+        return new HandoffJobsNodeResponse(clusterService.localNode(), takenOverJobs);
+    }
+}
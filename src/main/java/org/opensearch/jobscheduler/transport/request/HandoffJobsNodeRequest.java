@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.transport.request;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.List;
+
+public class HandoffJobsNodeRequest extends ActionRequest {
+
+    private final String sourceNodeId;
+    private final List<HandoffJobsRequest.JobHandoff> handoffs;
+
+    public HandoffJobsNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.sourceNodeId = in.readString();
+        this.handoffs = in.readList(HandoffJobsRequest.JobHandoff::new);
+    }
+
+    public HandoffJobsNodeRequest(HandoffJobsRequest request) {
+        super();
+        this.sourceNodeId = request.getSourceNodeId();
+        this.handoffs = request.getHandoffs();
+    }
+
+    public String getSourceNodeId() {
+        return sourceNodeId;
+    }
+
+    public List<HandoffJobsRequest.JobHandoff> getHandoffs() {
+        return handoffs;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(sourceNodeId);
+        out.writeList(handoffs);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        return null;
+    }
+}
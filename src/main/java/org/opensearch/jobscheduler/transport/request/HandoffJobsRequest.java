@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.transport.request;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.List;
+
+public class HandoffJobsRequest extends BaseNodesRequest<HandoffJobsRequest> {
+
+    private final String sourceNodeId;
+    private final List<JobHandoff> handoffs;
+
+    public HandoffJobsRequest(String sourceNodeId, List<JobHandoff> handoffs, String... nodeIds) {
+        super(nodeIds);
+        this.sourceNodeId = sourceNodeId;
+        this.handoffs = handoffs;
+    }
+
+    public HandoffJobsRequest(StreamInput in) throws IOException {
+        super(in);
+        this.sourceNodeId = in.readString();
+        this.handoffs = in.readList(JobHandoff::new);
+    }
+
+    /**
+     * @return id of the node handing off its jobs
+     */
+    public String getSourceNodeId() {
+        return sourceNodeId;
+    }
+
+    public List<JobHandoff> getHandoffs() {
+        return handoffs;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(sourceNodeId);
+        out.writeList(handoffs);
+    }
+
+    /**
+     * A job handed off, with the execution time its previous owner had armed it for.
+     */
+    public static class JobHandoff implements Writeable {
+        private final ShardId shardId;
+        private final String jobId;
+        private final long expectedExecutionTimeMillis;
+
+        public JobHandoff(ShardId shardId, String jobId, long expectedExecutionTimeMillis) {
+            this.shardId = shardId;
+            this.jobId = jobId;
+            this.expectedExecutionTimeMillis = expectedExecutionTimeMillis;
+        }
+
+        public JobHandoff(StreamInput in) throws IOException {
+            this.shardId = new ShardId(in);
+            this.jobId = in.readString();
+            this.expectedExecutionTimeMillis = in.readLong();
+        }
+
+        public ShardId getShardId() {
+            return shardId;
+        }
+
+        public String getJobId() {
+            return jobId;
+        }
+
+        public long getExpectedExecutionTimeMillis() {
+            return expectedExecutionTimeMillis;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            shardId.writeTo(out);
+            out.writeString(jobId);
+            out.writeLong(expectedExecutionTimeMillis);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.transport.response;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+public class HandoffJobsNodeResponse extends BaseNodeResponse {
+
+    private final int takenOverJobs;
+
+    public HandoffJobsNodeResponse(DiscoveryNode node, int takenOverJobs) {
+        super(node);
+        this.takenOverJobs = takenOverJobs;
+    }
+
+    public HandoffJobsNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.takenOverJobs = in.readVInt();
+    }
+
+    /**
+     * @return number of handed off jobs the node scheduled right away, the others are scheduled by its next sweep
+     */
+    public int getTakenOverJobs() {
+        return takenOverJobs;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVInt(takenOverJobs);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.transport.response;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.List;
+
+public class HandoffJobsResponse extends BaseNodesResponse<HandoffJobsNodeResponse> {
+
+    public HandoffJobsResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public HandoffJobsResponse(ClusterName clusterName, List<HandoffJobsNodeResponse> nodes, List<FailedNodeException> failures) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public List<HandoffJobsNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(HandoffJobsNodeResponse::new);
+    }
+
+    @Override
+    public void writeNodesTo(StreamOutput out, List<HandoffJobsNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    /**
+     * @return number of handed off jobs the receiving nodes scheduled right away
+     */
+    public int getTakenOverJobs() {
+        return getNodes().stream().mapToInt(HandoffJobsNodeResponse::getTakenOverJobs).sum();
+    }
+}
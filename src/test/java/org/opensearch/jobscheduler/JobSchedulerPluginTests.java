@@ -38,8 +38,10 @@ import org.opensearch.jobscheduler.spi.ScheduledJobParser;
 import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
 import org.opensearch.jobscheduler.transport.action.GetAllLocksAction;
 import org.opensearch.jobscheduler.transport.action.GetScheduledInfoAction;
+import org.opensearch.jobscheduler.transport.action.HandoffJobsAction;
 import org.opensearch.jobscheduler.transport.action.TransportGetAllLocksAction;
 import org.opensearch.jobscheduler.transport.action.TransportGetScheduledInfoAction;
+import org.opensearch.jobscheduler.transport.action.TransportHandoffJobsAction;
 import org.opensearch.jobscheduler.utils.JobDetailsService;
 import org.opensearch.plugins.ActionPlugin.ActionHandler;
 import org.opensearch.plugins.ExtensiblePlugin;
@@ -137,7 +139,7 @@ public class JobSchedulerPluginTests extends OpenSearchTestCase {
     public void testGetSettings_returnsSettingsList() {
         List<Setting<?>> settings = plugin.getSettings();
         assertNotNull(settings);
-        assertEquals(13, settings.size());
+        assertEquals(27, settings.size());
         assertTrue(settings.contains(LegacyOpenDistroJobSchedulerSettings.SWEEP_PAGE_SIZE));
         assertTrue(settings.contains(LegacyOpenDistroJobSchedulerSettings.REQUEST_TIMEOUT));
         assertTrue(settings.contains(LegacyOpenDistroJobSchedulerSettings.SWEEP_BACKOFF_MILLIS));
@@ -150,6 +152,20 @@ public class JobSchedulerPluginTests extends OpenSearchTestCase {
         assertTrue(settings.contains(JobSchedulerSettings.SWEEP_BACKOFF_RETRY_COUNT));
         assertTrue(settings.contains(JobSchedulerSettings.SWEEP_PERIOD));
         assertTrue(settings.contains(JobSchedulerSettings.JITTER_LIMIT));
+        assertTrue(settings.contains(JobSchedulerSettings.TIMER_TICK));
+        assertTrue(settings.contains(JobSchedulerSettings.DISPATCH_BATCH_SIZE));
+        assertTrue(settings.contains(JobSchedulerSettings.VIRTUAL_THREAD_JOB_TYPES));
+        assertTrue(settings.contains(JobSchedulerSettings.VIRTUAL_THREAD_MAX_CONCURRENCY));
+        assertTrue(settings.contains(JobSchedulerSettings.MISFIRE_MAX_RELEASES_PER_SECOND));
+        assertTrue(settings.contains(JobSchedulerSettings.JITTER_BALANCED_PLACEMENT));
+        assertTrue(settings.contains(JobSchedulerSettings.SWEEP_FULL_RECONCILE_PERIOD));
+        assertTrue(settings.contains(JobSchedulerSettings.SWEEP_WORKERS));
+        assertTrue(settings.contains(JobSchedulerSettings.SWEEP_TWO_PHASE));
+        assertTrue(settings.contains(JobSchedulerSettings.SWEEP_LOCAL_READER));
+        assertTrue(settings.contains(JobSchedulerSettings.SWEEP_WARM_STANDBY));
+        assertTrue(settings.contains(JobSchedulerSettings.SWEEP_STARTUP_PRIORITIZATION));
+        assertTrue(settings.contains(JobSchedulerSettings.OWNERSHIP_WEIGHT_ATTRIBUTE));
+        assertTrue(settings.contains(JobSchedulerSettings.DRAIN_TIMEOUT));
     }
 
     public void testOnIndexModule() {
@@ -200,12 +216,15 @@ public class JobSchedulerPluginTests extends OpenSearchTestCase {
     public void testGetActions() {
         List<ActionHandler<?, ?>> actions = plugin.getActions();
         assertNotNull(actions);
-        assertEquals(2, actions.size());
+        assertEquals(3, actions.size());
         ActionHandler<?, ?> actionHandler = actions.get(0);
         assertEquals(GetScheduledInfoAction.INSTANCE, actionHandler.getAction());
         assertEquals(TransportGetScheduledInfoAction.class, actionHandler.getTransportAction());
         ActionHandler<?, ?> actionHandler1 = actions.get(1);
         assertEquals(GetAllLocksAction.INSTANCE, actionHandler1.getAction());
         assertEquals(TransportGetAllLocksAction.class, actionHandler1.getTransportAction());
+        ActionHandler<?, ?> actionHandler2 = actions.get(2);
+        assertEquals(HandoffJobsAction.INSTANCE, actionHandler2.getAction());
+        assertEquals(TransportHandoffJobsAction.class, actionHandler2.getTransportAction());
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.scheduler;
+
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FiringHistogramTests extends OpenSearchTestCase {
+    private AtomicLong nowMillis;
+    private FiringHistogram histogram;
+
+    @Before
+    public void setup() {
+        this.nowMillis = new AtomicLong(1_000_000L);
+        this.histogram = new FiringHistogram(this.nowMillis::get, true);
+    }
+
+    public void testAddAndRemove() {
+        long second = this.histogram.add(1_005_500L);
+        Assert.assertEquals(1_005L, second);
+        this.histogram.add(1_005_900L);
+        Assert.assertEquals(2, this.histogram.count(1_005L));
+
+        this.histogram.remove(second);
+        Assert.assertEquals(1, this.histogram.count(1_005L));
+        Assert.assertEquals(1L, this.histogram.getStats().get("tracked_firings"));
+    }
+
+    public void testFiringsBeyondHorizonNotTracked() {
+        long beyond = this.nowMillis.get() + FiringHistogram.HORIZON_SECONDS * 1000L;
+        Assert.assertEquals(JobSchedulingInfo.NO_TIME, this.histogram.add(beyond));
+        Assert.assertEquals(JobSchedulingInfo.NO_TIME, this.histogram.add(this.nowMillis.get() - 1_000L));
+        this.histogram.remove(JobSchedulingInfo.NO_TIME);
+        Assert.assertEquals(0L, this.histogram.getStats().get("tracked_firings"));
+    }
+
+    public void testStaleSecondsAreReused() {
+        this.histogram.add(1_000_000L);
+        this.nowMillis.addAndGet(1_000L);
+        long reused = this.histogram.add(1_000_000L + FiringHistogram.HORIZON_SECONDS * 1000L);
+        Assert.assertEquals(1_000L + FiringHistogram.HORIZON_SECONDS, reused);
+        Assert.assertEquals(0, this.histogram.count(1_000L));
+        Assert.assertEquals(1, this.histogram.count(reused));
+        Assert.assertEquals(1L, this.histogram.getStats().get("tracked_firings"));
+    }
+
+    public void testRandomPlacementDoesNotTrack() {
+        FiringHistogram random = new FiringHistogram(this.nowMillis::get, false);
+        Assert.assertEquals(JobSchedulingInfo.NO_TIME, random.add(1_005_500L));
+        Assert.assertEquals(0, random.count(1_005L));
+        Assert.assertEquals("random", random.getStats().get("placement"));
+        Assert.assertEquals(0L, random.getStats().get("tracked_firings"));
+    }
+
+    public void testPlacementWithoutLoadIsDerivedFromJobId() {
+        long fireTime = 1_010_000L;
+        long window = 60_000L;
+        long base = (long) (FiringHistogram.baseFraction("job-id") * window);
+
+        // scheduling info that is recreated, or a job placed on another node, gets the same offset
+        long first = this.histogram.place(new JobSchedulingInfo("index", "job-id", null), fireTime, window);
+        FiringHistogram otherNode = new FiringHistogram(this.nowMillis::get, true);
+        long second = otherNode.place(new JobSchedulingInfo("index", "job-id", null), fireTime, window);
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(base, first, 1);
+    }
+
+    public void testPlacementProbesAroundBase() {
+        JobSchedulingInfo jobInfo = new JobSchedulingInfo("index", "job-id", null);
+        long fireTime = 1_010_000L;
+        long window = 600_000L;
+        long base = (long) (FiringHistogram.baseFraction("job-id") * window);
+        Assume.assumeTrue("base too close to the window edges", base >= 5_000L && base < window - 5_000L);
+        // the base second and the one after it are busy, the second before the base is the next probe
+        this.histogram.add(fireTime + base);
+        this.histogram.add(fireTime + base + 1_000L);
+
+        long jitter = this.histogram.place(jobInfo, fireTime, window);
+        Assert.assertEquals((fireTime + base) / 1000L - 1, (fireTime + jitter) / 1000L);
+        Assert.assertFalse(Float.isNaN(jobInfo.getJitterFraction()));
+
+        // the placement is kept across reschedules even if the slot filled up meanwhile
+        this.histogram.add(fireTime + jitter);
+        this.histogram.add(fireTime + jitter);
+        Assert.assertEquals(jitter, this.histogram.place(jobInfo, fireTime, window));
+    }
+
+    public void testPlacementStaysNearBase() {
+        long fireTime = 1_010_000L;
+        long window = 600_000L;
+        long base = (long) (FiringHistogram.baseFraction("job-id") * window);
+        Assume.assumeTrue("base too close to the window edges", base >= 5_000L && base < window - 5_000L);
+        // every probed second is busier than the one before, the last probe wins
+        for (int i = 0; i < FiringHistogram.PROBES; i++) {
+            for (int j = 0; j < FiringHistogram.PROBES - i; j++) {
+                this.histogram.add(fireTime + base + FiringHistogram.probeDistance(i) * 1000L);
+            }
+        }
+
+        long jitter = this.histogram.place(new JobSchedulingInfo("index", "job-id", null), fireTime, window);
+        long lastProbe = FiringHistogram.probeDistance(FiringHistogram.PROBES - 1);
+        Assert.assertEquals((fireTime + base) / 1000L + lastProbe, (fireTime + jitter) / 1000L);
+        Assert.assertTrue(Math.abs(jitter - base) <= FiringHistogram.PROBES / 2 * 1000L + 1);
+    }
+
+    public void testBaseFractionIsDeterministic() {
+        float fraction = FiringHistogram.baseFraction("some-job");
+        Assert.assertEquals(fraction, FiringHistogram.baseFraction("some-job"), 0f);
+        Assert.assertTrue(fraction >= 0f && fraction < 1f);
+        Assert.assertEquals(0, FiringHistogram.probeDistance(0));
+        Assert.assertEquals(1, FiringHistogram.probeDistance(1));
+        Assert.assertEquals(-1, FiringHistogram.probeDistance(2));
+        Assert.assertEquals(2, FiringHistogram.probeDistance(3));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testStats() {
+        this.histogram.add(this.nowMillis.get() + 2_000L);
+        this.histogram.add(this.nowMillis.get() + 2_500L);
+        this.histogram.add(this.nowMillis.get() + 120_000L);
+
+        Map<String, Object> stats = this.histogram.getStats();
+        Assert.assertEquals("balanced", stats.get("placement"));
+        Assert.assertEquals(2, stats.get("max_per_second"));
+        List<Integer> nextMinute = (List<Integer>) stats.get("next_minute_per_second");
+        Assert.assertEquals(60, nextMinute.size());
+        Assert.assertEquals(Integer.valueOf(2), nextMinute.get(2));
+        List<Integer> perMinute = (List<Integer>) stats.get("per_minute");
+        Assert.assertEquals(FiringHistogram.HORIZON_SECONDS / 60, perMinute.size());
+        Assert.assertEquals(Integer.valueOf(2), perMinute.get(0));
+        Assert.assertEquals(Integer.valueOf(1), perMinute.get(2));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.scheduler;
+
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.Assert;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JobDispatcherTests extends OpenSearchTestCase {
+
+    public void testDispatchInBatches() {
+        Queue<Runnable> submitted = new ArrayDeque<>();
+        JobDispatcher dispatcher = new JobDispatcher(10, () -> submitted::add);
+
+        AtomicInteger fired = new AtomicInteger();
+        List<Runnable> firings = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            firings.add(fired::incrementAndGet);
+        }
+        dispatcher.dispatch(firings);
+
+        // one task per batch, each batch task submits its firings as tasks of their own
+        Assert.assertEquals(3, submitted.size());
+        for (int i = 0; i < 3; i++) {
+            submitted.poll().run();
+        }
+        Assert.assertEquals(0, fired.get());
+        Assert.assertEquals(25, submitted.size());
+        submitted.forEach(Runnable::run);
+        Assert.assertEquals(25, fired.get());
+
+        Map<String, Object> stats = dispatcher.getStats();
+        Assert.assertEquals(3L, stats.get("batches"));
+        Assert.assertEquals(25L, stats.get("jobs"));
+        Assert.assertEquals(0L, stats.get("rejected_jobs"));
+    }
+
+    public void testFailingFiringDoesNotStopBatch() {
+        Executor direct = Runnable::run;
+        JobDispatcher dispatcher = new JobDispatcher(10, () -> direct);
+
+        AtomicInteger fired = new AtomicInteger();
+        List<Runnable> firings = new ArrayList<>();
+        firings.add(() -> { throw new IllegalStateException("runner failure"); });
+        firings.add(fired::incrementAndGet);
+        dispatcher.dispatch(firings);
+
+        Assert.assertEquals(1, fired.get());
+        Assert.assertEquals(2L, dispatcher.getStats().get("jobs"));
+    }
+
+    public void testBlockingFiringDoesNotDelayBatch() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            JobDispatcher dispatcher = new JobDispatcher(10, () -> pool);
+
+            CountDownLatch fired = new CountDownLatch(5);
+            List<Runnable> firings = new ArrayList<>();
+            firings.add(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            for (int i = 0; i < 5; i++) {
+                firings.add(fired::countDown);
+            }
+            dispatcher.dispatch(firings);
+
+            Assert.assertTrue(fired.await(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            pool.shutdown();
+            Assert.assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    public void testRejectedFiringRearmsJob() {
+        AtomicInteger accepted = new AtomicInteger();
+        // the batch task is accepted, its firings are not
+        Executor rejectingFirings = task -> {
+            if (accepted.getAndIncrement() > 0) {
+                throw new OpenSearchRejectedExecutionException("queue full");
+            }
+            task.run();
+        };
+        JobDispatcher dispatcher = new JobDispatcher(10, () -> rejectingFirings);
+
+        AtomicInteger fired = new AtomicInteger();
+        AtomicInteger rearmed = new AtomicInteger();
+        AtomicInteger timeouts = new AtomicInteger();
+        List<Runnable> firings = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            firings.add(firing(fired, rearmed));
+        }
+        // other timers of the wheel are run on the submitting thread
+        firings.add(timeouts::incrementAndGet);
+        dispatcher.dispatch(firings);
+
+        Assert.assertEquals(0, fired.get());
+        Assert.assertEquals(3, rearmed.get());
+        Assert.assertEquals(1, timeouts.get());
+        Assert.assertEquals(3L, dispatcher.getStats().get("rejected_jobs"));
+        Assert.assertEquals(1L, dispatcher.getStats().get("batches"));
+        Assert.assertEquals(0L, dispatcher.getStats().get("jobs"));
+    }
+
+    public void testRejectedBatchRearmsJobs() {
+        Executor rejecting = task -> { throw new OpenSearchRejectedExecutionException("queue full"); };
+        JobDispatcher dispatcher = new JobDispatcher(2, () -> rejecting);
+
+        AtomicInteger fired = new AtomicInteger();
+        AtomicInteger rearmed = new AtomicInteger();
+        List<Runnable> firings = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            firings.add(firing(fired, rearmed));
+        }
+        dispatcher.dispatch(firings);
+
+        Assert.assertEquals(0, fired.get());
+        Assert.assertEquals(3, rearmed.get());
+        Assert.assertEquals(3L, dispatcher.getStats().get("rejected_jobs"));
+        Assert.assertEquals(0L, dispatcher.getStats().get("batches"));
+    }
+
+    public void testInvalidBatchSize() {
+        expectThrows(IllegalArgumentException.class, () -> new JobDispatcher(0, () -> Runnable::run));
+    }
+
+    private static JobDispatcher.Firing firing(AtomicInteger fired, AtomicInteger rearmed) {
+        return new JobDispatcher.Firing() {
+            @Override
+            public void run() {
+                fired.incrementAndGet();
+            }
+
+            @Override
+            public void rejected() {
+                rearmed.incrementAndGet();
+            }
+        };
+    }
+}
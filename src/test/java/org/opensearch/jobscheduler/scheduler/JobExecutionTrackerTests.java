@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.scheduler;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.jobscheduler.spi.AsyncScheduledJobRunner;
+import org.opensearch.jobscheduler.spi.LockModel;
+import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
+import org.opensearch.jobscheduler.spi.utils.LockService;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class JobExecutionTrackerTests extends OpenSearchTestCase {
+    private AtomicLong nowMillis;
+    private List<Runnable> dispatched;
+    private TimingWheel wheel;
+    private LockService lockService;
+    private JobExecutionTracker tracker;
+    private ScheduledJobParameter jobParameter;
+    private JobSchedulingInfo jobInfo;
+
+    @Before
+    public void setup() {
+        this.nowMillis = new AtomicLong(1_000L);
+        this.dispatched = new ArrayList<>();
+        this.wheel = new TimingWheel(TimeValue.timeValueMillis(10), this.nowMillis::get, this.dispatched::addAll);
+        this.lockService = Mockito.mock(LockService.class);
+        this.tracker = new JobExecutionTracker(
+            this.wheel,
+            this.lockService,
+            () -> Runnable::run,
+            () -> TimeUnit.MILLISECONDS.toNanos(this.nowMillis.get())
+        );
+        this.jobParameter = Mockito.mock(ScheduledJobParameter.class);
+        Mockito.when(this.jobParameter.isConcurrentExecutionAllowed()).thenReturn(true);
+        this.jobInfo = new JobSchedulingInfo("index", "job-id", this.jobParameter);
+    }
+
+    public void testSynchronousRunnerTracked() {
+        CompletionStage<Void> run = this.tracker.run(this.jobInfo, this.jobParameter, (job, context) -> this.nowMillis.addAndGet(25), null);
+
+        Assert.assertTrue(run.toCompletableFuture().isDone());
+        Assert.assertFalse(this.jobInfo.isRunning());
+        Assert.assertEquals(25L, this.jobInfo.getLastRunDurationMillis());
+        Assert.assertEquals(1L, this.tracker.getStats().get("completed"));
+        Assert.assertEquals(0, this.tracker.getStats().get("in_flight"));
+    }
+
+    public void testAsyncRunnerTrackedUntilCompletion() {
+        CompletableFuture<Void> runnerStage = new CompletableFuture<>();
+        AsyncScheduledJobRunner runner = (job, context) -> runnerStage;
+
+        this.tracker.run(this.jobInfo, this.jobParameter, runner, null);
+        Assert.assertTrue(this.jobInfo.isRunning());
+        Assert.assertEquals(1, this.tracker.getStats().get("in_flight"));
+
+        this.tracker.run(this.jobInfo, this.jobParameter, runner, null);
+        Assert.assertEquals(1L, this.tracker.getStats().get("overlapping"));
+
+        runnerStage.complete(null);
+        Assert.assertFalse(this.jobInfo.isRunning());
+        Assert.assertEquals(2L, this.tracker.getStats().get("completed"));
+        Assert.assertEquals(0, this.tracker.getStats().get("in_flight"));
+    }
+
+    public void testFailedRunCounted() {
+        this.tracker.run(this.jobInfo, this.jobParameter, (job, context) -> { throw new IllegalStateException("failure"); }, null);
+
+        Assert.assertEquals(1L, this.tracker.getStats().get("failed"));
+        Assert.assertFalse(this.jobInfo.isRunning());
+    }
+
+    public void testTimeoutCancelsRun() {
+        Mockito.when(this.jobParameter.getExecutionTimeoutSeconds()).thenReturn(1L);
+        CompletableFuture<Void> runnerStage = new CompletableFuture<>();
+
+        this.tracker.run(this.jobInfo, this.jobParameter, (AsyncScheduledJobRunner) (job, context) -> runnerStage, null);
+        Assert.assertEquals(1, this.wheel.size());
+
+        this.nowMillis.addAndGet(1_010L);
+        this.wheel.advance();
+        this.dispatched.forEach(Runnable::run);
+
+        Assert.assertTrue(runnerStage.isCancelled());
+        Assert.assertFalse(this.jobInfo.isRunning());
+        Assert.assertEquals(1L, this.tracker.getStats().get("timed_out"));
+        Assert.assertEquals(0L, this.tracker.getStats().get("failed"));
+    }
+
+    public void testTimeoutDisarmedWhenRunFinishes() {
+        Mockito.when(this.jobParameter.getExecutionTimeoutSeconds()).thenReturn(1L);
+
+        this.tracker.run(this.jobInfo, this.jobParameter, (job, context) -> {}, null);
+
+        Assert.assertEquals(0, this.wheel.size());
+        Assert.assertEquals(1L, this.tracker.getStats().get("completed"));
+    }
+
+    public void testOverlappingRunSkippedWhenConcurrencyDisallowed() {
+        Mockito.when(this.jobParameter.isConcurrentExecutionAllowed()).thenReturn(false);
+        CompletableFuture<Void> runnerStage = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+        AsyncScheduledJobRunner runner = (job, context) -> {
+            started.incrementAndGet();
+            return runnerStage;
+        };
+
+        this.tracker.run(this.jobInfo, this.jobParameter, runner, null);
+        this.tracker.run(this.jobInfo, this.jobParameter, runner, null);
+        Assert.assertEquals(1, started.get());
+        Assert.assertEquals(1L, this.tracker.getStats().get("skipped_overlapping"));
+
+        runnerStage.complete(null);
+        this.tracker.run(this.jobInfo, this.jobParameter, runner, null);
+        Assert.assertEquals(2, started.get());
+        Mockito.verifyNoInteractions(this.lockService);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testFirstRunChecksHandoffLockOnce() {
+        Mockito.when(this.jobParameter.isConcurrentExecutionAllowed()).thenReturn(false);
+        Mockito.when(this.jobParameter.getLockDurationSeconds()).thenReturn(60L);
+        LockModel lock = new LockModel("index", "job-id", Instant.now(), 60L, false);
+        Mockito.doAnswer(invocation -> {
+            ((ActionListener<LockModel>) invocation.getArgument(3)).onResponse(lock);
+            return null;
+        }).when(this.lockService).acquireLockWithId(Mockito.eq("index"), Mockito.eq(60L), Mockito.eq("job-id"), Mockito.any());
+        AtomicInteger started = new AtomicInteger();
+
+        this.tracker.run(this.jobInfo, this.jobParameter, (job, context) -> started.incrementAndGet(), null);
+        this.tracker.run(this.jobInfo, this.jobParameter, (job, context) -> started.incrementAndGet(), null);
+
+        Assert.assertEquals(2, started.get());
+        Assert.assertFalse(this.jobInfo.isHandoffPending());
+        Mockito.verify(this.lockService, Mockito.times(1)).acquireLockWithId(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(this.lockService, Mockito.times(1)).release(Mockito.eq(lock), Mockito.any());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRunDeferredWhilePreviousOwnerHoldsLock() {
+        Mockito.when(this.jobParameter.isConcurrentExecutionAllowed()).thenReturn(false);
+        Mockito.when(this.jobParameter.getLockDurationSeconds()).thenReturn(60L);
+        Mockito.doAnswer(invocation -> {
+            ((ActionListener<LockModel>) invocation.getArgument(3)).onResponse(null);
+            return null;
+        }).when(this.lockService).acquireLockWithId(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        AtomicInteger started = new AtomicInteger();
+
+        this.tracker.run(this.jobInfo, this.jobParameter, (job, context) -> started.incrementAndGet(), null);
+
+        Assert.assertEquals(0, started.get());
+        Assert.assertTrue(this.jobInfo.isHandoffPending());
+        Assert.assertEquals(1L, this.tracker.getStats().get("handoff_deferred"));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testReleaseHoldsLockUntilRunFinishes() {
+        CompletableFuture<Void> runnerStage = new CompletableFuture<>();
+        this.tracker.run(this.jobInfo, this.jobParameter, (AsyncScheduledJobRunner) (job, context) -> runnerStage, null);
+
+        Mockito.when(this.jobParameter.isConcurrentExecutionAllowed()).thenReturn(false);
+        Mockito.when(this.jobParameter.getLockDurationSeconds()).thenReturn(60L);
+        LockModel lock = new LockModel("index", "job-id", Instant.now(), 60L, false);
+        Mockito.doAnswer(invocation -> {
+            ((ActionListener<LockModel>) invocation.getArgument(3)).onResponse(lock);
+            return null;
+        }).when(this.lockService).acquireLockWithId(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+
+        this.tracker.release(this.jobInfo);
+        Mockito.verify(this.lockService, Mockito.never()).release(Mockito.any(), Mockito.any());
+
+        runnerStage.complete(null);
+        Mockito.verify(this.lockService, Mockito.times(1)).release(Mockito.eq(lock), Mockito.any());
+    }
+}
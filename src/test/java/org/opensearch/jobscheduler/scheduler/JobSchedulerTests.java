@@ -8,12 +8,17 @@
  */
 package org.opensearch.jobscheduler.scheduler;
 
+import org.opensearch.jobscheduler.JobSchedulerPlugin;
 import org.opensearch.jobscheduler.spi.JobDocVersion;
+import org.opensearch.jobscheduler.spi.MisfirePolicy;
 import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
 import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
 import org.opensearch.jobscheduler.spi.schedule.CronSchedule;
+import org.opensearch.jobscheduler.spi.schedule.IntervalSchedule;
 import org.opensearch.jobscheduler.spi.schedule.Schedule;
 import com.carrotsearch.randomizedtesting.RandomizedRunner;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.Scheduler;
@@ -29,6 +34,9 @@ import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 @RunWith(RandomizedRunner.class)
 @SuppressWarnings({ "rawtypes" })
@@ -47,7 +55,7 @@ public class JobSchedulerTests extends OpenSearchTestCase {
     }
 
     public void testSchedule() {
-        Schedule schedule = Mockito.mock(Schedule.class);
+        Schedule schedule = mockSchedule();
         ScheduledJobRunner runner = Mockito.mock(ScheduledJobRunner.class);
 
         ScheduledJobParameter jobParameter = buildScheduledJobParameter(
@@ -61,17 +69,16 @@ public class JobSchedulerTests extends OpenSearchTestCase {
 
         Mockito.when(schedule.getNextExecutionTime(Mockito.any())).thenReturn(Instant.now().plus(1, ChronoUnit.MINUTES));
 
-        Scheduler.ScheduledCancellable cancellable = Mockito.mock(Scheduler.ScheduledCancellable.class);
-        Mockito.when(this.threadPool.schedule(Mockito.any(), Mockito.any(), Mockito.anyString())).thenReturn(cancellable);
-
         boolean scheduled = this.scheduler.schedule("index", "job-id", jobParameter, runner, dummyVersion, jitterLimit);
         Assert.assertTrue(scheduled);
-        Mockito.verify(this.threadPool, Mockito.times(1)).schedule(Mockito.any(), Mockito.any(), Mockito.anyString());
+        Assert.assertEquals(1, this.scheduler.getTimingWheel().size());
 
         scheduled = this.scheduler.schedule("index", "job-id", jobParameter, runner, dummyVersion, jitterLimit);
         Assert.assertTrue(scheduled);
-        // already scheduled, no extra threadpool call
-        Mockito.verify(this.threadPool, Mockito.times(1)).schedule(Mockito.any(), Mockito.any(), Mockito.anyString());
+        // already scheduled, no extra timer armed
+        Assert.assertEquals(1, this.scheduler.getTimingWheel().size());
+        // timers are owned by the timing wheel, not the shared thread pool scheduler
+        Mockito.verify(this.threadPool, Mockito.never()).schedule(Mockito.any(), Mockito.any(), Mockito.anyString());
     }
 
     public void testSchedule_disabledJob() {
@@ -108,6 +115,26 @@ public class JobSchedulerTests extends OpenSearchTestCase {
         Assert.assertTrue(this.scheduler.getScheduledJobInfo().getJobsByIndex("index-name").isEmpty());
     }
 
+    public void testDeschedule_cancelsTimer() {
+        Schedule schedule = mockSchedule();
+        ScheduledJobParameter jobParameter = buildScheduledJobParameter(
+            "job-id",
+            "dummy job name",
+            Instant.now().minus(1, ChronoUnit.HOURS),
+            Instant.now(),
+            schedule,
+            true
+        );
+        Mockito.when(schedule.getNextExecutionTime(Mockito.any())).thenReturn(Instant.now().plus(1, ChronoUnit.MINUTES));
+
+        Assert.assertTrue(this.scheduler.schedule("index-name", "job-id", jobParameter, null, dummyVersion, jitterLimit));
+        Assert.assertEquals(1, this.scheduler.getTimingWheel().size());
+
+        Assert.assertTrue(this.scheduler.deschedule("index-name", "job-id"));
+        Assert.assertEquals(0, this.scheduler.getTimingWheel().size());
+        Assert.assertTrue(this.scheduler.getScheduledJobInfo().getJobsByIndex("index-name").isEmpty());
+    }
+
     public void testDeschedule_bulk() {
         Assert.assertTrue(this.scheduler.bulkDeschedule("index-name", null).isEmpty());
 
@@ -134,17 +161,184 @@ public class JobSchedulerTests extends OpenSearchTestCase {
         Mockito.verify(scheduledCancellable2).cancel();
     }
 
+    public void testDescheduleIndex() {
+        Schedule schedule = mockSchedule();
+        Mockito.when(schedule.getNextExecutionTime(Mockito.any())).thenReturn(Instant.now().plus(1, ChronoUnit.MINUTES));
+        for (int i = 0; i < 3; i++) {
+            ScheduledJobParameter jobParameter = buildScheduledJobParameter(
+                "job-id-" + i,
+                "dummy job name",
+                Instant.now().minus(1, ChronoUnit.HOURS),
+                Instant.now(),
+                schedule,
+                true
+            );
+            this.scheduler.schedule("index-name", "job-id-" + i, jobParameter, null, dummyVersion, jitterLimit);
+        }
+        JobSchedulingInfo jobInfo = this.scheduler.getScheduledJobInfo().getJobInfo("index-name", "job-id-0");
+        Assert.assertFalse(jobInfo.isDescheduled());
+
+        Set<String> descheduled = this.scheduler.descheduleIndex("index-name");
+        Assert.assertEquals(Set.of("job-id-0", "job-id-1", "job-id-2"), descheduled);
+        Assert.assertTrue(jobInfo.isDescheduled());
+        Assert.assertTrue(this.scheduler.getScheduledJobIds("index-name").isEmpty());
+        Assert.assertTrue(this.scheduler.descheduleIndex("no-such-index").isEmpty());
+    }
+
+    public void testCloseCancelsWheelTicker() {
+        Scheduler.Cancellable ticker = Mockito.mock(Scheduler.Cancellable.class);
+        Mockito.when(this.threadPool.scheduleWithFixedDelay(Mockito.any(), Mockito.any(), Mockito.anyString())).thenReturn(ticker);
+        JobScheduler jobScheduler = new JobScheduler(this.threadPool, null);
+        Mockito.verify(ticker, Mockito.never()).cancel();
+
+        jobScheduler.close();
+        Mockito.verify(ticker).cancel();
+    }
+
+    public void testMemoryStats() {
+        Schedule schedule = mockSchedule();
+        Mockito.when(schedule.getNextExecutionTime(Mockito.any())).thenReturn(Instant.now().plus(1, ChronoUnit.MINUTES));
+        ScheduledJobParameter jobParameter = buildScheduledJobParameter(
+            "job-id",
+            "dummy job name",
+            Instant.now().minus(1, ChronoUnit.HOURS),
+            Instant.now(),
+            schedule,
+            true
+        );
+        this.scheduler.schedule("index-name", "job-id", jobParameter, null, dummyVersion, jitterLimit);
+
+        Map<String, Object> stats = this.scheduler.getMemoryStats();
+        Assert.assertEquals(1, stats.get("jobs"));
+        Assert.assertEquals(1, stats.get("armed_timers"));
+        Assert.assertEquals(JobScheduler.ESTIMATED_BYTES_PER_JOB, stats.get("estimated_bytes_per_job"));
+        Assert.assertEquals(1, stats.get("upcoming_buffers"));
+        // a job neither placed by balanced placement nor catching up has no extras
+        Assert.assertEquals(0, stats.get("job_extras"));
+        Assert.assertFalse(this.scheduler.getScheduledJobInfo().getJobInfo("index-name", "job-id").hasExtras());
+        Assert.assertEquals(
+            JobScheduler.ESTIMATED_BYTES_PER_JOB + JobScheduler.UPCOMING_BUFFER_BYTES,
+            stats.get("estimated_total_bytes")
+        );
+    }
+
+    public void testIntervalScheduleDoesNotBufferUpcomingTimes() {
+        ScheduledJobParameter jobParameter = buildScheduledJobParameter(
+            "job-id",
+            "dummy job name",
+            Instant.now().minus(1, ChronoUnit.HOURS),
+            Instant.now(),
+            new IntervalSchedule(Instant.now(), 1, ChronoUnit.MINUTES),
+            true
+        );
+        Assert.assertTrue(this.scheduler.schedule("index-name", "job-id", jobParameter, null, dummyVersion, jitterLimit));
+
+        JobSchedulingInfo jobInfo = this.scheduler.getScheduledJobInfo().getJobInfo("index-name", "job-id");
+        Assert.assertFalse(jobInfo.hasUpcomingBuffer());
+        Instant base = Instant.now();
+        Schedule schedule = jobParameter.getSchedule();
+        Assert.assertEquals(schedule.getNextExecutionTime(base), jobInfo.nextExecutionTime(schedule, base));
+        Map<String, Object> stats = this.scheduler.getMemoryStats();
+        Assert.assertEquals(0, stats.get("upcoming_buffers"));
+        Assert.assertEquals(JobScheduler.ESTIMATED_BYTES_PER_JOB, stats.get("estimated_total_bytes"));
+    }
+
+    public void testDrain() {
+        Schedule schedule = mockSchedule();
+        Instant next = Instant.now().plus(1, ChronoUnit.MINUTES);
+        Mockito.when(schedule.getNextExecutionTime(Mockito.any())).thenReturn(next);
+        ScheduledJobParameter jobParameter = buildScheduledJobParameter(
+            "job-id",
+            "dummy job name",
+            Instant.now().minus(1, ChronoUnit.HOURS),
+            Instant.now(),
+            schedule,
+            true
+        );
+        Assert.assertTrue(this.scheduler.schedule("index-name", "job-id", jobParameter, null, dummyVersion, jitterLimit));
+        Assert.assertEquals(next.toEpochMilli(), this.scheduler.getExpectedExecutionTimeMillis("index-name", "job-id"));
+        Assert.assertEquals(JobSchedulingInfo.NO_TIME, this.scheduler.getExpectedExecutionTimeMillis("index-name", "no-such-job"));
+
+        this.scheduler.startDrain();
+        Assert.assertTrue(this.scheduler.isDraining());
+        // nothing is running
+        Assert.assertTrue(this.scheduler.awaitRunningExecutions(TimeValue.timeValueMillis(10)));
+        // the armed job keeps its expected execution time to be handed off, no other job is scheduled
+        Assert.assertEquals(next.toEpochMilli(), this.scheduler.getExpectedExecutionTimeMillis("index-name", "job-id"));
+        Assert.assertFalse(this.scheduler.schedule("index-name", "job-id-2", jobParameter, null, dummyVersion, jitterLimit));
+        Assert.assertEquals(Set.of("job-id"), this.scheduler.getScheduledJobIds("index-name"));
+    }
+
+    public void testScheduleHandedOff() {
+        Schedule schedule = mockSchedule();
+        Instant handedOff = Instant.now().minus(10, ChronoUnit.SECONDS);
+        Mockito.when(schedule.getNextExecutionTime(Mockito.any()))
+            .thenReturn(handedOff)
+            .thenReturn(Instant.now().plus(5, ChronoUnit.MINUTES));
+        ScheduledJobParameter jobParameter = buildScheduledJobParameter(
+            "job-id",
+            "dummy job name",
+            Instant.now().minus(1, ChronoUnit.HOURS),
+            Instant.now(),
+            schedule,
+            true
+        );
+
+        Instant before = Instant.now();
+        Assert.assertTrue(
+            this.scheduler.scheduleHandedOff("index-name", "job-id", jobParameter, null, dummyVersion, jitterLimit, handedOff)
+        );
+        // the job resumes from the handed off execution time, which passed during the hand-off and fires right away
+        Mockito.verify(schedule).getNextExecutionTime(handedOff.minusMillis(1));
+        Assert.assertTrue(this.scheduler.getExpectedExecutionTimeMillis("index-name", "job-id") >= before.toEpochMilli());
+        Assert.assertEquals(1, this.scheduler.getTimingWheel().size());
+    }
+
     public void testDeschedule_noSuchJob() {
         Assert.assertTrue(this.scheduler.deschedule("index-name", "job-id"));
     }
 
+    public void testRejectedFiringRearmsJob() throws Exception {
+        ExecutorService rejecting = Mockito.mock(ExecutorService.class);
+        Mockito.doThrow(new OpenSearchRejectedExecutionException("queue full")).when(rejecting).execute(Mockito.any());
+        Mockito.when(this.threadPool.executor(JobSchedulerPlugin.OPEN_DISTRO_JOB_SCHEDULER_THREAD_POOL_NAME)).thenReturn(rejecting);
+        Instant due = Instant.now().plusMillis(100);
+        Schedule schedule = mockSchedule();
+        Mockito.when(schedule.getNextExecutionTime(Mockito.any())).thenAnswer(invocation -> {
+            Instant time = invocation.getArgument(0);
+            return time == null || time.isBefore(due) ? due : time.plus(10, ChronoUnit.MINUTES);
+        });
+        ScheduledJobParameter jobParameter = buildScheduledJobParameter(
+            "job-id",
+            "dummy job name",
+            Instant.now().minus(1, ChronoUnit.HOURS),
+            Instant.now(),
+            schedule,
+            true
+        );
+        ScheduledJobRunner runner = Mockito.mock(ScheduledJobRunner.class);
+        Assert.assertTrue(this.scheduler.schedule("index", "job-id", jobParameter, runner, dummyVersion, jitterLimit));
+
+        // the firing is rejected, the job is armed for the execution after the skipped one instead of being lost
+        assertBusy(() -> {
+            this.scheduler.getTimingWheel().advance();
+            Assert.assertEquals(1L, this.scheduler.getDispatcher().getStats().get("rejected_jobs"));
+        });
+        Assert.assertEquals(1, this.scheduler.getTimingWheel().size());
+        Assert.assertEquals(
+            due.plus(10, ChronoUnit.MINUTES).toEpochMilli(),
+            this.scheduler.getExpectedExecutionTimeMillis("index", "job-id")
+        );
+        Mockito.verifyNoInteractions(runner);
+    }
+
     public void testReschedule_noEnableTime() {
         ScheduledJobParameter jobParameter = buildScheduledJobParameter("job-id", "dummy job name", null, null, null, false);
         Assert.assertFalse(this.scheduler.reschedule(jobParameter, null, null, dummyVersion, jitterLimit));
     }
 
     public void testReschedule_outOfExpectTime() {
-        Schedule schedule = Mockito.mock(Schedule.class);
+        Schedule schedule = mockSchedule();
         ScheduledJobParameter jobParameter = buildScheduledJobParameter(
             "job-id",
             "dummy job name",
@@ -162,16 +356,13 @@ public class JobSchedulerTests extends OpenSearchTestCase {
             .thenReturn(now.minus(10, ChronoUnit.MINUTES))
             .thenReturn(now.plus(2, ChronoUnit.MINUTES));
 
-        Scheduler.ScheduledCancellable cancellable = Mockito.mock(Scheduler.ScheduledCancellable.class);
-        Mockito.when(this.threadPool.schedule(Mockito.any(), Mockito.any(), Mockito.anyString())).thenReturn(cancellable);
-
         Assert.assertTrue(this.scheduler.reschedule(jobParameter, jobSchedulingInfo, null, dummyVersion, jitterLimit));
-        Assert.assertEquals(cancellable, jobSchedulingInfo.getScheduledCancellable());
-        Mockito.verify(this.threadPool).schedule(Mockito.any(), Mockito.any(), Mockito.anyString());
+        Assert.assertNotNull(jobSchedulingInfo.getScheduledCancellable());
+        Assert.assertEquals(1, this.scheduler.getTimingWheel().size());
     }
 
     public void testReschedule_jobDescheduled() {
-        Schedule schedule = Mockito.mock(Schedule.class);
+        Schedule schedule = mockSchedule();
         ScheduledJobParameter jobParameter = buildScheduledJobParameter(
             "job-id",
             "dummy job name",
@@ -193,7 +384,7 @@ public class JobSchedulerTests extends OpenSearchTestCase {
     }
 
     public void testReschedule_scheduleJob() {
-        Schedule schedule = Mockito.mock(Schedule.class);
+        Schedule schedule = mockSchedule();
         ScheduledJobParameter jobParameter = buildScheduledJobParameter(
             "job-id",
             "dummy job name",
@@ -211,12 +402,97 @@ public class JobSchedulerTests extends OpenSearchTestCase {
             .thenReturn(Instant.now().plus(1, ChronoUnit.MINUTES))
             .thenReturn(Instant.now().plus(2, ChronoUnit.MINUTES));
 
-        Scheduler.ScheduledCancellable cancellable = Mockito.mock(Scheduler.ScheduledCancellable.class);
-        Mockito.when(this.threadPool.schedule(Mockito.any(), Mockito.any(), Mockito.anyString())).thenReturn(cancellable);
+        Assert.assertTrue(this.scheduler.reschedule(jobParameter, jobSchedulingInfo, null, dummyVersion, jitterLimit));
+        Assert.assertNotNull(jobSchedulingInfo.getScheduledCancellable());
+        Assert.assertEquals(1, this.scheduler.getTimingWheel().size());
+    }
+
+    public void testReschedule_misfireSkipToNext() {
+        Schedule schedule = mockSchedule();
+        ScheduledJobParameter jobParameter = buildMisfireJobParameter(schedule, MisfirePolicy.SKIP_TO_NEXT, 1);
+        JobSchedulingInfo jobSchedulingInfo = new JobSchedulingInfo("job-index", "job-id", jobParameter);
+        Instant now = Instant.now();
+        Instant next = now.plus(2, ChronoUnit.MINUTES);
+
+        Mockito.when(schedule.getNextExecutionTime(Mockito.any()))
+            .thenReturn(now.minus(10, ChronoUnit.MINUTES))
+            .thenReturn(next)
+            .thenReturn(now.plus(3, ChronoUnit.MINUTES));
+
+        Assert.assertTrue(this.scheduler.reschedule(jobParameter, jobSchedulingInfo, null, dummyVersion, jitterLimit));
+        Assert.assertEquals(next.toEpochMilli(), jobSchedulingInfo.getExpectedExecutionTimeMillis());
+        Assert.assertEquals(1L, this.scheduler.getMisfireLimiter().getStats().get("skipped"));
+        Assert.assertEquals(0L, this.scheduler.getMisfireLimiter().getStats().get("misfired"));
+    }
+
+    public void testReschedule_misfireCatchUp() {
+        Schedule schedule = mockSchedule();
+        ScheduledJobParameter jobParameter = buildMisfireJobParameter(schedule, MisfirePolicy.CATCH_UP, 2);
+        JobSchedulingInfo jobSchedulingInfo = new JobSchedulingInfo("job-index", "job-id", jobParameter);
+        Instant now = Instant.now();
+        Instant missed = now.minus(10, ChronoUnit.MINUTES);
 
+        Mockito.when(schedule.getNextExecutionTime(Mockito.any()))
+            .thenReturn(missed)
+            .thenReturn(now.minus(9, ChronoUnit.MINUTES));
         Assert.assertTrue(this.scheduler.reschedule(jobParameter, jobSchedulingInfo, null, dummyVersion, jitterLimit));
-        Assert.assertEquals(cancellable, jobSchedulingInfo.getScheduledCancellable());
-        Mockito.verify(this.threadPool).schedule(Mockito.any(), Mockito.any(), Mockito.anyString());
+        // the missed execution time is kept so the catch-up run reports it
+        Assert.assertEquals(missed.toEpochMilli(), jobSchedulingInfo.getExpectedExecutionTimeMillis());
+        Assert.assertEquals(1, jobSchedulingInfo.getCatchUpRuns());
+
+        // once the catch-up limit is reached the remaining missed executions are skipped
+        jobSchedulingInfo.setCatchUpRuns(2);
+        Instant next = now.plus(1, ChronoUnit.MINUTES);
+        Mockito.when(schedule.getNextExecutionTime(Mockito.any()))
+            .thenReturn(now.minus(8, ChronoUnit.MINUTES))
+            .thenReturn(next)
+            .thenReturn(now.plus(2, ChronoUnit.MINUTES));
+        Assert.assertTrue(this.scheduler.reschedule(jobParameter, jobSchedulingInfo, null, dummyVersion, jitterLimit));
+        Assert.assertEquals(next.toEpochMilli(), jobSchedulingInfo.getExpectedExecutionTimeMillis());
+        Assert.assertEquals(0, jobSchedulingInfo.getCatchUpRuns());
+        Assert.assertEquals(1L, this.scheduler.getMisfireLimiter().getStats().get("caught_up"));
+        Assert.assertEquals(1L, this.scheduler.getMisfireLimiter().getStats().get("skipped"));
+    }
+
+    public void testReschedule_evaluatesScheduleOncePerLookahead() {
+        Schedule schedule = Mockito.spy(new IntervalSchedule(Instant.now(), 1, ChronoUnit.MINUTES));
+        ScheduledJobParameter jobParameter = buildScheduledJobParameter(
+            "job-id",
+            "dummy job name",
+            Instant.now().minus(1, ChronoUnit.HOURS),
+            Instant.now(),
+            schedule,
+            false,
+            0.6
+        );
+        JobSchedulingInfo jobSchedulingInfo = new JobSchedulingInfo("job-index", "job-id", jobParameter);
+
+        Instant previous = null;
+        for (int i = 0; i < JobSchedulingInfo.LOOKAHEAD - 1; i++) {
+            Assert.assertTrue(this.scheduler.reschedule(jobParameter, jobSchedulingInfo, null, dummyVersion, jitterLimit));
+            Instant expected = jobSchedulingInfo.getExpectedExecutionTime();
+            if (previous != null) {
+                Assert.assertEquals(previous.plus(1, ChronoUnit.MINUTES), expected);
+            }
+            previous = expected;
+        }
+        Mockito.verify(schedule, Mockito.times(1)).getNextExecutionTimes(Mockito.any(), Mockito.anyInt());
+    }
+
+    private static Schedule mockSchedule() {
+        Schedule schedule = Mockito.mock(Schedule.class);
+        Mockito.when(schedule.getNextExecutionTimes(Mockito.any(), Mockito.anyInt())).thenCallRealMethod();
+        return schedule;
+    }
+
+    private static ScheduledJobParameter buildMisfireJobParameter(Schedule schedule, MisfirePolicy misfirePolicy, int maxCatchUpRuns) {
+        ScheduledJobParameter jobParameter = Mockito.mock(ScheduledJobParameter.class);
+        Mockito.when(jobParameter.getName()).thenReturn("dummy job name");
+        Mockito.when(jobParameter.getEnabledTime()).thenReturn(Instant.now());
+        Mockito.when(jobParameter.getSchedule()).thenReturn(schedule);
+        Mockito.when(jobParameter.getMisfirePolicy()).thenReturn(misfirePolicy);
+        Mockito.when(jobParameter.getMaxCatchUpRuns()).thenReturn(maxCatchUpRuns);
+        return jobParameter;
     }
 
     static ScheduledJobParameter buildScheduledJobParameter(
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.scheduler;
+
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.Assert;
+
+public class MisfireLimiterTests extends OpenSearchTestCase {
+
+    public void testReleasesSpreadOverSeconds() {
+        MisfireLimiter limiter = new MisfireLimiter(2);
+        long now = 10_250L;
+
+        Assert.assertEquals(0L, limiter.release(now));
+        Assert.assertEquals(0L, limiter.release(now));
+        Assert.assertEquals(750L, limiter.release(now));
+        Assert.assertEquals(750L, limiter.release(now));
+        Assert.assertEquals(1_750L, limiter.release(now));
+
+        Assert.assertEquals(5L, limiter.getStats().get("misfired"));
+        Assert.assertEquals(3L, limiter.getStats().get("delayed"));
+        Assert.assertEquals(1_750L, limiter.getStats().get("max_delay_millis"));
+    }
+
+    public void testCapacityRecoversOverTime() {
+        MisfireLimiter limiter = new MisfireLimiter(1);
+
+        Assert.assertEquals(0L, limiter.release(1_000L));
+        Assert.assertEquals(1_000L, limiter.release(1_000L));
+        // the next second is already taken by the delayed release
+        Assert.assertEquals(500L, limiter.release(2_500L));
+        Assert.assertEquals(0L, limiter.release(5_000L));
+    }
+
+    public void testUnlimited() {
+        MisfireLimiter limiter = new MisfireLimiter(0);
+        for (int i = 0; i < 10_000; i++) {
+            Assert.assertEquals(0L, limiter.release(1_000L));
+        }
+        Assert.assertEquals(0L, limiter.getStats().get("delayed"));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.scheduler;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.junit.Assert;
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimingWheelTests extends OpenSearchTestCase {
+    private AtomicLong now;
+    private List<Runnable> dispatched;
+    private TimingWheel wheel;
+
+    @Before
+    public void setup() {
+        this.now = new AtomicLong(1_000L);
+        this.dispatched = new ArrayList<>();
+        this.wheel = new TimingWheel(TimeValue.timeValueMillis(10), this.now::get, this.dispatched::addAll);
+    }
+
+    public void testTimerFiresAfterDelay() {
+        Runnable task = () -> {};
+        this.wheel.schedule(task, TimeValue.timeValueMillis(95));
+        Assert.assertEquals(1, this.wheel.size());
+
+        this.now.addAndGet(90);
+        this.wheel.advance();
+        Assert.assertTrue(this.dispatched.isEmpty());
+
+        this.now.addAndGet(10);
+        this.wheel.advance();
+        Assert.assertEquals(1, this.dispatched.size());
+        Assert.assertSame(task, this.dispatched.get(0));
+        Assert.assertEquals(0, this.wheel.size());
+    }
+
+    public void testZeroDelayFiresOnNextTick() {
+        this.wheel.schedule(() -> {}, TimeValue.ZERO);
+        this.wheel.advance();
+        Assert.assertTrue(this.dispatched.isEmpty());
+
+        this.now.addAndGet(10);
+        this.wheel.advance();
+        Assert.assertEquals(1, this.dispatched.size());
+    }
+
+    public void testCancel() {
+        Scheduler.ScheduledCancellable cancellable = this.wheel.schedule(() -> {}, TimeValue.timeValueSeconds(5));
+        Assert.assertTrue(cancellable.cancel());
+        Assert.assertTrue(cancellable.isCancelled());
+        Assert.assertFalse(cancellable.cancel());
+        Assert.assertEquals(0, this.wheel.size());
+
+        this.now.addAndGet(TimeValue.timeValueSeconds(10).millis());
+        this.wheel.advance();
+        Assert.assertTrue(this.dispatched.isEmpty());
+    }
+
+    public void testCancelAfterExpiry() {
+        Scheduler.ScheduledCancellable cancellable = this.wheel.schedule(() -> {}, TimeValue.timeValueMillis(10));
+        this.now.addAndGet(20);
+        this.wheel.advance();
+        Assert.assertEquals(1, this.dispatched.size());
+        Assert.assertFalse(cancellable.cancel());
+        Assert.assertFalse(cancellable.isCancelled());
+    }
+
+    public void testGetDelay() {
+        Scheduler.ScheduledCancellable cancellable = this.wheel.schedule(() -> {}, TimeValue.timeValueSeconds(3));
+        this.now.addAndGet(1_000);
+        Assert.assertEquals(2_000L, cancellable.getDelay(TimeUnit.MILLISECONDS));
+    }
+
+    public void testTimersCascadeFromHigherLevels() {
+        // spread timers over every level of the wheel, including deadlines beyond its range
+        long[] delays = new long[] { 15, 700, 45_000, 2_700_000, 170_000_000, TimeValue.timeValueDays(90).millis() };
+        long start = this.now.get();
+        List<Long> firedAt = new ArrayList<>();
+        for (long delay : delays) {
+            this.wheel.schedule(() -> firedAt.add(this.now.get() - start), TimeValue.timeValueMillis(delay));
+        }
+
+        long end = start + delays[delays.length - 1] + 100;
+        while (this.now.get() < end) {
+            this.now.addAndGet(randomLongBetween(1, 60_000));
+            this.wheel.advance();
+            this.dispatched.forEach(Runnable::run);
+            this.dispatched.clear();
+        }
+
+        Assert.assertEquals(delays.length, firedAt.size());
+        for (int i = 0; i < delays.length; i++) {
+            Assert.assertTrue(firedAt.get(i) >= delays[i]);
+        }
+        Assert.assertEquals(0, this.wheel.size());
+    }
+
+    public void testLateAdvanceProcessesAllElapsedTicks() {
+        for (int i = 1; i <= 100; i++) {
+            this.wheel.schedule(() -> {}, TimeValue.timeValueMillis(i * 10L));
+        }
+        this.now.addAndGet(TimeValue.timeValueMinutes(1).millis());
+        this.wheel.advance();
+        Assert.assertEquals(100, this.dispatched.size());
+    }
+
+    public void testCoDueTimersDispatchedTogether() {
+        List<List<Runnable>> dispatchCalls = new ArrayList<>();
+        TimingWheel batchingWheel = new TimingWheel(TimeValue.timeValueMillis(10), this.now::get, dispatchCalls::add);
+        for (int i = 0; i < 100; i++) {
+            batchingWheel.schedule(() -> {}, TimeValue.timeValueMillis(10));
+        }
+        this.now.addAndGet(10);
+        batchingWheel.advance();
+        Assert.assertEquals(1, dispatchCalls.size());
+        Assert.assertEquals(100, dispatchCalls.get(0).size());
+
+        // nothing expired, nothing dispatched
+        this.now.addAndGet(10);
+        batchingWheel.advance();
+        Assert.assertEquals(1, dispatchCalls.size());
+    }
+
+    public void testInvalidTick() {
+        expectThrows(IllegalArgumentException.class, () -> new TimingWheel(TimeValue.ZERO, this.now::get, this.dispatched::addAll));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.scheduler;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.jobscheduler.spi.AsyncScheduledJobRunner;
+import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.Assert;
+import org.junit.Before;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class VirtualThreadJobExecutorTests extends OpenSearchTestCase {
+    private ThreadPool threadPool;
+
+    @Before
+    public void setup() {
+        this.threadPool = Mockito.mock(ThreadPool.class);
+        Mockito.when(this.threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+    }
+
+    public void testRunnerOfOtherJobTypeIsUnchanged() {
+        VirtualThreadJobExecutor executor = new VirtualThreadJobExecutor(List.of("virtual-type"), 10, this.threadPool);
+        ScheduledJobRunner runner = Mockito.mock(ScheduledJobRunner.class);
+
+        Assert.assertSame(runner, executor.runnerFor("other-type", runner));
+        Assert.assertNull(executor.runnerFor("virtual-type", null));
+    }
+
+    public void testRunsOnVirtualThread() throws Exception {
+        VirtualThreadJobExecutor executor = new VirtualThreadJobExecutor(List.of("virtual-type"), 10, this.threadPool);
+        AtomicBoolean ranOnVirtualThread = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+        ScheduledJobRunner runner = (job, context) -> {
+            ranOnVirtualThread.set(Thread.currentThread().isVirtual());
+            done.countDown();
+        };
+
+        ScheduledJobRunner wrapped = executor.runnerFor("virtual-type", runner);
+        Assert.assertNotSame(runner, wrapped);
+        Assert.assertSame(wrapped, executor.runnerFor("virtual-type", runner));
+
+        wrapped.runJob(null, null);
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(ranOnVirtualThread.get());
+        assertBusy(() -> Assert.assertEquals(1L, executor.getStats().get("completed")));
+    }
+
+    public void testConcurrencyIsBounded() throws Exception {
+        VirtualThreadJobExecutor executor = new VirtualThreadJobExecutor(List.of("virtual-type"), 1, this.threadPool);
+        CountDownLatch release = new CountDownLatch(1);
+        ScheduledJobRunner wrapped = executor.runnerFor("virtual-type", (job, context) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        wrapped.runJob(null, null);
+        wrapped.runJob(null, null);
+        assertBusy(() -> {
+            Assert.assertEquals(1, executor.getStats().get("in_flight"));
+            Assert.assertEquals(1, executor.getStats().get("queued"));
+        });
+
+        release.countDown();
+        assertBusy(() -> {
+            Assert.assertEquals(0, executor.getStats().get("in_flight"));
+            Assert.assertEquals(0, executor.getStats().get("queued"));
+            Assert.assertEquals(2L, executor.getStats().get("completed"));
+        });
+    }
+
+    public void testFailedRunCounted() throws Exception {
+        VirtualThreadJobExecutor executor = new VirtualThreadJobExecutor(List.of("virtual-type"), 1, this.threadPool);
+        ScheduledJobRunner wrapped = executor.runnerFor("virtual-type", (job, context) -> { throw new IllegalStateException("failure"); });
+
+        wrapped.runJob(null, null);
+        assertBusy(() -> Assert.assertEquals(1L, executor.getStats().get("failed")));
+        Assert.assertEquals(0, executor.getStats().get("in_flight"));
+    }
+
+    public void testWrappedRunnerCompletesWithVirtualRun() throws Exception {
+        VirtualThreadJobExecutor executor = new VirtualThreadJobExecutor(List.of("virtual-type"), 10, this.threadPool);
+        CountDownLatch release = new CountDownLatch(1);
+        ScheduledJobRunner wrapped = executor.runnerFor("virtual-type", (job, context) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        Assert.assertTrue(wrapped instanceof AsyncScheduledJobRunner);
+        CompletableFuture<Void> run = ((AsyncScheduledJobRunner) wrapped).runJobAsync(null, null).toCompletableFuture();
+        Assert.assertFalse(run.isDone());
+
+        release.countDown();
+        run.get(10, TimeUnit.SECONDS);
+        Assert.assertTrue(run.isDone());
+    }
+
+    public void testClosedExecutorRejectsRuns() throws Exception {
+        VirtualThreadJobExecutor executor = new VirtualThreadJobExecutor(List.of("virtual-type"), 1, this.threadPool);
+        CountDownLatch release = new CountDownLatch(1);
+        ScheduledJobRunner wrapped = executor.runnerFor("virtual-type", (job, context) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        CompletableFuture<Void> running = ((AsyncScheduledJobRunner) wrapped).runJobAsync(null, null).toCompletableFuture();
+        assertBusy(() -> Assert.assertEquals(1, executor.getStats().get("in_flight")));
+
+        executor.close();
+        CompletableFuture<Void> rejected = ((AsyncScheduledJobRunner) wrapped).runJobAsync(null, null).toCompletableFuture();
+        ExecutionException e = expectThrows(ExecutionException.class, () -> rejected.get(10, TimeUnit.SECONDS));
+        Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        Assert.assertEquals(0, executor.getStats().get("queued"));
+        Assert.assertEquals(1L, executor.getStats().get("failed"));
+
+        // the run that already started is not interrupted
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(1L, executor.getStats().get("completed"));
+    }
+}
@@ -15,13 +15,25 @@ import org.opensearch.jobscheduler.spi.JobDocVersion;
 import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
 import org.opensearch.jobscheduler.spi.ScheduledJobParser;
 import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
+import org.opensearch.jobscheduler.spi.schedule.Schedule;
+import org.opensearch.jobscheduler.transport.action.HandoffJobsAction;
+import org.opensearch.jobscheduler.transport.request.HandoffJobsRequest;
+import org.opensearch.jobscheduler.transport.response.HandoffJobsResponse;
 import org.opensearch.jobscheduler.utils.LockServiceImpl;
 import org.opensearch.jobscheduler.utils.JobDetailsService;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.Version;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
+import org.opensearch.action.get.MultiGetResponse;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.OpenSearchAllocationTestCase;
@@ -37,15 +49,19 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.index.Index;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.get.GetResult;
 import org.opensearch.index.mapper.ParseContext;
 import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.mapper.RoutingFieldMapper;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.search.SearchHit;
@@ -54,13 +70,20 @@ import org.opensearch.test.ClusterServiceUtils;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
 import org.mockito.stubbing.OngoingStubbing;
 import org.opensearch.transport.client.Client;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -68,6 +91,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 @SuppressWarnings({ "unchecked", "rawtypes" })
 public class JobSweeperTests extends OpenSearchAllocationTestCase {
@@ -114,6 +141,13 @@ public class JobSweeperTests extends OpenSearchAllocationTestCase {
         settingSet.add(JobSchedulerSettings.SWEEP_BACKOFF_RETRY_COUNT);
         settingSet.add(JobSchedulerSettings.SWEEP_BACKOFF_MILLIS);
         settingSet.add(JobSchedulerSettings.SWEEP_PAGE_SIZE);
+        settingSet.add(JobSchedulerSettings.SWEEP_FULL_RECONCILE_PERIOD);
+        settingSet.add(JobSchedulerSettings.SWEEP_TWO_PHASE);
+        settingSet.add(JobSchedulerSettings.SWEEP_LOCAL_READER);
+        settingSet.add(JobSchedulerSettings.SWEEP_WARM_STANDBY);
+        settingSet.add(JobSchedulerSettings.SWEEP_STARTUP_PRIORITIZATION);
+        settingSet.add(JobSchedulerSettings.OWNERSHIP_WEIGHT_ATTRIBUTE);
+        settingSet.add(JobSchedulerSettings.DRAIN_TIMEOUT);
         settingSet.add(JobSchedulerSettings.JITTER_LIMIT);
 
         ClusterSettings clusterSettings = new ClusterSettings(this.settings, settingSet);
@@ -137,6 +171,12 @@ public class JobSweeperTests extends OpenSearchAllocationTestCase {
         );
     }
 
+    @After
+    public void tearDownSweeper() {
+        // stops the sweep threads started by the test
+        this.sweeper.beforeClose();
+    }
+
     public void testAfterStart() {
         this.sweeper.afterStart();
         Mockito.verify(this.threadPool).scheduleWithFixedDelay(Mockito.any(), Mockito.any(), Mockito.anyString());
@@ -166,6 +206,107 @@ public class JobSweeperTests extends OpenSearchAllocationTestCase {
         Mockito.verify(cancellable).cancel();
     }
 
+    public void testBeforeStop_handsOffJobs() throws IOException {
+        ClusterState clusterState = this.buildTwoCopyClusterState("node-1");
+        ShardId shardId = clusterState.routingTable().allShards("index-name").get(0).shardId();
+        Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+        String jobId = this.jobIdOwnedBy("node-1");
+
+        ScheduledJobParameter mockJobParameter = Mockito.mock(ScheduledJobParameter.class);
+        Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.anyString(), Mockito.any(JobDocVersion.class)))
+            .thenReturn(mockJobParameter);
+        this.sweeper.sweep(shardId, jobId, this.getTestJsonSource(), new JobDocVersion(1L, 1L, 1L));
+        Mockito.when(this.scheduler.getExpectedExecutionTimeMillis("index-name", jobId)).thenReturn(12345L);
+
+        ActionFuture<HandoffJobsResponse> future = Mockito.mock(ActionFuture.class);
+        Mockito.when(future.actionGet(Mockito.any(TimeValue.class)))
+            .thenReturn(new HandoffJobsResponse(new ClusterName("cluster-name"), List.of(), List.of()));
+        ArgumentCaptor<HandoffJobsRequest> captor = ArgumentCaptor.forClass(HandoffJobsRequest.class);
+        Mockito.when(this.client.execute(Mockito.eq(HandoffJobsAction.INSTANCE), captor.capture())).thenReturn(future);
+
+        this.sweeper.beforeStop();
+        Mockito.verify(this.scheduler).startDrain();
+        // runs get half of the drain timeout, the hand-off keeps the rest
+        Mockito.verify(this.scheduler).awaitRunningExecutions(TimeValue.timeValueSeconds(5));
+        HandoffJobsRequest request = captor.getValue();
+        // the job goes to the node that owns it once this node is gone
+        Assert.assertEquals("node-1", request.getSourceNodeId());
+        Assert.assertArrayEquals(new String[] { "node-2" }, request.nodesIds());
+        Assert.assertEquals(1, request.getHandoffs().size());
+        Assert.assertEquals(shardId, request.getHandoffs().get(0).getShardId());
+        Assert.assertEquals(jobId, request.getHandoffs().get(0).getJobId());
+        Assert.assertEquals(12345L, request.getHandoffs().get(0).getExpectedExecutionTimeMillis());
+        Assert.assertEquals(1L, this.sweeper.getStats().get("handed_off_jobs"));
+    }
+
+    public void testBeforeStop_retriesFailedHandoff() throws IOException {
+        ClusterState clusterState = this.buildTwoCopyClusterState("node-1");
+        ShardId shardId = clusterState.routingTable().allShards("index-name").get(0).shardId();
+        Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+        String jobId = this.jobIdOwnedBy("node-1");
+
+        ScheduledJobParameter mockJobParameter = Mockito.mock(ScheduledJobParameter.class);
+        Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.anyString(), Mockito.any(JobDocVersion.class)))
+            .thenReturn(mockJobParameter);
+        this.sweeper.sweep(shardId, jobId, this.getTestJsonSource(), new JobDocVersion(1L, 1L, 1L));
+        Mockito.when(this.scheduler.getExpectedExecutionTimeMillis("index-name", jobId)).thenReturn(12345L);
+
+        ActionFuture<HandoffJobsResponse> future = Mockito.mock(ActionFuture.class);
+        Mockito.when(future.actionGet(Mockito.any(TimeValue.class)))
+            .thenReturn(
+                new HandoffJobsResponse(
+                    new ClusterName("cluster-name"),
+                    List.of(),
+                    List.of(new FailedNodeException("node-2", "not reachable", null))
+                )
+            )
+            .thenReturn(new HandoffJobsResponse(new ClusterName("cluster-name"), List.of(), List.of()));
+        Mockito.when(this.client.execute(Mockito.eq(HandoffJobsAction.INSTANCE), Mockito.any(HandoffJobsRequest.class)))
+            .thenReturn(future);
+
+        this.sweeper.beforeStop();
+        // the node that failed is sent its jobs again within the drain timeout
+        Mockito.verify(this.client, Mockito.times(2))
+            .execute(Mockito.eq(HandoffJobsAction.INSTANCE), Mockito.any(HandoffJobsRequest.class));
+        Assert.assertEquals(1L, this.sweeper.getStats().get("handed_off_jobs"));
+    }
+
+    public void testTakeOverJobs() throws IOException {
+        ClusterState clusterState = this.buildTwoCopyClusterState("node-1");
+        ShardId shardId = clusterState.routingTable().allShards("index-name").get(0).shardId();
+        Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+        String jobId = this.jobIdOwnedBy("node-2");
+
+        ScheduledJobParameter mockJobParameter = Mockito.mock(ScheduledJobParameter.class);
+        Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.anyString(), Mockito.any(JobDocVersion.class)))
+            .thenReturn(mockJobParameter);
+        // warm standby is off by default
+        this.sweeper.standby(shardId, jobId, this.getTestJsonSource(), new JobDocVersion(1L, 1L, 1L));
+        Assert.assertEquals(0, this.sweeper.getStats().get("standby_jobs"));
+
+        this.enableWarmStandby();
+        this.sweeper.standby(shardId, jobId, this.getTestJsonSource(), new JobDocVersion(1L, 1L, 1L));
+        Assert.assertEquals(1, this.sweeper.getStats().get("standby_jobs"));
+
+        // a hand-off from the local node itself is ignored
+        Assert.assertEquals(0, this.sweeper.takeOverJobs("node-1", List.of(new HandoffJobsRequest.JobHandoff(shardId, jobId, 12345L))));
+
+        int takenOver = this.sweeper.takeOverJobs("node-2", List.of(new HandoffJobsRequest.JobHandoff(shardId, jobId, 12345L)));
+        Assert.assertEquals(1, takenOver);
+        Mockito.verify(this.scheduler)
+            .scheduleHandedOff(
+                Mockito.eq("index-name"),
+                Mockito.eq(jobId),
+                Mockito.eq(mockJobParameter),
+                Mockito.any(),
+                Mockito.any(JobDocVersion.class),
+                Mockito.any(Double.class),
+                Mockito.eq(Instant.ofEpochMilli(12345L))
+            );
+        Assert.assertEquals(0, this.sweeper.getStats().get("standby_jobs"));
+        Assert.assertEquals(1L, this.sweeper.getStats().get("taken_over_jobs"));
+    }
+
     public void testBeforeClose() {
         this.sweeper.beforeClose(); // nothing to verify
     }
@@ -206,7 +347,120 @@ public class JobSweeperTests extends OpenSearchAllocationTestCase {
             testSweeper.postIndex(shardId, index, indexResult);
         }
 
-        Mockito.verify(testSweeper)
+        Mockito.verify(testSweeper, Mockito.timeout(10_000))
+            .sweep(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
+    }
+
+    public void testPostIndex_putsStandbyJobs() throws Exception {
+        ShardId shardId = new ShardId(new Index("index-name", IndexMetadata.INDEX_UUID_NA_VALUE), 1);
+        Engine.Index index = this.getIndexOperation();
+        Engine.IndexResult indexResult = new Engine.IndexResult(1L, 1L, 1L, true);
+
+        Metadata metadata = Metadata.builder().put(createIndexMetadata("index-name", 1, 3)).build();
+        RoutingTable routingTable = new RoutingTable.Builder().add(
+            new IndexRoutingTable.Builder(metadata.index("index-name").getIndex()).initializeAsNew(metadata.index("index-name")).build()
+        ).build();
+        ClusterState clusterState = ClusterState.builder(new ClusterName("cluster-name"))
+            .metadata(metadata)
+            .routingTable(routingTable)
+            .build();
+        clusterState = this.addNodesToCluter(clusterState, 2);
+        clusterState = this.initializeAllShards(clusterState);
+        Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+
+        ScheduledJobParameter mockJobParameter = Mockito.mock(ScheduledJobParameter.class);
+        Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.anyString(), Mockito.any(JobDocVersion.class)))
+            .thenReturn(mockJobParameter);
+        this.enableWarmStandby();
+        JobSweeper testSweeper = Mockito.spy(this.sweeper);
+        Mockito.doNothing()
+            .when(testSweeper)
+            .sweep(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
+
+        // with two copies the node that does not own the job keeps it on standby
+        Iterator<DiscoveryNode> iter = clusterState.getNodes().iterator();
+        while (iter.hasNext()) {
+            Mockito.when(this.clusterService.localNode()).thenReturn(iter.next());
+            testSweeper.postIndex(shardId, index, indexResult);
+        }
+
+        Mockito.verify(testSweeper, Mockito.timeout(10_000))
+            .sweep(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
+        Mockito.verify(testSweeper, Mockito.timeout(10_000))
+            .standby(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
+        assertBusy(() -> Assert.assertEquals(1, testSweeper.getStats().get("standby_jobs")));
+
+        testSweeper.postDelete(shardId, this.getDeleteOperation("doc-id"), new Engine.DeleteResult(1L, 1L, 2L, true));
+        Assert.assertEquals(0, testSweeper.getStats().get("standby_jobs"));
+    }
+
+    public void testPostIndex_reusesShardNodesUntilRoutingChanges() {
+        ClusterState clusterState = buildSingleShardClusterState("index-name");
+        ShardId shardId = clusterState.routingTable().allShards("index-name").get(0).shardId();
+        Mockito.when(this.clusterService.localNode()).thenReturn(clusterState.getNodes().getLocalNode());
+        Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+        JobSweeper testSweeper = Mockito.spy(this.sweeper);
+        Mockito.doNothing()
+            .when(testSweeper)
+            .sweep(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
+
+        for (int i = 0; i < 5; i++) {
+            testSweeper.postIndex(shardId, this.getIndexOperation(), new Engine.IndexResult(1L, 1L, i, true));
+        }
+        Assert.assertEquals(1L, testSweeper.getStats().get("shard_ring_builds"));
+
+        // a new routing table for the shard rebuilds the ring once
+        ClusterState rerouted = buildSingleShardClusterState("index-name");
+        Mockito.when(this.clusterService.state()).thenReturn(rerouted);
+        testSweeper.postIndex(shardId, this.getIndexOperation(), new Engine.IndexResult(1L, 1L, 5L, true));
+        testSweeper.postIndex(shardId, this.getIndexOperation(), new Engine.IndexResult(1L, 1L, 6L, true));
+        Assert.assertEquals(2L, testSweeper.getStats().get("shard_ring_builds"));
+        Mockito.verify(testSweeper, Mockito.timeout(10_000).atLeastOnce())
+            .sweep(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
+    }
+
+    public void testPostDelete_whileUpdateIsParsed() throws Exception {
+        ClusterState clusterState = buildSingleShardClusterState("index-name");
+        ShardId shardId = clusterState.routingTable().allShards("index-name").get(0).shardId();
+        Mockito.when(this.clusterService.localNode()).thenReturn(clusterState.getNodes().getLocalNode());
+        Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+        ScheduledJobParameter jobParameter = Mockito.mock(ScheduledJobParameter.class);
+        Mockito.when(jobParameter.isEnabled()).thenReturn(true);
+        CountDownLatch parsing = new CountDownLatch(1);
+        CountDownLatch deleted = new CountDownLatch(1);
+        Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.anyString(), Mockito.any(JobDocVersion.class))).thenAnswer(invocation -> {
+            parsing.countDown();
+            Assert.assertTrue(deleted.await(10, TimeUnit.SECONDS));
+            return jobParameter;
+        });
+
+        this.sweeper.postIndex(shardId, this.getIndexOperation(), new Engine.IndexResult(1L, 1L, 1L, true));
+        Assert.assertTrue(parsing.await(10, TimeUnit.SECONDS));
+        // the job is deleted while its update is still being parsed
+        this.sweeper.postDelete(shardId, this.getDeleteOperation("doc-id"), new Engine.DeleteResult(1L, 1L, 2L, true));
+        deleted.countDown();
+
+        Mockito.verify(this.scheduler, Mockito.after(500).never())
+            .schedule(Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(this.scheduler, Mockito.never())
+            .updateInPlace(Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any(JobDocVersion.class));
+    }
+
+    public void testPostIndex_schedulesOffWriteThread() {
+        ClusterState clusterState = buildSingleShardClusterState("index-name");
+        ShardId shardId = clusterState.routingTable().allShards("index-name").get(0).shardId();
+        Mockito.when(this.clusterService.localNode()).thenReturn(clusterState.getNodes().getLocalNode());
+        Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+        JobSweeper testSweeper = Mockito.spy(this.sweeper);
+        CompletableFuture<Thread> sweepThread = new CompletableFuture<>();
+        Mockito.doAnswer(invocation -> sweepThread.complete(Thread.currentThread()))
+            .when(testSweeper)
+            .sweep(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
+
+        testSweeper.postIndex(shardId, this.getIndexOperation(), new Engine.IndexResult(1L, 1L, 1L, true));
+
+        Assert.assertNotSame(Thread.currentThread(), sweepThread.join());
+        Mockito.verify(testSweeper, Mockito.times(1))
             .sweep(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
     }
 
@@ -280,6 +534,31 @@ public class JobSweeperTests extends OpenSearchAllocationTestCase {
             );
     }
 
+    public void testSweep_updatesInPlace() throws IOException {
+        ShardId shardId = new ShardId(new Index("index-name", IndexMetadata.INDEX_UUID_NA_VALUE), 1);
+        ScheduledJobParameter mockJobParameter = Mockito.mock(ScheduledJobParameter.class);
+        Mockito.when(mockJobParameter.isEnabled()).thenReturn(true);
+        Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.anyString(), Mockito.any(JobDocVersion.class)))
+            .thenReturn(mockJobParameter);
+        Mockito.when(this.scheduler.getScheduledJobIds("index-name")).thenReturn(Set.of("id"));
+        Mockito.when(this.scheduler.updateInPlace(Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any()))
+            .thenReturn(true);
+
+        this.sweeper.sweep(shardId, "id", this.getTestJsonSource(), new JobDocVersion(1L, 1L, 2L));
+        Mockito.verify(this.scheduler)
+            .updateInPlace(Mockito.eq("index-name"), Mockito.eq("id"), Mockito.eq(mockJobParameter), Mockito.any(JobDocVersion.class));
+        Mockito.verify(this.scheduler, Mockito.never()).deschedule(Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(this.scheduler, Mockito.never())
+            .schedule(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(JobDocVersion.class),
+                Mockito.any(Double.class)
+            );
+    }
+
     public void testSweepUsesSeqNoSort() throws IOException {
         SearchHit hit = new SearchHit(1, "doc-id", null, null);
         hit.sourceRef(this.getTestJsonSource());
@@ -297,13 +576,10 @@ public class JobSweeperTests extends OpenSearchAllocationTestCase {
         Mockito.when(secondResponse.status()).thenReturn(RestStatus.OK);
         Mockito.when(secondResponse.getHits()).thenReturn(emptyHits);
 
-        ActionFuture<SearchResponse> firstFuture = Mockito.mock(ActionFuture.class);
-        Mockito.when(firstFuture.actionGet(Mockito.any(TimeValue.class))).thenReturn(firstResponse);
-
-        ActionFuture<SearchResponse> secondFuture = Mockito.mock(ActionFuture.class);
-        Mockito.when(secondFuture.actionGet(Mockito.any(TimeValue.class))).thenReturn(secondResponse);
-
-        Mockito.when(this.client.search(Mockito.any())).thenReturn(firstFuture).thenReturn(secondFuture);
+        Mockito.doAnswer(this.respond(firstResponse))
+            .doAnswer(this.respond(secondResponse))
+            .when(this.client)
+            .search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
 
         JobSweeper testSweeper = Mockito.spy(this.sweeper);
         Mockito.doNothing()
@@ -316,16 +592,130 @@ public class JobSweeperTests extends OpenSearchAllocationTestCase {
         testSweeper.sweepIndex("index-name");
 
         // verify search was called twice: once for the page with the hit, once for the empty page
-        Mockito.verify(this.client, Mockito.times(2)).search(Mockito.any());
+        this.verifySearches(2);
+        Assert.assertEquals(1L, testSweeper.getStats().get("completed_sweeps"));
+    }
+
+    public void testFirstSweepSchedulesSoonestDueFirst() throws IOException {
+        Instant now = Instant.now();
+        ScheduledJobParameter dueLater = this.jobDueAt(now.plus(7, ChronoUnit.DAYS));
+        ScheduledJobParameter dueSoon = this.jobDueAt(now.plusSeconds(10));
+        Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.eq("job-1"), Mockito.any(JobDocVersion.class))).thenReturn(dueLater);
+        Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.eq("job-2"), Mockito.any(JobDocVersion.class))).thenReturn(dueSoon);
+
+        SearchHit first = new SearchHit(1, "job-1", null, null);
+        first.sourceRef(this.getTestJsonSource());
+        first.setSeqNo(1L);
+        first.setPrimaryTerm(1L);
+        SearchHit second = new SearchHit(2, "job-2", null, null);
+        second.sourceRef(this.getTestJsonSource());
+        second.setSeqNo(2L);
+        second.setPrimaryTerm(1L);
+        Mockito.doAnswer(this.respond(this.searchResponse(first, second)))
+            .doAnswer(this.respond(this.searchResponse()))
+            .when(this.client)
+            .search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
+        Mockito.when(this.clusterService.state()).thenReturn(buildSingleShardClusterState("index-name"));
+
+        this.sweeper.sweepIndex("index-name");
+
+        // the job indexed last is due first and is scheduled first
+        InOrder inOrder = Mockito.inOrder(this.scheduler);
+        inOrder.verify(this.scheduler)
+            .schedule(
+                Mockito.eq("index-name"),
+                Mockito.eq("job-2"),
+                Mockito.eq(dueSoon),
+                Mockito.any(),
+                Mockito.any(JobDocVersion.class),
+                Mockito.any(Double.class)
+            );
+        inOrder.verify(this.scheduler)
+            .schedule(
+                Mockito.eq("index-name"),
+                Mockito.eq("job-1"),
+                Mockito.eq(dueLater),
+                Mockito.any(),
+                Mockito.any(JobDocVersion.class),
+                Mockito.any(Double.class)
+            );
+        Map<String, Object> stats = this.sweeper.getStats();
+        Assert.assertEquals(2L, stats.get("startup_recovered_jobs"));
+        Assert.assertEquals(0, stats.get("startup_pending_jobs"));
+        Assert.assertEquals(0, stats.get("startup_recovering_shards"));
+    }
+
+    public void testFirstSweepArmsDueJobsBeforeReadEnds() throws IOException {
+        Instant now = Instant.now();
+        Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.eq("job-1"), Mockito.any(JobDocVersion.class)))
+            .thenReturn(this.jobDueAt(now.plus(7, ChronoUnit.DAYS)));
+        Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.eq("job-2"), Mockito.any(JobDocVersion.class)))
+            .thenReturn(this.jobDueAt(now.plusSeconds(10)));
+
+        SearchHit first = new SearchHit(1, "job-1", null, null);
+        first.sourceRef(this.getTestJsonSource());
+        first.setSeqNo(1L);
+        first.setPrimaryTerm(1L);
+        SearchHit second = new SearchHit(2, "job-2", null, null);
+        second.sourceRef(this.getTestJsonSource());
+        second.setSeqNo(2L);
+        second.setPrimaryTerm(1L);
+        List<String> scheduledBeforeLastPage = new ArrayList<>();
+        Answer<Void> lastPage = this.respond(this.searchResponse());
+        Mockito.doAnswer(this.respond(this.searchResponse(first, second))).doAnswer(invocation -> {
+            Mockito.mockingDetails(this.scheduler)
+                .getInvocations()
+                .stream()
+                .filter(scheduled -> scheduled.getMethod().getName().equals("schedule"))
+                .forEach(scheduled -> scheduledBeforeLastPage.add(scheduled.getArgument(1)));
+            return lastPage.answer(invocation);
+        }).when(this.client).search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
+        Mockito.when(this.clusterService.state()).thenReturn(buildSingleShardClusterState("index-name"));
+
+        this.sweeper.sweepIndex("index-name");
+
+        // the job due within the window is armed with its page, the other one once the shard is read
+        Assert.assertEquals(List.of("job-2"), scheduledBeforeLastPage);
+        Mockito.verify(this.scheduler)
+            .schedule(
+                Mockito.eq("index-name"),
+                Mockito.eq("job-1"),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(JobDocVersion.class),
+                Mockito.any(Double.class)
+            );
+        Assert.assertEquals(2L, this.sweeper.getStats().get("startup_recovered_jobs"));
+    }
+
+    public void testPostDelete_dropsRecoveringJob() throws IOException {
+        ShardId shardId = new ShardId(new Index("index-name", IndexMetadata.INDEX_UUID_NA_VALUE), 1);
+        ScheduledJobParameter jobParameter = this.jobDueAt(Instant.now().plusSeconds(10));
+        Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.anyString(), Mockito.any(JobDocVersion.class))).thenReturn(jobParameter);
+
+        this.sweeper.recover(shardId, "doc-id", this.getTestJsonSource(), new JobDocVersion(1L, 1L, 1L));
+        Assert.assertEquals(1, this.sweeper.getStats().get("startup_pending_jobs"));
+
+        this.sweeper.postDelete(shardId, this.getDeleteOperation("doc-id"), new Engine.DeleteResult(1L, 1L, 2L, true));
+        Assert.assertEquals(0, this.sweeper.getStats().get("startup_pending_jobs"));
+    }
+
+    private ScheduledJobParameter jobDueAt(Instant nextExecutionTime) {
+        Schedule schedule = Mockito.mock(Schedule.class);
+        Mockito.when(schedule.getNextExecutionTime(Mockito.any())).thenReturn(nextExecutionTime);
+        ScheduledJobParameter jobParameter = Mockito.mock(ScheduledJobParameter.class);
+        Mockito.when(jobParameter.isEnabled()).thenReturn(true);
+        Mockito.when(jobParameter.getSchedule()).thenReturn(schedule);
+        return jobParameter;
     }
 
     public void testSweepAbortsOnNonOkResponse() {
         SearchResponse badResponse = Mockito.mock(SearchResponse.class);
         Mockito.when(badResponse.status()).thenReturn(RestStatus.INTERNAL_SERVER_ERROR);
 
-        ActionFuture<SearchResponse> future = Mockito.mock(ActionFuture.class);
-        Mockito.when(future.actionGet(Mockito.any(TimeValue.class))).thenReturn(badResponse);
-        Mockito.when(this.client.search(Mockito.any())).thenReturn(future);
+        Mockito.doAnswer(this.respond(badResponse))
+            .when(this.client)
+            .search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
 
         JobSweeper testSweeper = Mockito.spy(this.sweeper);
         Mockito.doNothing()
@@ -338,16 +728,15 @@ public class JobSweeperTests extends OpenSearchAllocationTestCase {
         testSweeper.sweepIndex("index-name");
 
         // search was called once, but sweep was never called due to non-OK status
-        Mockito.verify(this.client, Mockito.times(1)).search(Mockito.any());
+        this.verifySearches(1);
         Mockito.verify(testSweeper, Mockito.times(0))
             .sweep(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
     }
 
     public void testSweepAbortsOnSearchException() {
-        ActionFuture<SearchResponse> failingFuture = Mockito.mock(ActionFuture.class);
-        Mockito.when(failingFuture.actionGet(Mockito.any(TimeValue.class)))
-            .thenThrow(new RuntimeException("fielddata access on _id disallowed"));
-        Mockito.when(this.client.search(Mockito.any())).thenReturn(failingFuture);
+        Mockito.doAnswer(this.fail(new RuntimeException("fielddata access on _id disallowed")))
+            .when(this.client)
+            .search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
 
         JobSweeper testSweeper = Mockito.spy(this.sweeper);
         Mockito.doNothing()
@@ -361,11 +750,400 @@ public class JobSweeperTests extends OpenSearchAllocationTestCase {
         testSweeper.sweepIndex("index-name");
 
         // search was attempted once before the exception aborted the loop
-        Mockito.verify(this.client, Mockito.times(1)).search(Mockito.any());
+        this.verifySearches(1);
         Mockito.verify(testSweeper, Mockito.times(0))
             .sweep(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
     }
 
+    public void testSweepRetriesAfterScheduledBackoff() {
+        Mockito.when(this.threadPool.schedule(Mockito.any(Runnable.class), Mockito.any(TimeValue.class), Mockito.anyString()))
+            .thenAnswer(invocation -> {
+                ((Runnable) invocation.getArgument(0)).run();
+                return null;
+            });
+        Mockito.doAnswer(this.fail(new OpenSearchStatusException("shard not available", RestStatus.SERVICE_UNAVAILABLE)))
+            .doAnswer(this.respond(this.searchResponse()))
+            .when(this.client)
+            .search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
+        ClusterState clusterState = buildSingleShardClusterState("index-name");
+        Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+
+        this.sweeper.sweepIndex("index-name");
+
+        // the retry is scheduled instead of sleeping on the sweeper thread
+        Mockito.verify(this.threadPool)
+            .schedule(Mockito.any(Runnable.class), Mockito.any(TimeValue.class), Mockito.eq(ThreadPool.Names.SAME));
+        this.verifySearches(2);
+        Assert.assertEquals(1, this.sweeper.getStats().get("checkpointed_shards"));
+    }
+
+    public void testSweepCancelledWhenShardLeavesNode() throws Exception {
+        AtomicReference<ActionListener<SearchResponse>> pendingSearch = new AtomicReference<>();
+        CountDownLatch searching = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            pendingSearch.set(invocation.getArgument(1));
+            searching.countDown();
+            return null;
+        }).when(this.client).search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
+        JobSweeper testSweeper = Mockito.spy(this.sweeper);
+        Mockito.doNothing()
+            .when(testSweeper)
+            .sweep(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
+        Mockito.when(this.clusterService.state()).thenReturn(buildSingleShardClusterState("index-name"));
+
+        CompletableFuture<Void> sweep = CompletableFuture.runAsync(() -> testSweeper.sweepIndex("index-name"));
+        Assert.assertTrue(searching.await(10, TimeUnit.SECONDS));
+
+        // the index goes away while the first page is in flight
+        Mockito.when(this.clusterService.state()).thenReturn(buildSingleShardClusterState("other-index"));
+        testSweeper.sweepIndex("index-name");
+        SearchHit hit = new SearchHit(1, "doc-id", null, null);
+        hit.sourceRef(this.getTestJsonSource());
+        hit.setSeqNo(1L);
+        hit.setPrimaryTerm(1L);
+        pendingSearch.get().onResponse(this.searchResponse(hit));
+
+        sweep.get(10, TimeUnit.SECONDS);
+        this.verifySearches(1);
+        Mockito.verify(testSweeper, Mockito.times(0))
+            .sweep(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
+        Assert.assertEquals(1L, testSweeper.getStats().get("cancelled_shard_sweeps"));
+    }
+
+    public void testRoutingChangeSweepDoesNotWaitForFullSweep() throws Exception {
+        JobSweeper twoIndexSweeper = new JobSweeper(
+            this.settings,
+            this.client,
+            this.clusterService,
+            this.threadPool,
+            xContentRegistry,
+            Map.of(
+                "index-name",
+                new ScheduledJobProvider("JOB_TYPE", "job-index-name", this.jobParser, this.jobRunner),
+                "other-index",
+                new ScheduledJobProvider("JOB_TYPE", "job-index-name", this.jobParser, this.jobRunner)
+            ),
+            scheduler,
+            new LockServiceImpl(client, clusterService),
+            jobDetailsService
+        );
+        try {
+            Metadata metadata = Metadata.builder()
+                .put(createIndexMetadata("index-name", 0, 1))
+                .put(createIndexMetadata("other-index", 0, 1))
+                .build();
+            RoutingTable routingTable = new RoutingTable.Builder().addAsNew(metadata.index("index-name"))
+                .addAsNew(metadata.index("other-index"))
+                .build();
+            ClusterState clusterState = this.addNodesToCluter(
+                ClusterState.builder(new ClusterName("cluster-name")).metadata(metadata).routingTable(routingTable).build(),
+                1
+            );
+            AllocationService allocationService = createAllocationService();
+            clusterState = allocationService.reroute(clusterState, "reroute");
+            clusterState = allocationService.applyStartedShards(
+                clusterState,
+                clusterState.getRoutingNodes().shardsWithState(ShardRoutingState.INITIALIZING)
+            );
+            String localNodeId = clusterState.getNodes().iterator().next().getId();
+            clusterState = ClusterState.builder(clusterState)
+                .nodes(DiscoveryNodes.builder(clusterState.getNodes()).localNodeId(localNodeId))
+                .build();
+            Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+
+            // the shard of index-name never answers while the full sweep runs
+            AtomicReference<ActionListener<SearchResponse>> pendingSearch = new AtomicReference<>();
+            Mockito.doAnswer(invocation -> {
+                SearchRequest request = invocation.getArgument(0);
+                ActionListener<SearchResponse> listener = invocation.getArgument(1);
+                if (request.indices()[0].equals("index-name")) {
+                    pendingSearch.set(listener);
+                } else {
+                    listener.onResponse(this.searchResponse());
+                }
+                return null;
+            }).when(this.client).search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
+
+            CompletableFuture<Void> fullSweep = twoIndexSweeper.sweepAllJobIndices();
+            assertBusy(() -> Assert.assertNotNull(pendingSearch.get()));
+
+            // the copies of other-index moved, its shard is swept while the full sweep is still running
+            ClusterState previous = ClusterState.builder(clusterState)
+                .routingTable(RoutingTable.builder().add(clusterState.routingTable().index("index-name")).build())
+                .build();
+            twoIndexSweeper.clusterChanged(new ClusterChangedEvent("test", clusterState, previous));
+            assertBusy(() -> Assert.assertEquals(1L, twoIndexSweeper.getStats().get("completed_sweeps")));
+            Assert.assertFalse(fullSweep.isDone());
+
+            pendingSearch.get().onResponse(this.searchResponse());
+            fullSweep.get(10, TimeUnit.SECONDS);
+            Assert.assertEquals(2L, twoIndexSweeper.getStats().get("completed_sweeps"));
+        } finally {
+            twoIndexSweeper.beforeClose();
+        }
+    }
+
+    public void testIncrementalSweep() throws IOException {
+        SearchHit hit = new SearchHit(1, "doc-id", null, null);
+        hit.sourceRef(this.getTestJsonSource());
+        hit.setSeqNo(42L);
+        hit.setPrimaryTerm(1L);
+        Mockito.doAnswer(this.respond(this.searchResponse(hit)))
+            .doAnswer(this.respond(this.searchResponse()))
+            .when(this.client)
+            .search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
+
+        JobSweeper testSweeper = Mockito.spy(this.sweeper);
+        Mockito.doNothing()
+            .when(testSweeper)
+            .sweep(Mockito.any(), Mockito.anyString(), Mockito.any(BytesReference.class), Mockito.any(JobDocVersion.class));
+        ClusterState clusterState = buildSingleShardClusterState("index-name");
+        Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+
+        // first sweep reads the whole shard
+        testSweeper.sweepIndex("index-name");
+        this.verifySearches(2);
+
+        // nothing was indexed since, the shard is skipped
+        testSweeper.sweepIndex("index-name");
+        this.verifySearches(2);
+        Assert.assertEquals(1L, testSweeper.getStats().get("skipped_shard_sweeps"));
+
+        // a later operation makes the next sweep read only what comes after the checkpoint
+        ShardId shardId = clusterState.routingTable().allShards("index-name").get(0).shardId();
+        testSweeper.postDelete(shardId, this.getDeleteOperation("other-id"), new Engine.DeleteResult(1L, 1L, 43L, true));
+        testSweeper.sweepIndex("index-name");
+        ArgumentCaptor<SearchRequest> requests = ArgumentCaptor.forClass(SearchRequest.class);
+        Mockito.verify(this.client, Mockito.times(3)).search(requests.capture(), Mockito.any(ActionListener.class));
+        Assert.assertArrayEquals(new Object[] { 42L }, requests.getValue().source().searchAfter());
+        Assert.assertEquals(1L, testSweeper.getStats().get("incremental_shard_sweeps"));
+
+        // a full reconcile starts from the beginning of the shard again
+        testSweeper.sweepIndex("index-name", true);
+        Mockito.verify(this.client, Mockito.times(4)).search(requests.capture(), Mockito.any(ActionListener.class));
+        Assert.assertArrayEquals(new Object[] { -1L }, requests.getValue().source().searchAfter());
+        Assert.assertEquals(2L, testSweeper.getStats().get("full_shard_sweeps"));
+    }
+
+    public void testTombstonesOfSweptJobsArePrunedByIncrementalSweep() throws IOException {
+        ClusterState clusterState = buildSingleShardClusterState("index-name");
+        ShardId shardId = clusterState.routingTable().allShards("index-name").get(0).shardId();
+        Mockito.when(this.clusterService.localNode()).thenReturn(clusterState.getNodes().getLocalNode());
+        Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+        ScheduledJobParameter jobParameter = Mockito.mock(ScheduledJobParameter.class);
+        Mockito.when(jobParameter.isEnabled()).thenReturn(true);
+        Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.anyString(), Mockito.any(JobDocVersion.class))).thenReturn(jobParameter);
+        SearchHit hit = new SearchHit(1, "doc-id", null, null);
+        hit.sourceRef(this.getTestJsonSource());
+        hit.setSeqNo(42L);
+        hit.setPrimaryTerm(1L);
+        Mockito.doAnswer(this.respond(this.searchResponse(hit)))
+            .doAnswer(this.respond(this.searchResponse()))
+            .when(this.client)
+            .search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
+        this.sweeper.sweepIndex("index-name");
+
+        // a document that was never swept and is not being parsed leaves no tombstone
+        this.sweeper.postDelete(shardId, this.getDeleteOperation("other-id"), new Engine.DeleteResult(1L, 1L, 43L, true));
+        Assert.assertEquals(0L, this.sweeper.getStats().get("deleted_job_tombstones"));
+        this.sweeper.postDelete(shardId, this.getDeleteOperation("doc-id"), new Engine.DeleteResult(1L, 1L, 44L, true));
+        Assert.assertEquals(1L, this.sweeper.getStats().get("deleted_job_tombstones"));
+
+        // the incremental sweep after the delete reads the shard to its end and drops the tombstone
+        this.sweeper.sweepIndex("index-name");
+        Assert.assertEquals(1L, this.sweeper.getStats().get("incremental_shard_sweeps"));
+        Assert.assertEquals(0L, this.sweeper.getStats().get("deleted_job_tombstones"));
+    }
+
+    public void testTwoPhaseSweepFetchesOnlyChangedJobs() throws IOException {
+        JobSweeper twoPhaseSweeper = new JobSweeper(
+            Settings.builder().put(JobSchedulerSettings.SWEEP_TWO_PHASE.getKey(), true).build(),
+            this.client,
+            this.clusterService,
+            this.threadPool,
+            xContentRegistry,
+            Map.of("index-name", new ScheduledJobProvider("JOB_TYPE", "job-index-name", this.jobParser, this.jobRunner)),
+            scheduler,
+            new LockServiceImpl(client, clusterService),
+            jobDetailsService
+        );
+        try {
+            ClusterState clusterState = buildSingleShardClusterState("index-name");
+            Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+            ShardId shardId = clusterState.routingTable().allShards("index-name").get(0).shardId();
+            ScheduledJobParameter jobParameter = Mockito.mock(ScheduledJobParameter.class);
+            Mockito.when(jobParameter.isEnabled()).thenReturn(true);
+            Mockito.when(this.jobParser.parse(Mockito.any(), Mockito.anyString(), Mockito.any(JobDocVersion.class)))
+                .thenReturn(jobParameter);
+
+            // job-1 is already swept at the version the first phase returns
+            twoPhaseSweeper.sweep(shardId, "job-1", this.getTestJsonSource(), new JobDocVersion(1L, 1L, 1L));
+
+            SearchHit unchanged = new SearchHit(1, "job-1", null, null);
+            unchanged.setSeqNo(1L);
+            unchanged.setPrimaryTerm(1L);
+            unchanged.version(1L);
+            SearchHit changed = new SearchHit(2, "job-2", null, null);
+            changed.setSeqNo(2L);
+            changed.setPrimaryTerm(1L);
+            changed.version(1L);
+            Mockito.doAnswer(this.respond(this.searchResponse(unchanged, changed)))
+                .doAnswer(this.respond(this.searchResponse()))
+                .when(this.client)
+                .search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
+
+            GetResponse getResponse = new GetResponse(
+                new GetResult("index-name", "job-2", 2L, 1L, 1L, true, this.getTestJsonSource(), Map.of(), Map.of())
+            );
+            Mockito.doAnswer(
+                this.respond(new MultiGetResponse(new MultiGetItemResponse[] { new MultiGetItemResponse(getResponse, null) }))
+            ).when(this.client).multiGet(Mockito.any(MultiGetRequest.class), Mockito.any(ActionListener.class));
+
+            twoPhaseSweeper.sweepIndex("index-name");
+
+            ArgumentCaptor<SearchRequest> searchRequest = ArgumentCaptor.forClass(SearchRequest.class);
+            Mockito.verify(this.client, Mockito.times(2)).search(searchRequest.capture(), Mockito.any(ActionListener.class));
+            Assert.assertFalse(searchRequest.getValue().source().fetchSource().fetchSource());
+            ArgumentCaptor<MultiGetRequest> multiGetRequest = ArgumentCaptor.forClass(MultiGetRequest.class);
+            Mockito.verify(this.client).multiGet(multiGetRequest.capture(), Mockito.any(ActionListener.class));
+            Assert.assertEquals(1, multiGetRequest.getValue().getItems().size());
+            Assert.assertEquals("job-2", multiGetRequest.getValue().getItems().get(0).id());
+            Mockito.verify(this.scheduler)
+                .schedule(
+                    Mockito.eq("index-name"),
+                    Mockito.eq("job-2"),
+                    Mockito.any(),
+                    Mockito.any(),
+                    Mockito.any(JobDocVersion.class),
+                    Mockito.any(Double.class)
+                );
+            Assert.assertEquals(2L, twoPhaseSweeper.getStats().get("two_phase_version_checked_jobs"));
+            Assert.assertEquals(1L, twoPhaseSweeper.getStats().get("two_phase_source_fetched_jobs"));
+        } finally {
+            twoPhaseSweeper.beforeClose();
+        }
+    }
+
+    public void testTwoPhaseSweepFetchesWithJobRouting() throws IOException {
+        JobSweeper twoPhaseSweeper = new JobSweeper(
+            Settings.builder().put(JobSchedulerSettings.SWEEP_TWO_PHASE.getKey(), true).build(),
+            this.client,
+            this.clusterService,
+            this.threadPool,
+            xContentRegistry,
+            Map.of("index-name", new ScheduledJobProvider("JOB_TYPE", "job-index-name", this.jobParser, this.jobRunner)),
+            scheduler,
+            new LockServiceImpl(client, clusterService),
+            jobDetailsService
+        );
+        try {
+            Mockito.when(this.clusterService.state()).thenReturn(buildSingleShardClusterState("index-name"));
+
+            // job-1 was indexed with a custom routing, job-2 is routed by its id
+            SearchHit routed = new SearchHit(
+                1,
+                "job-1",
+                null,
+                Map.of(RoutingFieldMapper.NAME, new DocumentField(RoutingFieldMapper.NAME, List.of("tenant-a")))
+            );
+            routed.setSeqNo(1L);
+            routed.setPrimaryTerm(1L);
+            routed.version(1L);
+            SearchHit unrouted = new SearchHit(2, "job-2", null, null);
+            unrouted.setSeqNo(2L);
+            unrouted.setPrimaryTerm(1L);
+            unrouted.version(1L);
+            Mockito.doAnswer(this.respond(this.searchResponse(routed, unrouted)))
+                .doAnswer(this.respond(this.searchResponse()))
+                .when(this.client)
+                .search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
+            Mockito.doAnswer(this.respond(new MultiGetResponse(new MultiGetItemResponse[0])))
+                .when(this.client)
+                .multiGet(Mockito.any(MultiGetRequest.class), Mockito.any(ActionListener.class));
+
+            twoPhaseSweeper.sweepIndex("index-name");
+
+            ArgumentCaptor<MultiGetRequest> multiGetRequest = ArgumentCaptor.forClass(MultiGetRequest.class);
+            Mockito.verify(this.client).multiGet(multiGetRequest.capture(), Mockito.any(ActionListener.class));
+            List<MultiGetRequest.Item> items = multiGetRequest.getValue().getItems();
+            Assert.assertEquals(2, items.size());
+            Assert.assertEquals("job-1", items.get(0).id());
+            Assert.assertEquals("tenant-a", items.get(0).routing());
+            Assert.assertEquals("job-2", items.get(1).id());
+            Assert.assertNull(items.get(1).routing());
+        } finally {
+            twoPhaseSweeper.beforeClose();
+        }
+    }
+
+    private SearchResponse searchResponse(SearchHit... hits) {
+        SearchResponse response = Mockito.mock(SearchResponse.class);
+        Mockito.when(response.status()).thenReturn(RestStatus.OK);
+        Mockito.when(response.getHits()).thenReturn(new SearchHits(hits, null, 1.0f));
+        return response;
+    }
+
+    private void enableWarmStandby() {
+        this.clusterService.getClusterSettings()
+            .applySettings(Settings.builder().put(JobSchedulerSettings.SWEEP_WARM_STANDBY.getKey(), true).build());
+    }
+
+    private Answer<Void> respond(Object response) {
+        return invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        };
+    }
+
+    private Answer<Void> fail(Exception e) {
+        return invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onFailure(e);
+            return null;
+        };
+    }
+
+    private void verifySearches(int times) {
+        Mockito.verify(this.client, Mockito.times(times)).search(Mockito.any(SearchRequest.class), Mockito.any(ActionListener.class));
+    }
+
+    public void testSweepIndex_indexRemoved() {
+        ClusterState clusterState = buildSingleShardClusterState("other-index");
+        Mockito.when(this.clusterService.state()).thenReturn(clusterState);
+
+        this.sweeper.sweepIndex("index-name");
+
+        Mockito.verify(this.scheduler).descheduleIndex("index-name");
+        Mockito.verify(this.client, Mockito.times(0)).search(Mockito.any());
+    }
+
+    public void testChangedShards() {
+        ClusterState clusterState = this.buildSingleShardClusterState("index-name");
+        RoutingTable routingTable = clusterState.routingTable();
+        ShardId shardId = routingTable.index("index-name").shard(0).shardId();
+
+        Assert.assertEquals(Set.of(), JobSweeper.changedShards(routingTable, routingTable, "index-name"));
+        // a new index and a removed index change every shard
+        Assert.assertEquals(Set.of(shardId), JobSweeper.changedShards(RoutingTable.EMPTY_ROUTING_TABLE, routingTable, "index-name"));
+        Assert.assertEquals(Set.of(shardId), JobSweeper.changedShards(routingTable, RoutingTable.EMPTY_ROUTING_TABLE, "index-name"));
+        Assert.assertEquals(Set.of(), JobSweeper.changedShards(routingTable, routingTable, "other-index"));
+
+        // copies that are not started yet do not own jobs
+        ClusterState unassigned = ClusterState.builder(clusterState)
+            .routingTable(
+                new RoutingTable.Builder().add(
+                    new IndexRoutingTable.Builder(clusterState.metadata().index("index-name").getIndex()).initializeAsNew(
+                        clusterState.metadata().index("index-name")
+                    ).build()
+                ).build()
+            )
+            .build();
+        RoutingTable unassignedRoutingTable = unassigned.routingTable();
+        Assert.assertEquals(Set.of(), JobSweeper.changedShards(RoutingTable.EMPTY_ROUTING_TABLE, unassignedRoutingTable, "index-name"));
+        Assert.assertEquals(Set.of(shardId), JobSweeper.changedShards(unassignedRoutingTable, routingTable, "index-name"));
+    }
+
     private ClusterState buildSingleShardClusterState(String indexName) {
         Metadata metadata = Metadata.builder().put(createIndexMetadata(indexName, 0, 1)).build();
         RoutingTable routingTable = new RoutingTable.Builder().add(
@@ -385,6 +1163,29 @@ public class JobSweeperTests extends OpenSearchAllocationTestCase {
         return clusterState;
     }
 
+    private ClusterState buildTwoCopyClusterState(String localNodeId) {
+        Metadata metadata = Metadata.builder().put(createIndexMetadata("index-name", 1, 1)).build();
+        RoutingTable routingTable = new RoutingTable.Builder().add(
+            new IndexRoutingTable.Builder(metadata.index("index-name").getIndex()).initializeAsNew(metadata.index("index-name")).build()
+        ).build();
+        ClusterState clusterState = ClusterState.builder(new ClusterName("cluster-name"))
+            .metadata(metadata)
+            .routingTable(routingTable)
+            .build();
+        clusterState = this.addNodesToCluter(clusterState, 2);
+        clusterState = this.initializeAllShards(clusterState);
+        return ClusterState.builder(clusterState).nodes(DiscoveryNodes.builder(clusterState.getNodes()).localNodeId(localNodeId)).build();
+    }
+
+    private String jobIdOwnedBy(String nodeId) {
+        ShardNodes shardNodes = new ShardNodes(nodeId, List.of("node-1", "node-2"));
+        for (int i = 0;; i++) {
+            if (shardNodes.isOwningNode("job-" + i)) {
+                return "job-" + i;
+            }
+        }
+    }
+
     private ClusterState addNodesToCluter(ClusterState clusterState, int nodeCount) {
         DiscoveryNodes.Builder nodeBuilder = DiscoveryNodes.builder();
         for (int i = 1; i <= nodeCount; i++) {
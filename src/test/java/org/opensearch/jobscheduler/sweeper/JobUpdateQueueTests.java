@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.sweeper;
+
+import org.junit.Assert;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.jobscheduler.spi.JobDocVersion;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class JobUpdateQueueTests extends OpenSearchTestCase {
+
+    public void testCoalescesByVersion() {
+        JobUpdateQueue queue = new JobUpdateQueue();
+        Assert.assertTrue(queue.offer("job-1", new BytesArray("v1"), new JobDocVersion(1L, 1L, 1L)));
+        Assert.assertFalse(queue.offer("job-1", new BytesArray("v3"), new JobDocVersion(1L, 3L, 3L)));
+        // an older version arriving late does not replace the queued one
+        Assert.assertFalse(queue.offer("job-1", new BytesArray("v2"), new JobDocVersion(1L, 2L, 2L)));
+        Assert.assertFalse(queue.offer("job-2", new BytesArray("other"), new JobDocVersion(1L, 4L, 1L)));
+        Assert.assertEquals(2, queue.size());
+        Assert.assertEquals(2L, queue.getCoalescedCount());
+
+        Map<String, String> drained = new HashMap<>();
+        queue.drain((docId, jobSource, jobDocVersion) -> drained.put(docId, jobSource.utf8ToString()));
+        Assert.assertEquals(Map.of("job-1", "v3", "job-2", "other"), drained);
+        Assert.assertEquals(0, queue.size());
+
+        // the next update after a drain schedules a new one
+        Assert.assertTrue(queue.offer("job-1", new BytesArray("v5"), new JobDocVersion(1L, 5L, 4L)));
+    }
+
+    public void testDiscard() {
+        JobUpdateQueue queue = new JobUpdateQueue();
+        queue.offer("job-1", new BytesArray("v1"), new JobDocVersion(1L, 1L, 1L));
+        queue.offer("job-2", new BytesArray("v2"), new JobDocVersion(1L, 5L, 1L));
+
+        // deletes of job-1 after its update and of job-2 before its update
+        queue.discard("job-1", 3L);
+        queue.discard("job-2", 3L);
+
+        Map<String, String> drained = new HashMap<>();
+        queue.drain((docId, jobSource, jobDocVersion) -> drained.put(docId, jobSource.utf8ToString()));
+        Assert.assertEquals(Map.of("job-2", "v2"), drained);
+    }
+
+    public void testDrainTakesUpdatesOfferedWhileDraining() {
+        JobUpdateQueue queue = new JobUpdateQueue();
+        Assert.assertTrue(queue.offer("job-1", new BytesArray("v1"), new JobDocVersion(1L, 1L, 1L)));
+
+        Map<String, String> drained = new HashMap<>();
+        queue.drain((docId, jobSource, jobDocVersion) -> {
+            drained.put(docId, jobSource.utf8ToString());
+            if (docId.equals("job-1")) {
+                // the running drain takes the update, no second drain runs next to it
+                Assert.assertFalse(queue.offer("job-2", new BytesArray("v2"), new JobDocVersion(1L, 2L, 1L)));
+            }
+        });
+        Assert.assertEquals(Map.of("job-1", "v1", "job-2", "v2"), drained);
+        Assert.assertTrue(queue.offer("job-3", new BytesArray("v3"), new JobDocVersion(1L, 3L, 1L)));
+    }
+
+    public void testDrainRejected() {
+        JobUpdateQueue queue = new JobUpdateQueue();
+        Assert.assertTrue(queue.offer("job-1", new BytesArray("v1"), new JobDocVersion(1L, 1L, 1L)));
+        queue.drainRejected();
+        Assert.assertTrue(queue.offer("job-2", new BytesArray("v2"), new JobDocVersion(1L, 2L, 1L)));
+    }
+}
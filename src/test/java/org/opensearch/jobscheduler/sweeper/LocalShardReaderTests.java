@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.sweeper;
+
+import org.junit.Assert;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardTestCase;
+import org.opensearch.index.shard.ShardNotFoundException;
+import org.opensearch.jobscheduler.spi.JobDocVersion;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class LocalShardReaderTests extends IndexShardTestCase {
+
+    public void testReadLocalShard() throws Exception {
+        IndexShard shard = newStartedShard(true);
+        try {
+            indexDoc(shard, "_doc", "job-1", "{\"name\":\"job-1\"}");
+            indexDoc(shard, "_doc", "job-2", "{\"name\":\"job-2\"}");
+            indexDoc(shard, "_doc", "job-3", "{\"name\":\"job-3\"}");
+            indexDoc(shard, "_doc", "job-2", "{\"name\":\"job-2-updated\"}");
+            deleteDoc(shard, "job-3");
+            shard.refresh("test");
+
+            LocalShardReader reader = new LocalShardReader();
+            reader.afterIndexShardStarted(shard);
+            Assert.assertTrue(reader.canRead(shard.shardId()));
+
+            Set<String> versionChecked = new HashSet<>();
+            Map<String, String> sources = new HashMap<>();
+            Map<String, JobDocVersion> versions = new HashMap<>();
+            long maxSeqNo = reader.read(shard.shardId(), -1L, new LocalShardReader.JobDocVisitor() {
+                @Override
+                public boolean needsSource(String docId, JobDocVersion jobDocVersion) {
+                    versionChecked.add(docId);
+                    return !docId.equals("job-1");
+                }
+
+                @Override
+                public void visit(String docId, BytesReference jobSource, JobDocVersion jobDocVersion) {
+                    sources.put(docId, jobSource.utf8ToString());
+                    versions.put(docId, jobDocVersion);
+                }
+            });
+
+            Assert.assertEquals(Set.of("job-1", "job-2"), versionChecked);
+            Assert.assertEquals(Map.of("job-2", "{\"name\":\"job-2-updated\"}"), sources);
+            Assert.assertEquals(3L, versions.get("job-2").getSeqNo());
+            Assert.assertEquals(2L, versions.get("job-2").getVersion());
+            Assert.assertEquals(3L, maxSeqNo);
+
+            // only documents after the given sequence number are read
+            Set<String> afterSeqNo = new HashSet<>();
+            Assert.assertEquals(3L, reader.read(shard.shardId(), 2L, new LocalShardReader.JobDocVisitor() {
+                @Override
+                public boolean needsSource(String docId, JobDocVersion jobDocVersion) {
+                    afterSeqNo.add(docId);
+                    return false;
+                }
+
+                @Override
+                public void visit(String docId, BytesReference jobSource, JobDocVersion jobDocVersion) {
+                    Assert.fail("source was not requested");
+                }
+            }));
+            Assert.assertEquals(Set.of("job-2"), afterSeqNo);
+
+            reader.beforeIndexShardClosed(shard.shardId(), shard, Settings.EMPTY);
+            Assert.assertFalse(reader.canRead(shard.shardId()));
+        } finally {
+            closeShards(shard);
+        }
+    }
+
+    public void testReadLocalShardInPages() throws Exception {
+        IndexShard shard = newStartedShard(true);
+        try {
+            indexDoc(shard, "_doc", "job-1", "{\"name\":\"job-1\"}");
+            indexDoc(shard, "_doc", "job-2", "{\"name\":\"job-2\"}");
+            indexDoc(shard, "_doc", "job-3", "{\"name\":\"job-3\"}");
+            shard.refresh("test");
+
+            LocalShardReader reader = new LocalShardReader();
+            reader.afterIndexShardStarted(shard);
+            List<String> visited = new ArrayList<>();
+            LocalShardReader.JobDocVisitor visitor = new LocalShardReader.JobDocVisitor() {
+                @Override
+                public boolean needsSource(String docId, JobDocVersion jobDocVersion) {
+                    return true;
+                }
+
+                @Override
+                public void visit(String docId, BytesReference jobSource, JobDocVersion jobDocVersion) {
+                    visited.add(docId);
+                }
+            };
+
+            LocalShardReader.ShardRead read = reader.open(shard.shardId(), -1L);
+            try {
+                Assert.assertTrue(read.readPage(2, visitor));
+                Assert.assertEquals(2, visited.size());
+                // documents indexed after the read was opened are not seen by its later pages
+                indexDoc(shard, "_doc", "job-4", "{\"name\":\"job-4\"}");
+                shard.refresh("test");
+                while (read.readPage(2, visitor)) {
+                    // read the remaining pages
+                }
+                Assert.assertEquals(Set.of("job-1", "job-2", "job-3"), new HashSet<>(visited));
+                Assert.assertEquals(2L, read.maxSeqNo());
+                Assert.assertEquals(2L, read.checkpoint());
+            } finally {
+                read.close();
+                read.close();
+            }
+        } finally {
+            closeShards(shard);
+        }
+    }
+
+    public void testReadShardNotOnNode() {
+        LocalShardReader reader = new LocalShardReader();
+        ShardId shardId = new ShardId("index-test", "index-uuid", 0);
+        Assert.assertFalse(reader.canRead(shardId));
+        expectThrows(ShardNotFoundException.class, () -> reader.read(shardId, -1L, null));
+    }
+}
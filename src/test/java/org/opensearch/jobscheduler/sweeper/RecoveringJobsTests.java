@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.sweeper;
+
+import org.junit.Assert;
+import org.mockito.Mockito;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.jobscheduler.spi.JobDocVersion;
+import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
+import org.opensearch.jobscheduler.spi.schedule.Schedule;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class RecoveringJobsTests extends OpenSearchTestCase {
+    private final ShardId shardId = new ShardId("index-name", "index-uuid", 0);
+
+    public void testPollDueSoonestFirst() {
+        RecoveringJobs recoveringJobs = new RecoveringJobs();
+        this.put(recoveringJobs, "job-late", Instant.ofEpochMilli(3000L), 1L, 1L);
+        this.put(recoveringJobs, "job-ended", null, 2L, 1L);
+        this.put(recoveringJobs, "job-soon", Instant.ofEpochMilli(1000L), 3L, 1L);
+        this.put(recoveringJobs, "job-next", Instant.ofEpochMilli(2000L), 4L, 1L);
+
+        Assert.assertEquals(List.of("job-soon", "job-next"), docIds(recoveringJobs.pollDue(this.shardId, 2500L)));
+        Assert.assertEquals(2, recoveringJobs.size());
+        Assert.assertEquals(List.of("job-late", "job-ended"), docIds(recoveringJobs.pollAll(this.shardId)));
+        Assert.assertEquals(0, recoveringJobs.size());
+        Assert.assertTrue(recoveringJobs.pollAll(new ShardId("other-index", "index-uuid", 0)).isEmpty());
+    }
+
+    public void testReplacedAndRemovedJobsAreSkipped() {
+        RecoveringJobs recoveringJobs = new RecoveringJobs();
+        this.put(recoveringJobs, "job-1", Instant.ofEpochMilli(1000L), 1L, 1L);
+        // a newer version due later replaces the job, an older one is ignored
+        this.put(recoveringJobs, "job-1", Instant.ofEpochMilli(5000L), 3L, 2L);
+        this.put(recoveringJobs, "job-1", Instant.ofEpochMilli(500L), 2L, 1L);
+        this.put(recoveringJobs, "job-2", Instant.ofEpochMilli(2000L), 4L, 1L);
+        Assert.assertEquals(2, recoveringJobs.size());
+
+        // a delete older than the job is ignored
+        recoveringJobs.remove(this.shardId, "job-2", 3L);
+        recoveringJobs.remove(this.shardId, "job-2", 5L);
+        Assert.assertTrue(recoveringJobs.pollDue(this.shardId, 3000L).isEmpty());
+
+        List<StandbyJobs.StandbyJob> remaining = recoveringJobs.pollAll(this.shardId);
+        Assert.assertEquals(List.of("job-1"), docIds(remaining));
+        Assert.assertEquals(new JobDocVersion(1L, 3L, 2L), remaining.get(0).jobDocVersion);
+
+        this.put(recoveringJobs, "job-3", null, 6L, 1L);
+        recoveringJobs.removeShards(shardId -> shardId.getIndexName().equals("index-name"));
+        Assert.assertEquals(0, recoveringJobs.size());
+    }
+
+    private void put(RecoveringJobs recoveringJobs, String docId, Instant nextExecutionTime, long seqNo, long version) {
+        recoveringJobs.put(this.shardId, docId, jobParameter(nextExecutionTime), new JobDocVersion(1L, seqNo, version), Instant.EPOCH);
+    }
+
+    private static List<String> docIds(List<StandbyJobs.StandbyJob> jobs) {
+        return jobs.stream().map(job -> job.docId).collect(Collectors.toList());
+    }
+
+    private static ScheduledJobParameter jobParameter(Instant nextExecutionTime) {
+        Schedule schedule = Mockito.mock(Schedule.class);
+        Mockito.when(schedule.getNextExecutionTime(Mockito.any())).thenReturn(nextExecutionTime);
+        ScheduledJobParameter jobParameter = Mockito.mock(ScheduledJobParameter.class);
+        Mockito.when(jobParameter.getSchedule()).thenReturn(schedule);
+        return jobParameter;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.sweeper;
+
+import org.junit.Assert;
+import org.opensearch.cluster.routing.Murmur3HashFunction;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ShardNodesTests extends OpenSearchTestCase {
+
+    public void testOwnershipMatchesTreeMapRing() {
+        for (int round = 0; round < 20; round++) {
+            List<String> nodeIds = new ArrayList<>();
+            int nodeCount = randomIntBetween(1, 6);
+            for (int i = 0; i < nodeCount; i++) {
+                nodeIds.add(randomAlphaOfLength(22));
+            }
+            TreeMap<Integer, String> circle = new TreeMap<>();
+            for (String nodeId : nodeIds) {
+                for (int i = 0; i < ShardNodes.VIRTUAL_NODE_COUNT; i++) {
+                    circle.put(Murmur3HashFunction.hash(nodeId + i), nodeId);
+                }
+            }
+            ShardNodes shardNodes = new ShardNodes(nodeIds.get(0), nodeIds);
+            for (int i = 0; i < 1000; i++) {
+                String jobId = randomAlphaOfLength(20);
+                Map.Entry<Integer, String> entry = circle.higherEntry(Murmur3HashFunction.hash(jobId));
+                String expected = entry == null ? circle.firstEntry().getValue() : entry.getValue();
+                Assert.assertEquals(expected, shardNodes.owningNode(jobId));
+                Assert.assertEquals(expected.equals(nodeIds.get(0)), shardNodes.isOwningNode(jobId));
+            }
+        }
+    }
+
+    public void testWeightedOwnership() {
+        List<String> nodeIds = List.of("node-1", "node-2", "node-3");
+        ShardNodes equal = new ShardNodes("node-1", nodeIds);
+        ShardNodes weighted = new ShardNodes("node-1", nodeIds, nodeId -> nodeId.equals("node-1") ? 3.0 : 1.0);
+        Assert.assertEquals(Map.of("node-1", 300, "node-2", 100, "node-3", 100), weighted.layout);
+
+        int jobCount = 20000;
+        int owned = 0;
+        for (int i = 0; i < jobCount; i++) {
+            String jobId = "job-" + i;
+            String owner = weighted.owningNode(jobId);
+            if (owner.equals("node-1")) {
+                owned++;
+            } else {
+                // raising the weight of node-1 only moves jobs to node-1
+                Assert.assertEquals(equal.owningNode(jobId), owner);
+            }
+        }
+        // node-1 owns about 3/5 of the jobs
+        Assert.assertTrue("owned " + owned, owned > jobCount * 0.45 && owned < jobCount * 0.75);
+    }
+
+    public void testStandbyOwnership() {
+        List<String> nodeIds = List.of("node-1", "node-2", "node-3", "node-4");
+        for (int i = 0; i < 2000; i++) {
+            String jobId = "job-" + i;
+            String owner = new ShardNodes("node-1", nodeIds).owningNode(jobId);
+            List<String> remaining = new ArrayList<>(nodeIds);
+            remaining.remove(owner);
+            String expectedStandby = new ShardNodes(owner, remaining).owningNode(jobId);
+            int standbyNodes = 0;
+            for (String nodeId : nodeIds) {
+                ShardNodes shardNodes = new ShardNodes(nodeId, nodeIds, id -> id.equals("node-2") ? 2.0 : 1.0);
+                if (shardNodes.isStandbyNode(jobId)) {
+                    standbyNodes++;
+                    Assert.assertNotEquals(shardNodes.owningNode(jobId), nodeId);
+                    // the standby node owns the job once its owner is gone
+                    Assert.assertTrue(shardNodes.without(shardNodes.owningNode(jobId)).isOwningNode(jobId));
+                }
+            }
+            // every job has exactly one standby node
+            Assert.assertEquals(1, standbyNodes);
+            Assert.assertNotEquals(owner, expectedStandby);
+        }
+        Assert.assertFalse(new ShardNodes("node-1", List.of("node-1")).isStandbyNode("job-id"));
+    }
+
+    public void testVirtualNodeCount() {
+        Assert.assertEquals(ShardNodes.VIRTUAL_NODE_COUNT, ShardNodes.virtualNodeCount(1.0));
+        Assert.assertEquals(ShardNodes.VIRTUAL_NODE_COUNT, ShardNodes.virtualNodeCount(Double.NaN));
+        Assert.assertEquals(1, ShardNodes.virtualNodeCount(0.0));
+        Assert.assertEquals(1, ShardNodes.virtualNodeCount(-2.0));
+        Assert.assertEquals(250, ShardNodes.virtualNodeCount(2.5));
+        Assert.assertEquals((int) (ShardNodes.MAX_WEIGHT * ShardNodes.VIRTUAL_NODE_COUNT), ShardNodes.virtualNodeCount(1000.0));
+    }
+
+    public void testNoActiveCopies() {
+        ShardNodes shardNodes = new ShardNodes("node-1", List.of());
+        Assert.assertNull(shardNodes.owningNode("job-id"));
+        Assert.assertFalse(shardNodes.isOwningNode("job-id"));
+    }
+}
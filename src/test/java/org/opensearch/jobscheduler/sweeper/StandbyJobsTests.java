@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.sweeper;
+
+import org.junit.Assert;
+import org.mockito.Mockito;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.jobscheduler.spi.JobDocVersion;
+import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
+import org.opensearch.jobscheduler.spi.schedule.Schedule;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class StandbyJobsTests extends OpenSearchTestCase {
+    private final ShardId shardId = new ShardId("index-name", "index-uuid", 0);
+
+    public void testKeepsNewestVersion() {
+        StandbyJobs standbyJobs = new StandbyJobs();
+        ScheduledJobParameter v2 = jobParameter(Instant.ofEpochMilli(1000L));
+        standbyJobs.put(this.shardId, "job-1", v2, new JobDocVersion(1L, 2L, 2L));
+        standbyJobs.put(this.shardId, "job-1", jobParameter(Instant.ofEpochMilli(2000L)), new JobDocVersion(1L, 1L, 1L));
+        Assert.assertEquals(new JobDocVersion(1L, 2L, 2L), standbyJobs.getVersion(this.shardId, "job-1"));
+        Assert.assertNull(standbyJobs.getVersion(this.shardId, "job-2"));
+
+        // a newer version that is no scheduled job drops the standby job
+        standbyJobs.put(this.shardId, "job-1", null, new JobDocVersion(1L, 3L, 3L));
+        Assert.assertNull(standbyJobs.getVersion(this.shardId, "job-1"));
+        Assert.assertEquals(0, standbyJobs.size());
+    }
+
+    public void testRemove() {
+        StandbyJobs standbyJobs = new StandbyJobs();
+        standbyJobs.put(this.shardId, "job-1", jobParameter(null), new JobDocVersion(1L, 5L, 2L));
+        // a delete older than the standby version is ignored
+        standbyJobs.remove(this.shardId, "job-1", 4L);
+        Assert.assertEquals(1, standbyJobs.size());
+        standbyJobs.remove(this.shardId, "job-1", 6L);
+        Assert.assertEquals(0, standbyJobs.size());
+
+        standbyJobs.put(this.shardId, "job-1", jobParameter(null), new JobDocVersion(1L, 7L, 3L));
+        standbyJobs.put(this.shardId, "job-2", jobParameter(null), new JobDocVersion(1L, 8L, 1L));
+        standbyJobs.retain(this.shardId, docId -> docId.equals("job-2"));
+        Assert.assertNull(standbyJobs.getVersion(this.shardId, "job-1"));
+        standbyJobs.removeShards(shardId -> shardId.getIndexName().equals("index-name"));
+        Assert.assertEquals(0, standbyJobs.size());
+    }
+
+    public void testPromoteSoonestDueFirst() {
+        StandbyJobs standbyJobs = new StandbyJobs();
+        standbyJobs.put(this.shardId, "job-late", jobParameter(Instant.ofEpochMilli(3000L)), new JobDocVersion(1L, 1L, 1L));
+        standbyJobs.put(this.shardId, "job-ended", jobParameter(null), new JobDocVersion(1L, 2L, 1L));
+        standbyJobs.put(this.shardId, "job-soon", jobParameter(Instant.ofEpochMilli(1000L)), new JobDocVersion(1L, 3L, 1L));
+        standbyJobs.put(this.shardId, "job-other", jobParameter(Instant.ofEpochMilli(2000L)), new JobDocVersion(1L, 4L, 1L));
+
+        List<StandbyJobs.StandbyJob> promoted = standbyJobs.promote(this.shardId, docId -> !docId.equals("job-other"), Instant.EPOCH);
+        Assert.assertEquals(
+            List.of("job-soon", "job-late", "job-ended"),
+            promoted.stream().map(job -> job.docId).collect(Collectors.toList())
+        );
+        // jobs still owned by another copy stay on standby
+        Assert.assertEquals(1, standbyJobs.size());
+        Assert.assertTrue(standbyJobs.promote(new ShardId("other-index", "index-uuid", 0), docId -> true, Instant.EPOCH).isEmpty());
+    }
+
+    public void testPromoteOrdersByTimesAtPromotion() {
+        StandbyJobs standbyJobs = new StandbyJobs();
+        Instant putTime = Instant.ofEpochMilli(10_000L);
+        Instant promoteTime = putTime.plusSeconds(3600);
+        // job-1 was due first when it was put on standby, it fired since and is due after job-2 now
+        ScheduledJobParameter job1 = jobParameter(putTime.plusSeconds(60));
+        Mockito.when(job1.getSchedule().getNextExecutionTime(promoteTime)).thenReturn(promoteTime.plusSeconds(600));
+        ScheduledJobParameter job2 = jobParameter(putTime.plusSeconds(120));
+        Mockito.when(job2.getSchedule().getNextExecutionTime(promoteTime)).thenReturn(promoteTime.plusSeconds(30));
+        standbyJobs.put(this.shardId, "job-1", job1, new JobDocVersion(1L, 1L, 1L));
+        standbyJobs.put(this.shardId, "job-2", job2, new JobDocVersion(1L, 2L, 1L));
+
+        List<StandbyJobs.StandbyJob> promoted = standbyJobs.promote(this.shardId, docId -> true, promoteTime);
+        Assert.assertEquals(List.of("job-2", "job-1"), promoted.stream().map(job -> job.docId).collect(Collectors.toList()));
+    }
+
+    private static ScheduledJobParameter jobParameter(Instant nextExecutionTime) {
+        Schedule schedule = Mockito.mock(Schedule.class);
+        Mockito.when(schedule.getNextExecutionTime(Mockito.any())).thenReturn(nextExecutionTime);
+        ScheduledJobParameter jobParameter = Mockito.mock(ScheduledJobParameter.class);
+        Mockito.when(jobParameter.getSchedule()).thenReturn(schedule);
+        return jobParameter;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.jobscheduler.sweeper;
+
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SweepWorkerPoolTests extends OpenSearchTestCase {
+
+    public void testRoundRobinAcrossIndices() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SweepWorkerPool pool = new SweepWorkerPool(executor, 1);
+            List<String> swept = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            pool.submit("index-a", () -> {
+                started.countDown();
+                awaitQuietly(release);
+                swept.add("a-0");
+            });
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+            pool.submit("index-a", () -> swept.add("a-1"));
+            pool.submit("index-a", () -> swept.add("a-2"));
+            pool.submit("index-b", () -> swept.add("b-0"));
+            Assert.assertEquals(3, pool.getStats().get("queued_shard_sweeps"));
+
+            release.countDown();
+            assertBusy(() -> Assert.assertEquals(4, swept.size()));
+            // the shard of index-b does not wait behind every shard of index-a
+            Assert.assertEquals(List.of("a-0", "a-1", "b-0", "a-2"), swept);
+            assertBusy(() -> Assert.assertEquals(0, pool.getStats().get("active_workers")));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testConcurrencyIsBounded() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            SweepWorkerPool pool = new SweepWorkerPool(executor, 2);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(10);
+            for (int i = 0; i < 10; i++) {
+                pool.submit("index-" + (i % 3), () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    done.countDown();
+                });
+            }
+            Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+            Assert.assertTrue(maxRunning.get() <= 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testFailedSweepDoesNotStopWorker() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SweepWorkerPool pool = new SweepWorkerPool(executor, 1);
+            CountDownLatch done = new CountDownLatch(1);
+            pool.submit("index", () -> { throw new IllegalStateException("failure"); });
+            pool.submit("index", done::countDown);
+            Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testRejectsAfterShutdown() {
+        SweepWorkerPool pool = new SweepWorkerPool(Executors.newSingleThreadExecutor(), 1);
+        pool.shutdown();
+        expectThrows(RejectedExecutionException.class, () -> pool.submit("index", () -> {}));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}